@@ -0,0 +1,75 @@
+#!/usr/bin/env sh
+# ===========================================
+# Startup benchmark: time from JVM launch to the first successful request (GET /login)
+# Compares a plain launch, Spring AOT, and Spring AOT + CDS archive.
+#
+# Prerequisite: ./mvnw -Pcds package -DskipTests
+# Usage:        scripts/startup-benchmark.sh [runs]   (default 5 runs per mode)
+# ===========================================
+set -eu
+
+cd "$(dirname "$0")/.."
+
+RUNS="${1:-5}"
+PORT="${PORT:-18080}"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+JAR="$(ls target/cds/*-cds.jar 2>/dev/null | head -n 1)"
+ARCHIVE="target/cds/application.jsa"
+
+if [ -z "$JAR" ] || [ ! -f "$ARCHIVE" ]; then
+    echo "CDS build not found - run: ./mvnw -Pcds package -DskipTests" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Launch the application with the given JVM options and print milliseconds until /login answers 200
+measure() {
+    start=$(now_ms)
+    # shellcheck disable=SC2086
+    "$JAVA" $1 -jar "$JAR" \
+        --server.port="$PORT" \
+        --spring.datasource.url=jdbc:h2:mem:startup \
+        --logging.level.root=WARN > /dev/null 2>&1 &
+    pid=$!
+    while :; do
+        status=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/login" || true)
+        if [ "$status" = "200" ]; then
+            break
+        fi
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "application exited before serving a request" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    end=$(now_ms)
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo $((end - start))
+}
+
+# Median of the numbers on stdin
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_mode() {
+    name="$1"
+    options="$2"
+    results=""
+    i=1
+    while [ "$i" -le "$RUNS" ]; do
+        results="$results$(measure "$options")
+"
+        i=$((i + 1))
+    done
+    printf '%-12s %8s ms   (runs: %s)\n' "$name" "$(printf '%s' "$results" | median)" "$(printf '%s' "$results" | tr '\n' ' ')"
+}
+
+echo "Time to first successful request (median of $RUNS runs)"
+run_mode "plain"   ""
+run_mode "aot"     "-Dspring.aot.enabled=true"
+run_mode "aot+cds" "-Dspring.aot.enabled=true -XX:SharedArchiveFile=$ARCHIVE -Xlog:cds=off"
@@ -0,0 +1,50 @@
+package com.example.studentManagementSystem.benchmark;
+
+import com.example.studentManagementSystem.StudentManagementSystemApplication;
+import com.example.studentManagementSystem.config.DatasetGenerator;
+import com.example.studentManagementSystem.config.DatasetProperties;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Boots the application (without the web server) against a private in-memory
+ * H2 database and seeds it through DatasetGenerator.
+ */
+public final class BenchmarkApplication {
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * Start a context backed by a fresh in-memory database
+     */
+    public static ConfigurableApplicationContext start() {
+        String url = "jdbc:h2:mem:benchmark" + DATABASE_SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1";
+        return new SpringApplicationBuilder(StudentManagementSystemApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.jpa.open-in-view=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    /**
+     * Seed {@code students} students, students/10 courses and teachers,
+     * students/100 departments; every student is enrolled in 3 courses.
+     */
+    public static void seed(ConfigurableApplicationContext context, int students) {
+        DatasetProperties properties = new DatasetProperties();
+        properties.setDepartments(Math.max(1, students / 100));
+        properties.setTeachersPerDepartment(10);
+        properties.setCoursesPerTeacher(1);
+        properties.setStudents(students);
+        properties.setEnrollmentsPerStudent(3);
+        context.getBean(DatasetGenerator.class).generate(properties);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.studentManagementSystem.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of a single login password check with the configured PasswordEncoder
+ * (BCrypt at app.security.bcrypt-strength)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String PASSWORD = "student123";
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        try (ConfigurableApplicationContext context = BenchmarkApplication.start()) {
+            passwordEncoder = context.getBean(PasswordEncoder.class);
+        }
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
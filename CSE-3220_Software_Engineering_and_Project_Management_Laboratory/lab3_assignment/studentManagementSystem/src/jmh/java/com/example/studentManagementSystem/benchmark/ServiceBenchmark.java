@@ -0,0 +1,62 @@
+package com.example.studentManagementSystem.benchmark;
+
+import com.example.studentManagementSystem.dto.CourseDTO;
+import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.dto.StudentDTO;
+import com.example.studentManagementSystem.service.CourseService;
+import com.example.studentManagementSystem.service.DepartmentService;
+import com.example.studentManagementSystem.service.StudentService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service list operations against seeded H2 datasets (1k / 10k / 100k students)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private StudentService studentService;
+    private CourseService courseService;
+    private DepartmentService departmentService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seed(context, rows);
+        studentService = context.getBean(StudentService.class);
+        courseService = context.getBean(CourseService.class);
+        departmentService = context.getBean(DepartmentService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<StudentDTO> getAllStudents() {
+        return studentService.getAllStudents();
+    }
+
+    @Benchmark
+    public List<CourseDTO> getAllCourses() {
+        return courseService.getAllCourses();
+    }
+
+    @Benchmark
+    public List<DepartmentDTO> getAllDepartments() {
+        return departmentService.getAllDepartments();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.studentManagementSystem.service;
+
+import com.example.studentManagementSystem.dto.CourseDTO;
+import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.dto.StudentDTO;
+import com.example.studentManagementSystem.dto.TeacherDTO;
+import com.example.studentManagementSystem.entity.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * convertToDTO mappers on their own, against fully initialized in-memory entities
+ * (no database, no Hibernate proxies)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private StudentService studentService;
+    private CourseService courseService;
+    private DepartmentService departmentService;
+    private TeacherService teacherService;
+
+    private Student student;
+    private Course course;
+    private Department department;
+    private Teacher teacher;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        studentService = new StudentService(null, null, null, null, null, null, null, null, null, null, null);
+        courseService = new CourseService(null, null, null, null, null, null);
+        departmentService = new DepartmentService(null, null, null, null, null, null, null);
+        teacherService = new TeacherService(null, null, null, null, null, null, null, null, null, null, null);
+
+        department = new Department("Computer Science and Engineering", "CSE", "Department of CSE");
+        department.setId(1L);
+
+        teacher = new Teacher("John", "Smith", "john.smith@university.edu", "123-456-7890", "PhD", "Professor");
+        teacher.setId(1L);
+        teacher.setDepartment(department);
+        department.getTeachers().add(teacher);
+
+        course = new Course("CSE101", "Introduction to Programming", "Basic programming concepts", 3);
+        course.setId(1L);
+        course.setTeacher(teacher);
+
+        for (int i = 0; i < 40; i++) {
+            Student s = new Student("2024-" + i, "Student", "No" + i, "s" + i + "@student.edu", "555", "Address", 3);
+            s.setId((long) i);
+            s.setDepartment(department);
+            s.enrollInCourse(course);
+            department.getStudents().add(s);
+        }
+        student = department.getStudents().get(0);
+    }
+
+    @Benchmark
+    public StudentDTO studentToDTO() {
+        return studentService.convertToDTO(student);
+    }
+
+    @Benchmark
+    public CourseDTO courseToDTO() {
+        return courseService.convertToDTO(course);
+    }
+
+    @Benchmark
+    public DepartmentDTO departmentToDTO() {
+        return departmentService.convertToDTO(department);
+    }
+
+    @Benchmark
+    public TeacherDTO teacherToDTO() {
+        return teacherService.convertToDTO(teacher);
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.studentManagementSystem.loadtest;
+
+import com.example.studentManagementSystem.StudentManagementSystemApplication;
+import com.example.studentManagementSystem.config.DatasetGenerator;
+import com.example.studentManagementSystem.config.DatasetGenerator.GeneratedDataset;
+import com.example.studentManagementSystem.config.DatasetProperties;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registration-day load test.
+ * Boots the application on a random port against an in-memory database seeded by
+ * DatasetGenerator (default app.dataset.* shape, loadtest.students students),
+ * logs every simulated student in through the /login form and replays a mix of
+ * dashboard, my-courses, enroll and drop requests on virtual threads.
+ * Prints throughput, p50/p99 latency and error rate per route and writes them
+ * as CSV to loadtest.result.
+ *
+ * Settings (system properties):
+ *   loadtest.students    simulated students (default 2000)
+ *   loadtest.requests    requests per student after login (default 20)
+ *   loadtest.think-ms    pause between a student's requests (default 0)
+ *   loadtest.seed        random seed for the request mix (default 42)
+ *   loadtest.result      CSV output (default target/loadtest-result.csv)
+ */
+public class RegistrationDayLoadTest {
+
+    private static final String SESSION_COOKIE = "SESSION";
+    private static final String PASSWORD = new DatasetProperties().getStudentPassword();
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final GeneratedDataset dataset;
+    private final int requestsPerStudent;
+    private final long thinkMillis;
+    private final long seed;
+    private final Map<String, RouteStats> stats = new LinkedHashMap<>();
+
+    public RegistrationDayLoadTest(String baseUrl, GeneratedDataset dataset, int requestsPerStudent,
+                                   long thinkMillis, long seed) {
+        this.baseUrl = baseUrl;
+        this.dataset = dataset;
+        this.requestsPerStudent = requestsPerStudent;
+        this.thinkMillis = thinkMillis;
+        this.seed = seed;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        for (String route : List.of("POST /login", "GET /dashboard", "GET /students/my-courses",
+                "POST /students/enroll/{id}", "POST /students/drop/{id}")) {
+            stats.put(route, new RouteStats(route));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int students = Integer.getInteger("loadtest.students", 2000);
+        int requests = Integer.getInteger("loadtest.requests", 20);
+        long thinkMillis = Long.getLong("loadtest.think-ms", 0L);
+        long seed = Long.getLong("loadtest.seed", 42L);
+        Path result = Path.of(System.getProperty("loadtest.result", "target/loadtest-result.csv"));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StudentManagementSystemApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run(args)) {
+            DatasetProperties properties = new DatasetProperties();
+            properties.setStudents(students);
+            properties.setSeed(seed);
+            GeneratedDataset dataset = context.getBean(DatasetGenerator.class).generate(properties);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            RegistrationDayLoadTest loadTest = new RegistrationDayLoadTest(
+                    "http://localhost:" + port, dataset, requests, thinkMillis, seed);
+            long elapsedNanos = loadTest.run();
+            loadTest.report(elapsedNanos, result);
+        }
+    }
+
+    /**
+     * Run every simulated student on its own virtual thread; returns the wall time in nanoseconds
+     */
+    public long run() throws InterruptedException {
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < dataset.students(); i++) {
+                int student = i;
+                executor.submit(() -> simulateStudent(student));
+            }
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.HOURS);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void simulateStudent(int student) {
+        SplittableRandom random = new SplittableRandom(seed + student);
+        String session = login(student);
+        if (session == null) {
+            return;
+        }
+        for (int i = 0; i < requestsPerStudent; i++) {
+            int roll = random.nextInt(100);
+            if (roll < 40) {
+                get("GET /dashboard", "/dashboard", session);
+            } else if (roll < 70) {
+                get("GET /students/my-courses", "/students/my-courses", session);
+            } else if (roll < 85) {
+                long courseId = dataset.firstCourseId() + random.nextInt(dataset.courses());
+                post("POST /students/enroll/{id}", "/students/enroll/" + courseId, session);
+            } else {
+                long courseId = dataset.firstCourseId() + random.nextInt(dataset.courses());
+                post("POST /students/drop/{id}", "/students/drop/" + courseId, session);
+            }
+            if (thinkMillis > 0) {
+                try {
+                    Thread.sleep(thinkMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Submit the login form; returns the authenticated session cookie or null on failure
+     */
+    private String login(int student) {
+        String form = "username=" + URLEncoder.encode(DatasetGenerator.studentUsername(student), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(PASSWORD, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        HttpResponse<Void> response = send("POST /login", request);
+        if (response == null) {
+            return null;
+        }
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || !location.endsWith("/dashboard")) {
+            return null;
+        }
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(cookie -> cookie.startsWith(SESSION_COOKIE + "="))
+                .map(cookie -> cookie.substring(0, cookie.indexOf(';') < 0 ? cookie.length() : cookie.indexOf(';')))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void get(String route, String path, String session) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Cookie", session)
+                .GET()
+                .build();
+        send(route, request);
+    }
+
+    private void post(String route, String path, String session) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Cookie", session)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        send(route, request);
+    }
+
+    /**
+     * Send a request and record its latency; 4xx/5xx, redirects to /login and I/O errors count as failures
+     */
+    private HttpResponse<Void> send(String route, HttpRequest request) {
+        long start = System.nanoTime();
+        HttpResponse<Void> response = null;
+        boolean success;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            String location = response.headers().firstValue("Location").orElse("");
+            success = response.statusCode() < 400
+                    && (route.equals("POST /login") ? !location.contains("error") : !location.contains("/login"));
+        } catch (IOException e) {
+            success = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            success = false;
+        }
+        stats.get(route).record(System.nanoTime() - start, success);
+        return response;
+    }
+
+    /**
+     * Print the per-route summary and write it as CSV
+     */
+    public void report(long elapsedNanos, Path result) throws IOException {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        List<String> csv = new ArrayList<>();
+        csv.add("route,requests,throughput_per_sec,p50_ms,p99_ms,errors,error_rate");
+
+        System.out.println("===========================================");
+        System.out.printf("Registration-day load test: %d students, %.1f s%n", dataset.students(), seconds);
+        System.out.println("===========================================");
+        System.out.printf("%-28s %9s %10s %9s %9s %8s%n", "Route", "Requests", "Req/s", "p50 ms", "p99 ms", "Errors");
+        for (RouteStats route : stats.values()) {
+            double throughput = route.getCount() / seconds;
+            double p50 = route.percentileMillis(50);
+            double p99 = route.percentileMillis(99);
+            System.out.printf("%-28s %9d %10.1f %9.1f %9.1f %7.2f%%%n", route.getRoute(), route.getCount(),
+                    throughput, p50, p99, route.getErrorRate() * 100);
+            csv.add(String.format("%s,%d,%.2f,%.3f,%.3f,%d,%.4f", route.getRoute(), route.getCount(),
+                    throughput, p50, p99, route.getErrors(), route.getErrorRate()));
+        }
+        System.out.println("===========================================");
+
+        if (result.getParent() != null) {
+            Files.createDirectories(result.getParent());
+        }
+        Files.write(result, csv);
+        System.out.println("Results written to " + result.toAbsolutePath());
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.studentManagementSystem.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency samples and error count for one route
+ */
+public class RouteStats {
+
+    private final String route;
+    private long[] latencies = new long[1024];
+    private int count;
+    private final AtomicLong errors = new AtomicLong();
+
+    public RouteStats(String route) {
+        this.route = route;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    /**
+     * Record one request (latency in nanoseconds)
+     */
+    public void record(long latencyNanos, boolean success) {
+        synchronized (this) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+        }
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public double getErrorRate() {
+        int total = getCount();
+        return total == 0 ? 0 : (double) getErrors() / total;
+    }
+
+    /**
+     * Latency percentile in milliseconds (nearest-rank)
+     */
+    public synchronized double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * count);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+}
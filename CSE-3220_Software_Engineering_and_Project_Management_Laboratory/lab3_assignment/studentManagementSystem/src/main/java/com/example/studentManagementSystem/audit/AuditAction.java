@@ -0,0 +1,30 @@
+package com.example.studentManagementSystem.audit;
+
+/**
+ * What an audited change did to the entity; the code is what the log file stores
+ */
+public enum AuditAction {
+
+    CREATE('c'),
+    UPDATE('u'),
+    DELETE('d');
+
+    private final char code;
+
+    AuditAction(char code) {
+        this.code = code;
+    }
+
+    public char code() {
+        return code;
+    }
+
+    public static AuditAction ofCode(char code) {
+        for (AuditAction action : values()) {
+            if (action.code == code) {
+                return action;
+            }
+        }
+        throw new IllegalArgumentException("Unknown audit action: " + code);
+    }
+}
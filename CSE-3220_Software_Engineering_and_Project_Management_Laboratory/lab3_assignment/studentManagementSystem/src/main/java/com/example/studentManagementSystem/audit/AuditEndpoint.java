@@ -0,0 +1,74 @@
+package com.example.studentManagementSystem.audit;
+
+import com.example.studentManagementSystem.versioning.EntityType;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for the audit log (/actuator/audit/{entity}/{id}, ROLE_TEACHER)
+ *
+ * GET    changes of one student, teacher, course or department, oldest first;
+ *        from and to (ISO-8601 instants) narrow the time range, limit caps the result (default 100)
+ */
+@Component
+@Endpoint(id = "audit")
+public class AuditEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final AuditLogWriter writer;
+    private final AuditLogReader reader;
+
+    public AuditEndpoint(AuditLogWriter writer) {
+        this.writer = writer;
+        this.reader = new AuditLogReader(writer.getProperties().getDirectory());
+    }
+
+    @ReadOperation
+    public Map<String, Object> changes(@Selector String entity, @Selector long id, @Nullable String from,
+                                       @Nullable String to, @Nullable Integer limit) throws IOException {
+        EntityType type;
+        Instant start;
+        Instant end;
+        try {
+            type = EntityType.ofTag(entity);
+            start = from == null ? Instant.EPOCH : Instant.parse(from);
+            end = to == null ? Instant.now() : Instant.parse(to);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidEndpointRequestException(e.getMessage(), e.getMessage());
+        }
+        int max = limit == null || limit <= 0 ? DEFAULT_LIMIT : limit;
+        List<AuditRecord> records = writer.getProperties().isEnabled()
+                ? reader.query(type, id, start, end, max)
+                : List.of();
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", writer.getProperties().isEnabled());
+        body.put("entity", type.tag());
+        body.put("id", id);
+        body.put("from", start);
+        body.put("to", end);
+        body.put("changes", records.stream().map(AuditEndpoint::toMap).toList());
+        return body;
+    }
+
+    private static Map<String, Object> toMap(AuditRecord record) {
+        Map<String, Object> change = new LinkedHashMap<>();
+        change.put("timestamp", record.timestamp());
+        change.put("actor", record.actor());
+        change.put("action", record.action());
+        change.put("fields", record.changes());
+        return change;
+    }
+}
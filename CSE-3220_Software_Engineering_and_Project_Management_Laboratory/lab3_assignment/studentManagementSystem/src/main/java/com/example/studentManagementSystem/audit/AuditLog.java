@@ -0,0 +1,106 @@
+package com.example.studentManagementSystem.audit;
+
+import com.example.studentManagementSystem.versioning.EntityType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Audit trail of administrative changes, recorded by the services.
+ *
+ * The services pass the entity's DTO before and/or after the change; the fields that differ
+ * are recorded with the signed-in user. The record is queued for the {@link AuditLogWriter}
+ * after the transaction commits, so rolled-back changes are not audited and the request
+ * thread never waits for the file. Passwords and derived counts are not recorded.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditLog {
+
+    private static final Set<String> IGNORED_FIELDS =
+            Set.of("id", "password", "enrolledStudentCount", "studentCount", "teacherCount");
+    private static final TypeReference<Map<String, Object>> FIELDS = new TypeReference<>() {
+    };
+
+    private final AuditLogWriter writer;
+    private final ObjectMapper objectMapper;
+
+    public void created(EntityType type, Long id, Object after) {
+        record(type, id, AuditAction.CREATE, null, after);
+    }
+
+    public void updated(EntityType type, Long id, Object before, Object after) {
+        record(type, id, AuditAction.UPDATE, before, after);
+    }
+
+    public void deleted(EntityType type, Long id, Object before) {
+        record(type, id, AuditAction.DELETE, before, null);
+    }
+
+    private void record(EntityType type, Long id, AuditAction action, Object before, Object after) {
+        if (!writer.getProperties().isEnabled()) {
+            return;
+        }
+        List<FieldChange> changes = diff(fields(before), fields(after));
+        if (action == AuditAction.UPDATE && changes.isEmpty()) {
+            return;
+        }
+        String actor = currentActor();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    writer.enqueue(new AuditRecord(Instant.now(), actor, type, id, action, changes));
+                }
+            });
+        } else {
+            writer.enqueue(new AuditRecord(Instant.now(), actor, type, id, action, changes));
+        }
+    }
+
+    private Map<String, Object> fields(Object dto) {
+        return dto == null ? Map.of() : objectMapper.convertValue(dto, FIELDS);
+    }
+
+    private List<FieldChange> diff(Map<String, Object> before, Map<String, Object> after) {
+        Set<String> names = new LinkedHashSet<>(before.keySet());
+        names.addAll(after.keySet());
+        names.removeAll(IGNORED_FIELDS);
+        List<FieldChange> changes = new ArrayList<>();
+        for (String name : names) {
+            String oldValue = value(before.get(name));
+            String newValue = value(after.get(name));
+            if (!Objects.equals(oldValue, newValue)) {
+                changes.add(new FieldChange(name, oldValue, newValue));
+            }
+        }
+        return List.copyOf(changes);
+    }
+
+    private String value(Object value) {
+        if (value == null) {
+            return null;
+        }
+        String text = value.toString();
+        int max = writer.getProperties().getMaxValueLength();
+        return text.length() > max ? text.substring(0, max) : text;
+    }
+
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "system" : authentication.getName();
+    }
+}
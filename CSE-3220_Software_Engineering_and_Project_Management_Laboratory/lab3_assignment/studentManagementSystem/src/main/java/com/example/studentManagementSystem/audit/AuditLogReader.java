@@ -0,0 +1,158 @@
+package com.example.studentManagementSystem.audit;
+
+import com.example.studentManagementSystem.versioning.EntityType;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+/**
+ * Finds the audited changes of one entity in a time range.
+ *
+ * Sealed segments are skipped when their time range does not overlap the query, and the
+ * matching records are located through the segment index and read directly at their offsets
+ * (from the .log, or by skipping through the gzip stream once compressed). The open segment
+ * has no index yet and is scanned. Reads only the files, so it also runs offline via {@link #main}.
+ */
+public class AuditLogReader {
+
+    private final Path directory;
+
+    public AuditLogReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Changes of the entity in [from, to], oldest first, at most limit
+     */
+    public List<AuditRecord> query(EntityType type, long entityId, Instant from, Instant to, int limit)
+            throws IOException {
+        Query query = new Query(type, entityId, from.toEpochMilli(), to.toEpochMilli());
+        List<AuditRecord> records = new ArrayList<>();
+        for (long number : AuditSegment.numbers(directory)) {
+            read(number, query, records);
+            if (records.size() >= limit) {
+                return List.copyOf(records.subList(0, limit));
+            }
+        }
+        return records;
+    }
+
+    private void read(long number, Query query, List<AuditRecord> records) throws IOException {
+        Path indexFile = AuditSegment.indexFile(directory, number);
+        if (!Files.exists(indexFile)) {
+            try {
+                scan(AuditSegment.logFile(directory, number), query, records);
+                return;
+            } catch (NoSuchFileException e) {
+                // sealed and compressed while we looked
+                if (!Files.exists(indexFile)) {
+                    return;
+                }
+            }
+        }
+        AuditSegmentIndex index = AuditSegmentIndex.open(indexFile);
+        if (!index.overlaps(query.from(), query.to())) {
+            return;
+        }
+        int[] offsets = index.offsets(query.type().tag().hashCode(), query.entityId(), query.from(), query.to());
+        if (offsets.length == 0) {
+            return;
+        }
+        try {
+            readMapped(AuditSegment.logFile(directory, number), offsets, query, records);
+        } catch (NoSuchFileException e) {
+            readCompressed(AuditSegment.compressedFile(directory, number), offsets, query, records);
+        }
+    }
+
+    private static void scan(Path segment, Query query, List<AuditRecord> records) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            AuditSegment.scan(buffer, (offset, payload) -> query.collect(AuditRecord.decode(payload), records));
+        }
+    }
+
+    private static void readMapped(Path segment, int[] offsets, Query query, List<AuditRecord> records)
+            throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            for (int offset : offsets) {
+                byte[] payload = new byte[buffer.getInt(offset)];
+                buffer.get(offset + AuditSegment.FRAME_HEADER, payload);
+                query.collect(AuditRecord.decode(payload), records);
+            }
+        }
+    }
+
+    private static void readCompressed(Path segment, int[] offsets, Query query, List<AuditRecord> records)
+            throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(segment), 64 * 1024)))) {
+            long position = 0;
+            for (int offset : offsets) {
+                in.skipNBytes(offset - position);
+                int length = in.readInt();
+                in.readInt();
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                position = offset + AuditSegment.FRAME_HEADER + length;
+                query.collect(AuditRecord.decode(payload), records);
+            }
+        }
+    }
+
+    private record Query(EntityType type, long entityId, long from, long to) {
+
+        void collect(AuditRecord record, List<AuditRecord> records) {
+            long timestamp = record.timestamp().toEpochMilli();
+            if (record.type() == type && record.entityId() == entityId && timestamp >= from && timestamp <= to) {
+                records.add(record);
+            }
+        }
+    }
+
+    /**
+     * One line per record: time, action, entity, actor and the changed fields
+     */
+    static String format(AuditRecord record) {
+        return record.timestamp() + " " + record.action() + " " + record.type().tag() + " " + record.entityId()
+                + " by " + record.actor() + ": " + record.changes().stream()
+                .map(change -> change.field() + " " + quote(change.oldValue()) + " -> " + quote(change.newValue()))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String quote(String value) {
+        return value == null ? "-" : "'" + value + "'";
+    }
+
+    /**
+     * Query tool for an audit directory, e.g. on a copy taken from a server:
+     * AuditLogReader &lt;directory&gt; &lt;students|teachers|courses|departments&gt; &lt;id&gt; [from] [to] [limit]
+     * (from and to as ISO-8601 instants, default all time)
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("usage: AuditLogReader <directory> <entity> <id> [from] [to] [limit]");
+            System.exit(2);
+        }
+        Instant from = args.length > 3 ? Instant.parse(args[3]) : Instant.EPOCH;
+        Instant to = args.length > 4 ? Instant.parse(args[4]) : Instant.now();
+        int limit = args.length > 5 ? Integer.parseInt(args[5]) : Integer.MAX_VALUE;
+        List<AuditRecord> records = new AuditLogReader(Path.of(args[0]))
+                .query(EntityType.ofTag(args[1]), Long.parseLong(args[2]), from, to, limit);
+        records.forEach(record -> System.out.println(format(record)));
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.studentManagementSystem.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Appends audit records to the segment files on a background thread.
+ *
+ * Callers only put records on a bounded queue. The writer thread takes whatever has queued
+ * up (at most app.audit.batch-size), copies it into the mapped segment and forces the batch
+ * to disk once, so a burst of changes costs one flush. When a record does not fit, the segment
+ * is sealed (its index written) and the writer continues in a new one; sealed segments are
+ * gzipped on a second thread, which keeps compression off the append path.
+ *
+ * On startup the last segment is reopened and appended to, and segments left sealed but
+ * uncompressed (or rotated but not sealed) by a crash are finished.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditLogWriter implements InitializingBean, DisposableBean {
+
+    @Getter
+    private final AuditProperties properties;
+    private final BlockingQueue<AuditRecord> queue;
+    private final ExecutorService compressor;
+    private final Thread thread;
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter rotations;
+
+    private volatile boolean running;
+    /** Written by the writer thread only, after startup */
+    private AuditSegment active;
+
+    public AuditLogWriter(AuditProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.thread = new Thread(this::run, "audit-writer");
+        this.thread.setDaemon(true);
+        this.compressor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread compressing = new Thread(runnable, "audit-compressor");
+            compressing.setDaemon(true);
+            return compressing;
+        });
+        this.written = Counter.builder("audit.records.written")
+                .description("Audit records appended to the audit log")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("audit.records.dropped")
+                .description("Audit records lost because the queue was full or the write failed")
+                .register(meterRegistry);
+        this.rotations = Counter.builder("audit.segments.rotated")
+                .description("Audit log segments sealed because they were full")
+                .register(meterRegistry);
+        Gauge.builder("audit.queue.size", queue, BlockingQueue::size)
+                .description("Audit records waiting for the writer thread")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long segmentSize = properties.getSegmentSize().toBytes();
+        if (segmentSize < 1024 || segmentSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("app.audit.segment-size must be between 1KB and 2GB: " + segmentSize);
+        }
+        Files.createDirectories(properties.getDirectory());
+        active = recover();
+        running = true;
+        thread.start();
+        log.info("Audit log writing to {} (segment {})", properties.getDirectory(), active.number());
+    }
+
+    /**
+     * Queue a record for the writer; waits up to app.audit.enqueue-timeout when the queue is full
+     *
+     * @return false when the record was dropped
+     */
+    public boolean enqueue(AuditRecord record) {
+        if (running) {
+            try {
+                if (queue.offer(record, properties.getEnqueueTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                    accepted.incrementAndGet();
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        dropped.increment();
+        log.warn("Audit record dropped: {} of {} {} by {}", record.action(), record.type().tag(),
+                record.entityId(), record.actor());
+        return false;
+    }
+
+    /**
+     * Wait until the records queued so far have been written
+     *
+     * @return false when the timeout passed first
+     */
+    public boolean flush(Duration timeout) throws InterruptedException {
+        long target = accepted.get();
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (completed.get() < target) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    private void run() {
+        List<AuditRecord> batch = new ArrayList<>(properties.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditRecord first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, properties.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // only stopping ends the loop, after the queue is drained
+            } finally {
+                completed.addAndGet(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<AuditRecord> batch) {
+        int appended = 0;
+        for (AuditRecord record : batch) {
+            try {
+                byte[] payload = record.encode();
+                if (!active.append(record, payload)) {
+                    if (AuditSegment.FRAME_HEADER + payload.length > active.capacity()) {
+                        throw new IllegalArgumentException("record of " + payload.length + " bytes exceeds the segment size");
+                    }
+                    rotate();
+                    active.append(record, payload);
+                }
+                appended++;
+            } catch (IOException | RuntimeException e) {
+                dropped.increment();
+                log.error("Failed to write audit record for {} {}", record.type().tag(), record.entityId(), e);
+            }
+        }
+        if (properties.isForce()) {
+            active.force();
+        }
+        written.increment(appended);
+    }
+
+    /**
+     * Continue in the next segment, then seal the full one and hand it to the compressor
+     */
+    private void rotate() throws IOException {
+        AuditSegment full = active;
+        active = AuditSegment.open(properties.getDirectory(), full.number() + 1, segmentSize());
+        full.seal();
+        rotations.increment();
+        log.debug("Audit segment {} sealed with {} records", full.number(), full.records());
+        compressor.execute(() -> compress(full.number()));
+    }
+
+    private AuditSegment recover() throws IOException {
+        Path directory = properties.getDirectory();
+        SortedSet<Long> numbers = AuditSegment.numbers(directory);
+        if (numbers.isEmpty()) {
+            return AuditSegment.open(directory, 1, segmentSize());
+        }
+        long last = numbers.last();
+        boolean lastOpen = Files.exists(AuditSegment.logFile(directory, last))
+                && !Files.exists(AuditSegment.indexFile(directory, last));
+        for (long number : numbers) {
+            if ((number == last && lastOpen) || !Files.exists(AuditSegment.logFile(directory, number))) {
+                continue;
+            }
+            if (!Files.exists(AuditSegment.indexFile(directory, number))) {
+                AuditSegment.open(directory, number, segmentSize()).seal();
+            }
+            compressor.execute(() -> compress(number));
+        }
+        return AuditSegment.open(directory, lastOpen ? last : last + 1, segmentSize());
+    }
+
+    /**
+     * Gzip a sealed segment up to its last record and delete the uncompressed file
+     */
+    private void compress(long number) {
+        Path directory = properties.getDirectory();
+        Path segment = AuditSegment.logFile(directory, number);
+        Path compressed = AuditSegment.compressedFile(directory, number);
+        Path temporary = compressed.resolveSibling(compressed.getFileName() + ".tmp");
+        try {
+            int end = AuditSegmentIndex.open(AuditSegment.indexFile(directory, number)).end();
+            try (FileChannel source = FileChannel.open(segment, READ);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(temporary), 64 * 1024)) {
+                ByteBuffer chunk = ByteBuffer.allocate(64 * 1024);
+                long position = 0;
+                while (position < end) {
+                    chunk.clear().limit((int) Math.min(chunk.capacity(), end - position));
+                    int read = source.read(chunk, position);
+                    if (read < 0) {
+                        throw new IOException("Audit segment " + segment + " ends before its index says");
+                    }
+                    out.write(chunk.array(), 0, read);
+                    position += read;
+                }
+            }
+            try (FileChannel channel = FileChannel.open(temporary, WRITE)) {
+                channel.force(true);
+            }
+            Files.move(temporary, compressed, ATOMIC_MOVE, REPLACE_EXISTING);
+            Files.delete(segment);
+            log.debug("Audit segment {} compressed to {} bytes", number, Files.size(compressed));
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not compress audit segment {}; it stays uncompressed", segment, e);
+        }
+    }
+
+    private int segmentSize() {
+        return (int) properties.getSegmentSize().toBytes();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (running) {
+            running = false;
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+            active.close();
+        }
+        compressor.shutdown();
+        compressor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+}
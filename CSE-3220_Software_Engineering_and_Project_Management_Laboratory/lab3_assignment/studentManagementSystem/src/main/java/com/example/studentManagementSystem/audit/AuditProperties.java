@@ -0,0 +1,38 @@
+package com.example.studentManagementSystem.audit;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Audit log settings (app.audit.*)
+ * Records are appended to segment-size files under directory, batch-size at a time.
+ */
+@Data
+@ConfigurationProperties("app.audit")
+public class AuditProperties {
+
+    private boolean enabled = true;
+
+    private Path directory = Path.of("./data/audit");
+
+    /** Size of each memory-mapped segment; a full segment is sealed, indexed and gzipped */
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    /** Records written by the writer thread between flushes to disk */
+    private int batchSize = 1000;
+
+    /** Records waiting for the writer; further records wait up to enqueue-timeout, then are dropped */
+    private int queueCapacity = 100_000;
+
+    private Duration enqueueTimeout = Duration.ofMillis(100);
+
+    /** Force each batch to disk (msync) instead of leaving it to the page cache */
+    private boolean force = true;
+
+    /** Field values are cut to this many characters */
+    private int maxValueLength = 1000;
+}
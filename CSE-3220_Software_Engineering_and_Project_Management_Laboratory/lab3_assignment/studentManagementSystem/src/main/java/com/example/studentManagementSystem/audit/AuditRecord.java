@@ -0,0 +1,72 @@
+package com.example.studentManagementSystem.audit;
+
+import com.example.studentManagementSystem.versioning.EntityType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One audited change: who changed which entity, when, and the fields that differ.
+ *
+ * Stored in the segment files as timestamp (epoch millis), action code, entity tag, entity id,
+ * actor and the field changes, each string in modified UTF-8 with a presence flag for values.
+ */
+public record AuditRecord(Instant timestamp, String actor, EntityType type, long entityId,
+                          AuditAction action, List<FieldChange> changes) {
+
+    byte[] encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 + changes.size() * 48);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeLong(timestamp.toEpochMilli());
+            out.writeChar(action.code());
+            out.writeUTF(type.tag());
+            out.writeLong(entityId);
+            out.writeUTF(actor);
+            out.writeShort(changes.size());
+            for (FieldChange change : changes) {
+                out.writeUTF(change.field());
+                writeNullable(out, change.oldValue());
+                writeNullable(out, change.newValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static AuditRecord decode(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            Instant timestamp = Instant.ofEpochMilli(in.readLong());
+            AuditAction action = AuditAction.ofCode(in.readChar());
+            EntityType type = EntityType.ofTag(in.readUTF());
+            long entityId = in.readLong();
+            String actor = in.readUTF();
+            int count = in.readUnsignedShort();
+            List<FieldChange> changes = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                changes.add(new FieldChange(in.readUTF(), readNullable(in), readNullable(in)));
+            }
+            return new AuditRecord(timestamp, actor, type, entityId, action, List.copyOf(changes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeNullable(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullable(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+}
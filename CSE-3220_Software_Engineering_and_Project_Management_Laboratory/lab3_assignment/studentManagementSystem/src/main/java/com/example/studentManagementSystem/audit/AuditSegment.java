@@ -0,0 +1,199 @@
+package com.example.studentManagementSystem.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * The segment the audit log currently appends to: a fixed-size file mapped into memory.
+ *
+ * Each record is framed as [payload length][CRC32 of the payload][payload]; the unused tail
+ * of the file is zeros, so a zero length marks the end. The length is written last, which
+ * lets a reader of the file stop at the end of the last complete record, and reopening a
+ * segment after a crash continues after the last record whose checksum matches.
+ *
+ * Records are indexed as they are appended; {@link #seal()} writes that index next to the
+ * segment (see {@link AuditSegmentIndex}) when the writer rotates to the next one.
+ */
+final class AuditSegment implements Closeable {
+
+    static final int FRAME_HEADER = 8;
+
+    private static final Pattern FILE_NAME = Pattern.compile("audit-(\\d{20})\\.log(\\.gz)?");
+
+    interface FrameVisitor {
+        void visit(int offset, byte[] payload);
+    }
+
+    private final Path directory;
+    private final long number;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final List<AuditSegmentIndex.Entry> entries = new ArrayList<>();
+    private long minTimestamp = Long.MAX_VALUE;
+    private long maxTimestamp = Long.MIN_VALUE;
+
+    private AuditSegment(Path directory, long number, FileChannel channel, MappedByteBuffer buffer) {
+        this.directory = directory;
+        this.number = number;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Open a segment for appending, creating it with the given size or continuing after its last complete record
+     */
+    static AuditSegment open(Path directory, long number, int size) throws IOException {
+        FileChannel channel = FileChannel.open(logFile(directory, number), CREATE, READ, WRITE);
+        try {
+            int capacity = (int) Math.max(size, channel.size());
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            AuditSegment segment = new AuditSegment(directory, number, channel, buffer);
+            int end = scan(buffer, (offset, payload) -> segment.indexed(AuditRecord.decode(payload), offset));
+            if (end + 4 <= capacity && buffer.getInt(end) != 0) {
+                // torn write before a crash: clear it so appends are not followed by stale bytes
+                for (int i = end; i < capacity; i++) {
+                    buffer.put(i, (byte) 0);
+                }
+            }
+            buffer.position(end);
+            return segment;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Visit each complete record from the start of the buffer; returns the offset after the last one
+     */
+    static int scan(ByteBuffer buffer, FrameVisitor visitor) {
+        CRC32 crc = new CRC32();
+        int position = 0;
+        while (buffer.limit() - position >= FRAME_HEADER) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || length > buffer.limit() - position - FRAME_HEADER) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + FRAME_HEADER, payload);
+            crc.reset();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + 4)) {
+                break;
+            }
+            visitor.visit(position, payload);
+            position += FRAME_HEADER + length;
+        }
+        return position;
+    }
+
+    /**
+     * Append one encoded record; false when it does not fit and the writer has to rotate
+     */
+    boolean append(AuditRecord record, byte[] payload) {
+        int offset = buffer.position();
+        if (buffer.capacity() - offset < FRAME_HEADER + payload.length) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        buffer.put(offset + FRAME_HEADER, payload);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        buffer.putInt(offset, payload.length);
+        buffer.position(offset + FRAME_HEADER + payload.length);
+        indexed(record, offset);
+        return true;
+    }
+
+    /**
+     * Flush appended records to the file
+     */
+    void force() {
+        buffer.force();
+    }
+
+    /**
+     * Write the index next to the segment and close it; returns the end of the last record
+     */
+    int seal() throws IOException {
+        buffer.force();
+        AuditSegmentIndex.write(indexFile(directory, number), entries, minTimestamp, maxTimestamp, buffer.position());
+        channel.close();
+        return buffer.position();
+    }
+
+    @Override
+    public void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    long number() {
+        return number;
+    }
+
+    int records() {
+        return entries.size();
+    }
+
+    int capacity() {
+        return buffer.capacity();
+    }
+
+    private void indexed(AuditRecord record, int offset) {
+        long timestamp = record.timestamp().toEpochMilli();
+        entries.add(new AuditSegmentIndex.Entry(record.type().tag().hashCode(), record.entityId(), timestamp, offset));
+        minTimestamp = Math.min(minTimestamp, timestamp);
+        maxTimestamp = Math.max(maxTimestamp, timestamp);
+    }
+
+    static Path logFile(Path directory, long number) {
+        return directory.resolve(String.format("audit-%020d.log", number));
+    }
+
+    static Path compressedFile(Path directory, long number) {
+        return directory.resolve(String.format("audit-%020d.log.gz", number));
+    }
+
+    static Path indexFile(Path directory, long number) {
+        return directory.resolve(String.format("audit-%020d.idx", number));
+    }
+
+    /**
+     * Segment number of a .log or .log.gz file name, -1 for other files
+     */
+    static long number(Path file) {
+        Matcher matcher = FILE_NAME.matcher(file.getFileName().toString());
+        return matcher.matches() ? Long.parseLong(matcher.group(1)) : -1;
+    }
+
+    /**
+     * Numbers of the segments in the directory, compressed or not, oldest first
+     */
+    static SortedSet<Long> numbers(Path directory) throws IOException {
+        SortedSet<Long> numbers = new TreeSet<>();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                files.mapToLong(AuditSegment::number).filter(number -> number >= 0).forEach(numbers::add);
+            }
+        }
+        return numbers;
+    }
+}
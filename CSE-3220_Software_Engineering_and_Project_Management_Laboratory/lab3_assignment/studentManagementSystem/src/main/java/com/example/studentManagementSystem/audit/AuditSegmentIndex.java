@@ -0,0 +1,146 @@
+package com.example.studentManagementSystem.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Index of a sealed audit segment (audit-N.idx)
+ *
+ * Header: magic, first and last record timestamp, end of the last record, entry count.
+ * Entries: (entity tag hash, entity id, timestamp, record offset), sorted in that order, so
+ * the records of one entity in a time range are found by binary search over the mapped file.
+ * Offsets point into the uncompressed segment; they stay valid after it is gzipped.
+ * Tag hashes can collide, so readers check the type of the decoded record.
+ */
+final class AuditSegmentIndex {
+
+    private static final int MAGIC = 0x41554458;
+    private static final int HEADER = 28;
+    private static final int ENTRY = 24;
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingInt(Entry::typeHash)
+            .thenComparingLong(Entry::entityId)
+            .thenComparingLong(Entry::timestamp)
+            .thenComparingInt(Entry::offset);
+
+    record Entry(int typeHash, long entityId, long timestamp, int offset) {
+    }
+
+    private final ByteBuffer buffer;
+    private final long minTimestamp;
+    private final long maxTimestamp;
+    private final int end;
+    private final int count;
+
+    private AuditSegmentIndex(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.minTimestamp = buffer.getLong(4);
+        this.maxTimestamp = buffer.getLong(12);
+        this.end = buffer.getInt(20);
+        this.count = buffer.getInt(24);
+    }
+
+    static void write(Path path, List<Entry> entries, long minTimestamp, long maxTimestamp, int end)
+            throws IOException {
+        List<Entry> sorted = new ArrayList<>(entries);
+        sorted.sort(ORDER);
+        ByteBuffer bytes = ByteBuffer.allocate(HEADER + sorted.size() * ENTRY);
+        bytes.putInt(MAGIC).putLong(minTimestamp).putLong(maxTimestamp).putInt(end).putInt(sorted.size());
+        for (Entry entry : sorted) {
+            bytes.putInt(entry.typeHash()).putLong(entry.entityId()).putLong(entry.timestamp()).putInt(entry.offset());
+        }
+        bytes.flip();
+
+        // written aside and moved into place: an .idx file is always complete and marks the segment sealed
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, path, ATOMIC_MOVE, REPLACE_EXISTING);
+    }
+
+    static AuditSegmentIndex open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not an audit segment index: " + path);
+            }
+            return new AuditSegmentIndex(buffer);
+        }
+    }
+
+    /**
+     * Whether any record of the segment falls in [from, to] (epoch millis)
+     */
+    boolean overlaps(long from, long to) {
+        return count > 0 && minTimestamp <= to && maxTimestamp >= from;
+    }
+
+    /**
+     * Offsets of the records indexed under the entity in [from, to], in file order
+     */
+    int[] offsets(int typeHash, long entityId, long from, long to) {
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, typeHash, entityId, from) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        int[] offsets = new int[16];
+        int found = 0;
+        for (int i = low; i < count; i++) {
+            int position = HEADER + i * ENTRY;
+            if (buffer.getInt(position) != typeHash || buffer.getLong(position + 4) != entityId
+                    || buffer.getLong(position + 12) > to) {
+                break;
+            }
+            if (found == offsets.length) {
+                offsets = Arrays.copyOf(offsets, found * 2);
+            }
+            offsets[found++] = buffer.getInt(position + 20);
+        }
+        int[] result = Arrays.copyOf(offsets, found);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * End of the last record in the segment
+     */
+    int end() {
+        return end;
+    }
+
+    private int compare(int index, int typeHash, long entityId, long timestamp) {
+        int position = HEADER + index * ENTRY;
+        int result = Integer.compare(buffer.getInt(position), typeHash);
+        if (result == 0) {
+            result = Long.compare(buffer.getLong(position + 4), entityId);
+        }
+        if (result == 0) {
+            result = Long.compare(buffer.getLong(position + 12), timestamp);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.studentManagementSystem.audit;
+
+/**
+ * One field of an audited entity before and after the change (null when absent, e.g. on create or delete)
+ */
+public record FieldChange(String field, String oldValue, String newValue) {
+}
@@ -0,0 +1,173 @@
+package com.example.studentManagementSystem.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Stale-while-revalidate near cache for listing reads (one value per name).
+ *
+ * - younger than the soft TTL: served as is
+ * - between soft and hard TTL: served immediately, and one background refresh
+ *   is started on the cacheRefreshExecutor (the caller never waits for it)
+ * - older than the hard TTL, or never loaded: loaded by the caller
+ *
+ * Writers invalidate a name after their transaction commits; a load or refresh
+ * that started before the invalidation is discarded, never stored.
+ * Cached values are shared between callers and must be treated as read-only.
+ *
+ * Published as the "cache.listings.requests" counter tagged by cache and
+ * result (fresh / stale / miss) and "cache.listings.refreshes" tagged by outcome.
+ */
+@Component
+public class ListingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ListingCache.class);
+
+    static final String METRIC_NAME = "cache.listings.requests";
+
+    private record Entry(Object value, long loadedAt, long version, AtomicBoolean refreshing) {
+    }
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long softTtlNanos;
+    private final long hardTtlNanos;
+    private final LongSupplier ticker;
+
+    @Autowired
+    public ListingCache(@Qualifier("cacheRefreshExecutor") Executor refreshExecutor,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.cache.listings.soft-ttl:PT30S}") Duration softTtl,
+                        @Value("${app.cache.listings.hard-ttl:PT10M}") Duration hardTtl) {
+        this(refreshExecutor, meterRegistry, softTtl, hardTtl, System::nanoTime);
+    }
+
+    ListingCache(Executor refreshExecutor, MeterRegistry meterRegistry,
+                 Duration softTtl, Duration hardTtl, LongSupplier ticker) {
+        if (hardTtl.compareTo(softTtl) < 0) {
+            throw new IllegalArgumentException("Hard TTL " + hardTtl + " is shorter than soft TTL " + softTtl);
+        }
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.softTtlNanos = softTtl.toNanos();
+        this.hardTtlNanos = hardTtl.toNanos();
+        this.ticker = ticker;
+    }
+
+    /**
+     * Cached value for the name, loading (or refreshing) it with the loader as needed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String name, Supplier<T> loader) {
+        Entry entry = entries.get(name);
+        if (entry != null) {
+            long age = ticker.getAsLong() - entry.loadedAt();
+            if (age < softTtlNanos) {
+                count(name, "fresh");
+                return (T) entry.value();
+            }
+            if (age < hardTtlNanos) {
+                count(name, "stale");
+                refreshInBackground(name, entry, loader);
+                return (T) entry.value();
+            }
+        }
+        count(name, "miss");
+        long version = version(name).get();
+        T value = loader.get();
+        store(name, version, value);
+        return value;
+    }
+
+    /**
+     * Drop the cached value now; loads already in flight will not be stored
+     */
+    public void invalidate(String name) {
+        version(name).incrementAndGet();
+        entries.remove(name);
+    }
+
+    /**
+     * Drop the cached value once the current transaction commits (immediately when there is none)
+     */
+    public void invalidateAfterCommit(String name) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(name);
+                }
+            });
+        } else {
+            invalidate(name);
+        }
+    }
+
+    private void refreshInBackground(String name, Entry entry, Supplier<?> loader) {
+        if (!entry.refreshing().compareAndSet(false, true)) {
+            return; // already refreshing
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    store(name, entry.version(), loader.get());
+                    refreshed(name, "success");
+                } catch (RuntimeException e) {
+                    log.warn("Refresh of cached {} failed, serving the previous value: {}", name, e.getMessage());
+                    refreshed(name, "failure");
+                    entry.refreshing().set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshed(name, "rejected");
+            entry.refreshing().set(false);
+        }
+    }
+
+    private void store(String name, long version, Object value) {
+        Entry loaded = new Entry(value, ticker.getAsLong(), version, new AtomicBoolean());
+        entries.compute(name, (key, current) -> version(name).get() == version ? loaded : current);
+    }
+
+    private AtomicLong version(String name) {
+        return versions.computeIfAbsent(name, key -> new AtomicLong());
+    }
+
+    private void count(String name, String result) {
+        Counter.builder(METRIC_NAME)
+                .description("Listing cache reads by whether the value was fresh, stale or missing")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void refreshed(String name, String outcome) {
+        Counter.builder("cache.listings.refreshes")
+                .description("Background refreshes of stale listing cache entries")
+                .tag("cache", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.studentManagementSystem.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Background refresh executor for ListingCache
+ */
+@Configuration
+public class ListingCacheConfig {
+
+    /**
+     * One refresh per cache entry at a time, so a small pool is enough;
+     * rejected refreshes are retried by the next stale read.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(@Value("${app.cache.listings.refresh-pool-size:1}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(10);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
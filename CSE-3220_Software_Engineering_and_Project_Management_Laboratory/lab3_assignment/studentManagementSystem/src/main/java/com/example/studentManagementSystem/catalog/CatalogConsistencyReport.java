@@ -0,0 +1,23 @@
+package com.example.studentManagementSystem.catalog;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Result of comparing the catalog snapshot with the database.
+ *
+ * @param missing    course ids in the database but not in the snapshot
+ * @param unexpected course ids in the snapshot but no longer in the database
+ * @param mismatched course ids whose snapshot entry differs from the database row
+ */
+public record CatalogConsistencyReport(Instant checkedAt,
+                                       long snapshotVersion,
+                                       int courses,
+                                       List<Long> missing,
+                                       List<Long> unexpected,
+                                       List<Long> mismatched) {
+
+    public boolean isConsistent() {
+        return missing.isEmpty() && unexpected.isEmpty() && mismatched.isEmpty();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.studentManagementSystem.catalog;
+
+import com.example.studentManagementSystem.dto.CourseDTO;
+import com.example.studentManagementSystem.repository.CourseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory course catalog read model.
+ *
+ * Reads go to an immutable CourseCatalogSnapshot behind a volatile reference:
+ * no locks, no JPA, no connection. Writers (course CRUD, enrollments, teacher
+ * renames) report the affected course ids; after their transaction commits the
+ * catalog re-reads only those rows and swaps in a new snapshot. Refreshes are
+ * serialized, so the last refresh always observes every commit before it.
+ *
+ * A periodic consistency check compares the snapshot with the database and
+ * replaces it when they have drifted (e.g. rows changed outside the services).
+ */
+@Component
+public class CourseCatalog {
+
+    private static final Logger log = LoggerFactory.getLogger(CourseCatalog.class);
+
+    private final CourseRepository courseRepository;
+    private final Counter refreshes;
+    private final Counter inconsistencies;
+    private final Object refreshLock = new Object();
+
+    private volatile CourseCatalogSnapshot snapshot;
+
+    public CourseCatalog(CourseRepository courseRepository, MeterRegistry meterRegistry) {
+        this.courseRepository = courseRepository;
+        this.refreshes = Counter.builder("catalog.refreshes")
+                .description("Catalog snapshots swapped in after a change")
+                .register(meterRegistry);
+        this.inconsistencies = Counter.builder("catalog.consistency.mismatches")
+                .description("Consistency checks that found the snapshot out of date")
+                .register(meterRegistry);
+        Gauge.builder("catalog.courses", this, catalog -> catalog.snapshot == null ? 0 : catalog.snapshot.size())
+                .description("Courses in the current catalog snapshot")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Current snapshot; loaded from the database on first use
+     */
+    public CourseCatalogSnapshot snapshot() {
+        CourseCatalogSnapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (refreshLock) {
+            if (snapshot == null) {
+                snapshot = CourseCatalogSnapshot.of(0, courseRepository.findCatalogEntries());
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * All courses, ordered by id
+     */
+    public List<CourseDTO> getCourses() {
+        return snapshot().getCourses().stream()
+                .map(CourseCatalogEntry::toDTO)
+                .collect(Collectors.toList());
+    }
+
+    public Optional<CourseDTO> findCourse(Long id) {
+        return snapshot().find(id).map(CourseCatalogEntry::toDTO);
+    }
+
+    /**
+     * Re-read the given courses once the current transaction commits
+     * (immediately when there is none); courses no longer in the database are dropped
+     */
+    public void coursesChanged(Collection<Long> courseIds) {
+        Set<Long> ids = Set.copyOf(courseIds);
+        if (!ids.isEmpty()) {
+            afterCommit(() -> refresh(ids));
+        }
+    }
+
+    public void courseChanged(Long courseId) {
+        coursesChanged(List.of(courseId));
+    }
+
+    /**
+     * Rebuild the whole snapshot once the current transaction commits
+     */
+    public void reloadAfterCommit() {
+        afterCommit(this::reload);
+    }
+
+    public void reload() {
+        synchronized (refreshLock) {
+            long version = snapshot == null ? 0 : snapshot.getVersion() + 1;
+            snapshot = CourseCatalogSnapshot.of(version, courseRepository.findCatalogEntries());
+            refreshes.increment();
+        }
+    }
+
+    /**
+     * Compare the snapshot with the database; a drifted snapshot is replaced by the database state
+     */
+    @Scheduled(initialDelayString = "${app.catalog.consistency-check-interval:PT5M}",
+            fixedDelayString = "${app.catalog.consistency-check-interval:PT5M}")
+    public CatalogConsistencyReport checkConsistency() {
+        synchronized (refreshLock) {
+            CourseCatalogSnapshot current = snapshot();
+            Map<Long, CourseCatalogEntry> database = courseRepository.findCatalogEntries().stream()
+                    .collect(Collectors.toMap(CourseCatalogEntry::id, Function.identity()));
+
+            List<Long> missing = new ArrayList<>();
+            List<Long> mismatched = new ArrayList<>();
+            database.forEach((id, entry) -> current.find(id).ifPresentOrElse(
+                    cached -> {
+                        if (!cached.equals(entry)) {
+                            mismatched.add(id);
+                        }
+                    },
+                    () -> missing.add(id)));
+            List<Long> unexpected = current.getCourses().stream()
+                    .map(CourseCatalogEntry::id)
+                    .filter(id -> !database.containsKey(id))
+                    .collect(Collectors.toList());
+            Collections.sort(missing);
+            Collections.sort(mismatched);
+
+            CatalogConsistencyReport report = new CatalogConsistencyReport(Instant.now(),
+                    current.getVersion(), database.size(), missing, unexpected, mismatched);
+            if (!report.isConsistent()) {
+                log.warn("Course catalog out of date (missing={}, unexpected={}, mismatched={}), replacing snapshot",
+                        missing, unexpected, mismatched);
+                inconsistencies.increment();
+                snapshot = CourseCatalogSnapshot.of(current.getVersion() + 1, database.values());
+                refreshes.increment();
+            }
+            return report;
+        }
+    }
+
+    private void refresh(Set<Long> ids) {
+        synchronized (refreshLock) {
+            if (snapshot == null) {
+                return; // not loaded yet; the first read loads the committed state
+            }
+            List<CourseCatalogEntry> changed = courseRepository.findCatalogEntriesByIdIn(ids);
+            Set<Long> removed = new HashSet<>(ids);
+            changed.forEach(entry -> removed.remove(entry.id()));
+            snapshot = snapshot.with(changed, removed);
+            refreshes.increment();
+        }
+    }
+
+    private void afterCommit(Runnable refresh) {
+        Runnable guarded = () -> {
+            try {
+                refresh.run();
+            } catch (RuntimeException e) {
+                // The write itself has committed; fall back to a full load on the next read
+                log.warn("Course catalog refresh failed, snapshot will be reloaded: {}", e.getMessage());
+                snapshot = null;
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+}
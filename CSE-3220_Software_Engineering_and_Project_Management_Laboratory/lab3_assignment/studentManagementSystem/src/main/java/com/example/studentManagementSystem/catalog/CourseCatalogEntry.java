@@ -0,0 +1,25 @@
+package com.example.studentManagementSystem.catalog;
+
+import com.example.studentManagementSystem.dto.CourseDTO;
+
+/**
+ * One course of the catalog read model, with its teacher's name and enrollment count.
+ * Built directly by a JPQL constructor expression, so no entities are involved.
+ */
+public record CourseCatalogEntry(Long id,
+                                 String code,
+                                 String name,
+                                 String description,
+                                 int credits,
+                                 Long teacherId,
+                                 String teacherName,
+                                 long enrolledStudentCount) {
+
+    /**
+     * Fresh (mutable) DTO for controllers and templates; the entry itself is never shared
+     */
+    public CourseDTO toDTO() {
+        return new CourseDTO(id, code, name, description, credits,
+                teacherId, teacherName, (int) enrolledStudentCount);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.studentManagementSystem.catalog;
+
+import java.util.*;
+
+/**
+ * Immutable view of the whole course catalog, ordered by course id.
+ * Changes produce a new snapshot (copy-on-write); readers never see a partial update.
+ */
+public final class CourseCatalogSnapshot {
+
+    private final long version;
+    private final List<CourseCatalogEntry> courses;
+    private final Map<Long, CourseCatalogEntry> coursesById;
+
+    private CourseCatalogSnapshot(long version, Collection<CourseCatalogEntry> courses) {
+        Map<Long, CourseCatalogEntry> byId = new LinkedHashMap<>();
+        courses.stream()
+                .sorted(Comparator.comparing(CourseCatalogEntry::id))
+                .forEach(entry -> byId.put(entry.id(), entry));
+        this.version = version;
+        this.courses = List.copyOf(byId.values());
+        this.coursesById = Collections.unmodifiableMap(byId);
+    }
+
+    static CourseCatalogSnapshot of(long version, Collection<CourseCatalogEntry> courses) {
+        return new CourseCatalogSnapshot(version, courses);
+    }
+
+    /**
+     * New snapshot with the given courses replaced (or added) and the given ids removed
+     */
+    CourseCatalogSnapshot with(Collection<CourseCatalogEntry> changed, Collection<Long> removed) {
+        Map<Long, CourseCatalogEntry> byId = new HashMap<>(coursesById);
+        removed.forEach(byId::remove);
+        changed.forEach(entry -> byId.put(entry.id(), entry));
+        return new CourseCatalogSnapshot(version + 1, byId.values());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<CourseCatalogEntry> getCourses() {
+        return courses;
+    }
+
+    public Optional<CourseCatalogEntry> find(Long id) {
+        return Optional.ofNullable(coursesById.get(id));
+    }
+
+    public int size() {
+        return courses.size();
+    }
+}
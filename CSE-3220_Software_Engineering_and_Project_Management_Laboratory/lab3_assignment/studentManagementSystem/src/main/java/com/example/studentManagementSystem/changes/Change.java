@@ -0,0 +1,18 @@
+package com.example.studentManagementSystem.changes;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+/**
+ * One entry of the change feed, serialized as a compact array:
+ * [version, type, id, operation, relatedId], e.g. [42, "students", 17, "u", 0]
+ *
+ * @param type      EntityType tag (students, teachers, courses, departments, enrollments)
+ * @param id        entity id; for enrollments the student id
+ * @param relatedId for enrollments the course id, 0 otherwise
+ * @param operation ChangeOperation code (u / d)
+ */
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"version", "type", "id", "operation", "relatedId"})
+public record Change(long version, String type, long id, String operation, long relatedId) {
+}
@@ -0,0 +1,15 @@
+package com.example.studentManagementSystem.changes;
+
+import java.util.List;
+
+/**
+ * One page of the change feed
+ *
+ * @param since   cursor the page was read from (exclusive)
+ * @param next    cursor for the following request
+ * @param head    latest committed version when the page was read
+ * @param more    whether changes after next were left for the following page
+ * @param changes latest change per entity with a version in (since, next], in version order
+ */
+public record ChangeFeedPage(long since, long next, long head, boolean more, List<Change> changes) {
+}
@@ -0,0 +1,201 @@
+package com.example.studentManagementSystem.changes;
+
+import com.example.studentManagementSystem.outbox.Outbox;
+import com.example.studentManagementSystem.versioning.EntityType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Versioned log of entity changes made through the services, read back as a change feed.
+ *
+ * Changes are collected per transaction (the last change per entity wins) and written
+ * just before it commits: one update of change_log_sequence reserves the versions (its
+ * new value comes back as a generated key, so no second query) and one batch insert
+ * writes the rows. The sequence row stays locked until the commit, so
+ * versions are committed in increasing order and a reader's cursor never skips a row.
+ * The same flush appends the changes to the transactional outbox (see OutboxRelay).
+ * A rolled-back transaction writes nothing.
+ *
+ * The feed returns only the latest change per entity after the cursor, so a client
+ * that has been away reads each changed entity once, however often it changed.
+ * Rows superseded by a later change of the same entity are deleted periodically;
+ * the feed does not depend on them.
+ */
+@Slf4j
+@Component
+public class ChangeLog {
+
+    private static final String NEXT_VERSIONS = "UPDATE change_log_sequence SET version = version + ? WHERE id = 1";
+    private static final String HEAD = "SELECT version FROM change_log_sequence WHERE id = 1";
+    private static final String INSERT = "INSERT INTO change_log "
+            + "(version, entity_type, entity_id, related_id, operation, changed_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String LATEST = "SELECT c.version, c.entity_type, c.entity_id, c.related_id, c.operation "
+            + "FROM change_log c WHERE c.version > ? AND c.version <= ? AND NOT EXISTS ("
+            + "SELECT 1 FROM change_log n WHERE n.entity_type = c.entity_type AND n.entity_id = c.entity_id "
+            + "AND n.related_id = c.related_id AND n.version > c.version AND n.version <= ?) "
+            + "ORDER BY c.version FETCH FIRST ? ROWS ONLY";
+    private static final String DELETE_SUPERSEDED = "DELETE FROM change_log c WHERE c.version <= ? AND EXISTS ("
+            + "SELECT 1 FROM change_log n WHERE n.entity_type = c.entity_type AND n.entity_id = c.entity_id "
+            + "AND n.related_id = c.related_id AND n.version > c.version)";
+
+    private record Key(EntityType type, long id, long relatedId) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Outbox outbox;
+    private final Counter recorded;
+    private final Counter compacted;
+    private final int maxPageSize;
+
+    public ChangeLog(JdbcTemplate jdbcTemplate,
+                     Outbox outbox,
+                     MeterRegistry meterRegistry,
+                     @Value("${app.changes.max-page-size:5000}") int maxPageSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.outbox = outbox;
+        this.maxPageSize = maxPageSize;
+        this.recorded = Counter.builder("changes.recorded")
+                .description("Entity changes written to the change log")
+                .register(meterRegistry);
+        this.compacted = Counter.builder("changes.compacted")
+                .description("Change log rows deleted because a later change superseded them")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a change of a student, teacher, course or department, written with the current transaction
+     */
+    public void record(EntityType type, Long id, ChangeOperation operation) {
+        if (type == EntityType.ENROLLMENTS) {
+            throw new IllegalArgumentException("Use recordEnrollment for enrollments");
+        }
+        pending().put(new Key(type, id, 0), operation);
+    }
+
+    /**
+     * Record an enrollment (student in course) being created or removed
+     */
+    public void recordEnrollment(Long studentId, Long courseId, ChangeOperation operation) {
+        pending().put(new Key(EntityType.ENROLLMENTS, studentId, courseId), operation);
+    }
+
+    /**
+     * Latest committed version
+     */
+    public long head() {
+        Long head = jdbcTemplate.queryForObject(HEAD, Long.class);
+        return head == null ? 0 : head;
+    }
+
+    /**
+     * Latest change per entity after the cursor, at most limit entries (capped at app.changes.max-page-size)
+     */
+    public ChangeFeedPage read(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("Cursor must not be negative: " + since);
+        }
+        int pageSize = Math.max(1, Math.min(limit, maxPageSize));
+        long head = head();
+        if (since > head) {
+            throw new IllegalArgumentException("Cursor " + since + " is ahead of the change feed (head " + head + ")");
+        }
+        List<Change> changes = jdbcTemplate.query(LATEST,
+                (rs, rowNum) -> new Change(rs.getLong(1), rs.getString(2), rs.getLong(3),
+                        rs.getString(5), rs.getLong(4)),
+                since, head, head, pageSize + 1);
+        boolean more = changes.size() > pageSize;
+        if (more) {
+            changes = changes.subList(0, pageSize);
+            return new ChangeFeedPage(since, changes.get(pageSize - 1).version(), head, true, List.copyOf(changes));
+        }
+        return new ChangeFeedPage(since, head, head, false, changes);
+    }
+
+    /**
+     * Delete rows superseded by a later change of the same entity
+     */
+    @Scheduled(initialDelayString = "${app.changes.compaction-interval:PT10M}",
+            fixedDelayString = "${app.changes.compaction-interval:PT10M}")
+    public int compact() {
+        int deleted = jdbcTemplate.update(DELETE_SUPERSEDED, head());
+        compacted.increment(deleted);
+        if (deleted > 0) {
+            log.debug("Compacted {} superseded change log rows", deleted);
+        }
+        return deleted;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Key, ChangeOperation> pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Changes must be recorded inside a transaction");
+        }
+        Map<Key, ChangeOperation> pending = (Map<Key, ChangeOperation>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Map<Key, ChangeOperation> changes = new LinkedHashMap<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(changes);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(ChangeLog.this);
+                }
+            });
+            pending = changes;
+        }
+        return pending;
+    }
+
+    private void write(Map<Key, ChangeOperation> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        long version = reserveVersions(changes.size()) - changes.size();
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Change> written = new ArrayList<>(changes.size());
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (Map.Entry<Key, ChangeOperation> entry : changes.entrySet()) {
+            Key key = entry.getKey();
+            Change change = new Change(++version, key.type().tag(), key.id(), entry.getValue().code(), key.relatedId());
+            written.add(change);
+            rows.add(new Object[]{change.version(), change.type(), change.id(), change.relatedId(), change.operation(), now});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+        outbox.append(written, now);
+        recorded.increment(rows.size());
+    }
+
+    /**
+     * Move the sequence forward by count; returns its new value, the last reserved version
+     */
+    private long reserveVersions(int count) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(NEXT_VERSIONS, new String[]{"version"});
+            statement.setInt(1, count);
+            return statement;
+        }, keyHolder);
+        return keyHolder.getKeyAs(Long.class);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.studentManagementSystem.changes;
+
+/**
+ * What happened to an entity, with its one-letter code in the change_log table and the feed
+ */
+public enum ChangeOperation {
+
+    /** Created or updated; the current state is read from the entity's API */
+    UPSERT("u"),
+
+    /** Deleted (a deleted student or course also takes its enrollments with it) */
+    DELETE("d");
+
+    private final String code;
+
+    ChangeOperation(String code) {
+        this.code = code;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public static ChangeOperation ofCode(String code) {
+        for (ChangeOperation operation : values()) {
+            if (operation.code.equals(code)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown change operation: " + code);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.studentManagementSystem.coalescing;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks an expensive, side-effect free service read whose concurrent calls with
+ * equal arguments may share one execution (see SingleFlight).
+ * Each caller receives its own copy of the result, so the method must return a list of
+ * DTOs (or another bean with plain-value properties).
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CoalescedRead {
+}
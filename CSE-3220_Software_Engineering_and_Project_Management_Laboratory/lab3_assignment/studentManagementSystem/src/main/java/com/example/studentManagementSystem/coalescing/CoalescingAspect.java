@@ -0,0 +1,40 @@
+package com.example.studentManagementSystem.coalescing;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Coalesces concurrent calls of @CoalescedRead methods with equal arguments.
+ * Runs outside @Transactional, so waiting callers hold no connection.
+ * Callers already inside a transaction always execute on their own (they may
+ * see uncommitted changes that other callers must not).
+ * Each caller receives its own copy of the shared result (see ResultCopies).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CoalescingAspect {
+
+    private final SingleFlight singleFlight;
+
+    @Around("@annotation(com.example.studentManagementSystem.coalescing.CoalescedRead)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String operation = joinPoint.getSignature().getDeclaringType().getSimpleName()
+                + "." + joinPoint.getSignature().getName();
+        List<Object> key = List.of(operation, Arrays.asList(joinPoint.getArgs()));
+        return singleFlight.execute(operation, key, joinPoint::proceed, ResultCopies::copy);
+    }
+}
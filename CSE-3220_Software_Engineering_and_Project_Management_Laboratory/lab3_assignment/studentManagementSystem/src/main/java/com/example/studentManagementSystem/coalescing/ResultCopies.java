@@ -0,0 +1,48 @@
+package com.example.studentManagementSystem.coalescing;
+
+import org.springframework.beans.BeanUtils;
+
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gives each coalesced caller its own copy of a shared result.
+ * Lists become unmodifiable lists of copied elements; mutable beans (the DTOs) are copied
+ * property by property, which is enough because their properties are plain values;
+ * immutable values (strings, numbers, records, ...) are shared as they are.
+ */
+final class ResultCopies {
+
+    private ResultCopies() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T copy(T value) {
+        if (value == null || isImmutable(value)) {
+            return value;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copies = new ArrayList<>(list.size());
+            for (Object element : list) {
+                copies.add(copy(element));
+            }
+            return (T) List.copyOf(copies);
+        }
+        if (value instanceof Collection<?> || value instanceof Map<?, ?> || value.getClass().isArray()) {
+            throw new IllegalArgumentException("@CoalescedRead results must be lists or beans, not "
+                    + value.getClass().getName());
+        }
+        T copy = (T) BeanUtils.instantiateClass(value.getClass());
+        BeanUtils.copyProperties(value, copy);
+        return copy;
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?> || value instanceof Temporal
+                || value.getClass().isRecord();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.studentManagementSystem.coalescing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-flight execution: while a call for a key is running, further callers
+ * for the same key wait for it and receive its result (or exception) instead of
+ * running the computation again. Nothing is cached - once the call completes,
+ * the next caller starts a new execution.
+ *
+ * Published as the "singleflight.calls" counter tagged by operation and
+ * result (executed / coalesced), plus the "singleflight.in.flight" gauge.
+ */
+@Component
+public class SingleFlight {
+
+    static final String METRIC_NAME = "singleflight.calls";
+
+    /**
+     * Computation that may throw anything (e.g. ProceedingJoinPoint::proceed)
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+
+    private final ConcurrentMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("singleflight.in.flight", inFlight, ConcurrentMap::size)
+                .description("Distinct keys currently being computed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Run the call, or join the execution already in flight for the same key
+     * (every caller receives the same result object)
+     *
+     * @param operation metric tag, e.g. "CourseService.getAllCourses"
+     * @param key       identifies equal calls (operation plus arguments)
+     */
+    public <T> T execute(String operation, Object key, Call<T> call) throws Throwable {
+        return execute(operation, key, call, UnaryOperator.identity());
+    }
+
+    /**
+     * Run the call, or join the execution already in flight for the same key;
+     * every caller, including the one that ran it, receives share(result), so a
+     * caller modifying its result cannot affect the others
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, Object key, Call<T> call, UnaryOperator<T> share) throws Throwable {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            counter(operation, "coalesced").increment();
+            return share.apply((T) await(running));
+        }
+
+        counter(operation, "executed").increment();
+        try {
+            T result = call.call();
+            mine.complete(result);
+            return share.apply(result);
+        } catch (Throwable ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> running) throws Throwable {
+        try {
+            return running.get();
+        } catch (ExecutionException ex) {
+            throw ex.getCause();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a coalesced call", ex);
+        }
+    }
+
+    private Counter counter(String operation, String result) {
+        return Counter.builder(METRIC_NAME)
+                .description("Coalescable calls by whether they executed or joined one in flight")
+                .tag("operation", operation)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 /**
  * Data Initializer - Loads sample data on application startup
  * Creates default roles, users, departments, teachers, students, and courses
+ * When app.dataset.enabled is set, a synthetic dataset is generated on top (see DatasetGenerator)
  */
 @Component
 @RequiredArgsConstructor
@@ -22,6 +23,8 @@ public class DataInitializer implements CommandLineRunner {
     private final StudentRepository studentRepository;
     private final CourseRepository courseRepository;
     private final PasswordEncoder passwordEncoder;
+    private final DatasetGenerator datasetGenerator;
+    private final DatasetProperties datasetProperties;
 
     @Override
     public void run(String... args) throws Exception {
@@ -41,6 +44,9 @@ public class DataInitializer implements CommandLineRunner {
         if (roleCount == 0) {
             System.out.println("Database is empty. Initializing with demo data...");
             initializeData();
+            if (datasetProperties.isEnabled()) {
+                datasetGenerator.generate(datasetProperties);
+            }
         } else {
             System.out.println("Database already contains data. Skipping initialization.");
             System.out.println("Using existing data from file-based database.");
@@ -0,0 +1,133 @@
+package com.example.studentManagementSystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * DataSource configuration
+ * The primary pool serves OLTP traffic (login, enroll/drop, CRUD).
+ * A separate, small, read-only reporting pool serves exports and statistics
+ * so a long report can never take connections away from the primary pool.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Primary datasource properties (spring.datasource.*)
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * Primary Hikari pool (spring.datasource.hikari.*) used by JPA
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Reporting datasource properties (app.reporting.datasource.*)
+     * Connection settings default to the primary datasource when not set.
+     */
+    @Bean
+    @ConfigurationProperties("app.reporting.datasource")
+    public DataSourceProperties reportingDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * Reporting Hikari pool (app.reporting.datasource.hikari.*)
+     */
+    @Bean
+    @ConfigurationProperties("app.reporting.datasource.hikari")
+    public HikariDataSource reportingDataSource(
+            @Qualifier("reportingDataSourceProperties") DataSourceProperties reportingProperties,
+            DataSourceProperties dataSourceProperties) {
+        if (!StringUtils.hasText(reportingProperties.getUrl())) {
+            reportingProperties.setUrl(dataSourceProperties.determineUrl());
+            reportingProperties.setUsername(dataSourceProperties.determineUsername());
+            reportingProperties.setPassword(dataSourceProperties.determinePassword());
+            reportingProperties.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        }
+        HikariDataSource dataSource = reportingProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("reporting");
+        dataSource.setReadOnly(true);
+        dataSource.setMaximumPoolSize(2);
+        dataSource.setMinimumIdle(0);
+        dataSource.setConnectionTimeout(5000);
+        return dataSource;
+    }
+
+    /**
+     * JdbcTemplate used by the application (primary pool)
+     */
+    @Bean
+    @Primary
+    public JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * JdbcTemplate for reports - every statement is bounded by a query timeout
+     */
+    @Bean
+    public JdbcTemplate reportingJdbcTemplate(@Qualifier("reportingDataSource") DataSource reportingDataSource,
+                                              @Value("${app.reporting.query-timeout-seconds:30}") int queryTimeoutSeconds) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(reportingDataSource);
+        jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+        jdbcTemplate.setFetchSize(500);
+        return jdbcTemplate;
+    }
+
+    /**
+     * Default application executor (kept because declaring reportExecutor
+     * would otherwise switch off Spring Boot's auto-configured one)
+     */
+    @Bean(name = "applicationTaskExecutor")
+    @Primary
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    /**
+     * Dedicated executor for report generation
+     * Sized to the reporting pool; excess reports are rejected instead of queued forever.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor reportExecutor(@Value("${app.reporting.executor.pool-size:2}") int poolSize,
+                                                 @Value("${app.reporting.executor.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("report-");
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,319 @@
+package com.example.studentManagementSystem.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Synthetic Dataset Generator - writes a scalable, deterministic dataset through batched JDBC
+ * Departments, teachers (with logins), courses, students (with logins) and enrollments.
+ * Course popularity follows a Zipf distribution, passwords are hashed once per role,
+ * and IDs are assigned explicitly after the existing rows so demo data is kept.
+ */
+@Component
+@EnableConfigurationProperties(DatasetProperties.class)
+public class DatasetGenerator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    public DatasetGenerator(JdbcTemplate jdbcTemplate, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * ID ranges of a generated dataset: row i of a table has id first...Id + i
+     */
+    public record GeneratedDataset(long firstDepartmentId, int departments,
+                                   long firstTeacherId, int teachers,
+                                   long firstCourseId, int courses,
+                                   long firstStudentId, int students,
+                                   long enrollments) {
+    }
+
+    /**
+     * Login of the i-th generated student
+     */
+    public static String studentUsername(int student) {
+        return "gstudent" + student;
+    }
+
+    /**
+     * Login of the i-th generated teacher
+     */
+    public static String teacherUsername(int teacher) {
+        return "gteacher" + teacher;
+    }
+
+    /**
+     * Generate the dataset described by the properties
+     */
+    public GeneratedDataset generate(DatasetProperties properties) {
+        long start = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        int batchSize = properties.getBatchSize();
+
+        Long teacherRoleId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'ROLE_TEACHER'", Long.class);
+        Long studentRoleId = jdbcTemplate.queryForObject("SELECT id FROM roles WHERE name = 'ROLE_STUDENT'", Long.class);
+        if (teacherRoleId == null || studentRoleId == null) {
+            throw new RuntimeException("Roles must exist before generating a dataset");
+        }
+        String teacherPassword = passwordEncoder.encode(properties.getTeacherPassword());
+        String studentPassword = passwordEncoder.encode(properties.getStudentPassword());
+
+        int departments = properties.getDepartments();
+        int teachers = properties.getTeachers();
+        int courses = properties.getCourses();
+        int students = properties.getStudents();
+
+        long departmentBase = nextId("departments");
+        long teacherBase = nextId("teachers");
+        long courseBase = nextId("courses");
+        long studentBase = nextId("students");
+        long userBase = nextId("users");
+
+        // Departments
+        BatchWriter writer = new BatchWriter("INSERT INTO departments (id, name, code, description) VALUES (?, ?, ?, ?)", batchSize);
+        for (int i = 0; i < departments; i++) {
+            writer.add(departmentBase + i, "Generated Department " + i, "GD" + i, "Generated department");
+        }
+        writer.flush();
+
+        // Teacher users and teachers
+        BatchWriter users = new BatchWriter("INSERT INTO users (id, username, password, email, enabled, role_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", batchSize);
+        writer = new BatchWriter("INSERT INTO teachers (id, first_name, last_name, email, phone, qualification, "
+                + "designation, department_id, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", batchSize);
+        for (int i = 0; i < teachers; i++) {
+            long userId = userBase + i;
+            String email = teacherUsername(i) + "@university.edu";
+            users.add(userId, teacherUsername(i), teacherPassword, email, true, teacherRoleId);
+            writer.add(teacherBase + i, "Teacher", "T" + i, email, "555-" + i, "PhD", "Lecturer",
+                    departmentBase + i / properties.getTeachersPerDepartment(), userId);
+        }
+        users.flush();
+        writer.flush();
+
+        // Courses
+        writer = new BatchWriter("INSERT INTO courses (id, code, name, description, credits, teacher_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", batchSize);
+        for (int i = 0; i < courses; i++) {
+            writer.add(courseBase + i, "GC" + i, "Generated Course " + i, "Generated course",
+                    1 + random.nextInt(4), teacherBase + i / properties.getCoursesPerTeacher());
+        }
+        writer.flush();
+
+        // Student users and students
+        userBase += teachers;
+        users = new BatchWriter("INSERT INTO users (id, username, password, email, enabled, role_id) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", batchSize);
+        writer = new BatchWriter("INSERT INTO students (id, student_id, first_name, last_name, email, phone, "
+                + "address, semester, department_id, user_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", batchSize);
+        for (int i = 0; i < students; i++) {
+            long userId = userBase + i;
+            String email = studentUsername(i) + "@student.edu";
+            users.add(userId, studentUsername(i), studentPassword, email, true, studentRoleId);
+            writer.add(studentBase + i, "G-" + i, "Student", "S" + i, email, "555-" + i, "Address " + i,
+                    1 + random.nextInt(8), departments == 0 ? null : departmentBase + random.nextInt(departments), userId);
+        }
+        users.flush();
+        writer.flush();
+
+        // Enrollments - distinct Zipf-distributed courses per student
+        long enrollments = 0;
+        if (courses > 0) {
+            int perStudent = Math.min(properties.getEnrollmentsPerStudent(), courses);
+            double[] cumulative = zipfCumulative(courses, properties.getZipfExponent());
+            int[] courseByRank = shuffledIndexes(courses, random);
+            int[] chosen = new int[perStudent];
+            EnrollmentWriter enrollmentWriter = new EnrollmentWriter(batchSize);
+            for (int i = 0; i < students; i++) {
+                chooseCourses(random, cumulative, chosen);
+                for (int rank : chosen) {
+                    enrollmentWriter.add(studentBase + i, courseBase + courseByRank[rank]);
+                }
+                enrollments += perStudent;
+            }
+            enrollmentWriter.flush();
+        }
+
+        restartIdentity("departments", departmentBase + departments);
+        restartIdentity("teachers", teacherBase + teachers);
+        restartIdentity("courses", courseBase + courses);
+        restartIdentity("students", studentBase + students);
+        restartIdentity("users", userBase + students);
+
+        System.out.println("===========================================");
+        System.out.println("Generated dataset in " + (System.currentTimeMillis() - start) + " ms:");
+        System.out.println("  " + departments + " departments, " + teachers + " teachers, " + courses + " courses");
+        System.out.println("  " + students + " students, " + enrollments + " enrollments");
+        System.out.println("  Logins: gteacherN / " + properties.getTeacherPassword()
+                + ", gstudentN / " + properties.getStudentPassword());
+        System.out.println("===========================================");
+
+        return new GeneratedDataset(departmentBase, departments, teacherBase, teachers,
+                courseBase, courses, studentBase, students, enrollments);
+    }
+
+    /**
+     * Cumulative Zipf probabilities: rank k has weight 1 / (k + 1)^exponent
+     */
+    static double[] zipfCumulative(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double total = 0;
+        for (int k = 0; k < size; k++) {
+            total += 1.0 / Math.pow(k + 1, exponent);
+            cumulative[k] = total;
+        }
+        for (int k = 0; k < size; k++) {
+            cumulative[k] /= total;
+        }
+        return cumulative;
+    }
+
+    /**
+     * Fill {@code chosen} with distinct ranks sampled from the cumulative distribution
+     */
+    static void chooseCourses(SplittableRandom random, double[] cumulative, int[] chosen) {
+        for (int n = 0; n < chosen.length; n++) {
+            int rank;
+            int attempts = 0;
+            do {
+                rank = sample(random, cumulative);
+                // Fall back to a uniform pick when the head of the distribution keeps colliding
+                if (++attempts > 32) {
+                    rank = random.nextInt(cumulative.length);
+                }
+            } while (contains(chosen, n, rank));
+            chosen[n] = rank;
+        }
+    }
+
+    private static int sample(SplittableRandom random, double[] cumulative) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return Math.min(index < 0 ? -index - 1 : index, cumulative.length - 1);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Random permutation of 0..size-1 so the most popular courses are spread across teachers
+     */
+    private static int[] shuffledIndexes(int size, SplittableRandom random) {
+        int[] indexes = new int[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = indexes[i];
+            indexes[i] = indexes[j];
+            indexes[j] = swap;
+        }
+        return indexes;
+    }
+
+    private long nextId(String table) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    /**
+     * Move the identity column past the explicitly inserted IDs (H2 and PostgreSQL syntax)
+     */
+    private void restartIdentity(String table, long next) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+    }
+
+    /**
+     * Collects rows and sends them as one JDBC batch every batchSize rows
+     */
+    private class BatchWriter {
+
+        private final String sql;
+        private final int batchSize;
+        private final List<Object[]> rows;
+
+        BatchWriter(String sql, int batchSize) {
+            this.sql = sql;
+            this.batchSize = batchSize;
+            this.rows = new ArrayList<>(batchSize);
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    /**
+     * Enrollment rows are by far the most numerous, so they are buffered as
+     * primitive pairs and bound with setLong instead of going through Object[] rows
+     */
+    private class EnrollmentWriter {
+
+        private final long[] studentIds;
+        private final long[] courseIds;
+        private int size;
+
+        EnrollmentWriter(int batchSize) {
+            this.studentIds = new long[batchSize];
+            this.courseIds = new long[batchSize];
+        }
+
+        void add(long studentId, long courseId) {
+            studentIds[size] = studentId;
+            courseIds[size] = courseId;
+            if (++size == studentIds.length) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (size == 0) {
+                return;
+            }
+            int rows = size;
+            jdbcTemplate.batchUpdate("INSERT INTO student_courses (student_id, course_id) VALUES (?, ?)",
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            ps.setLong(1, studentIds[i]);
+                            ps.setLong(2, courseIds[i]);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return rows;
+                        }
+                    });
+            size = 0;
+        }
+    }
+}
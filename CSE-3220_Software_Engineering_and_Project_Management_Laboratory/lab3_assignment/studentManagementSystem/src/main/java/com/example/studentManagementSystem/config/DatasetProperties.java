@@ -0,0 +1,48 @@
+package com.example.studentManagementSystem.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Synthetic dataset settings (app.dataset.*)
+ * Totals: departments x teachersPerDepartment teachers,
+ * teachers x coursesPerTeacher courses, students x enrollmentsPerStudent enrollments.
+ */
+@Data
+@ConfigurationProperties("app.dataset")
+public class DatasetProperties {
+
+    /** Generate the dataset on startup (after the demo data) */
+    private boolean enabled = false;
+
+    /** Random seed - the same seed always produces the same dataset */
+    private long seed = 42;
+
+    private int departments = 10;
+
+    private int teachersPerDepartment = 10;
+
+    private int coursesPerTeacher = 3;
+
+    private int students = 1000;
+
+    private int enrollmentsPerStudent = 5;
+
+    /** Zipf exponent for course popularity (0 = uniform, 1 = classic Zipf) */
+    private double zipfExponent = 1.0;
+
+    /** Rows per JDBC batch */
+    private int batchSize = 5000;
+
+    private String studentPassword = "student123";
+
+    private String teacherPassword = "teacher123";
+
+    public int getTeachers() {
+        return departments * teachersPerDepartment;
+    }
+
+    public int getCourses() {
+        return getTeachers() * coursesPerTeacher;
+    }
+}
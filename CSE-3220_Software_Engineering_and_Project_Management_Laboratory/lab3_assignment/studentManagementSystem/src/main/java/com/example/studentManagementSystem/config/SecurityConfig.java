@@ -1,33 +1,51 @@
 package com.example.studentManagementSystem.config;
 
+import com.example.studentManagementSystem.security.ApiTokenConfig;
 import com.example.studentManagementSystem.service.CustomUserDetailsService;
+import com.example.studentManagementSystem.tracing.TracingPasswordEncoder;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
 @RequiredArgsConstructor
+@Import(ApiTokenConfig.class)
 public class SecurityConfig {
 
     private final CustomUserDetailsService userDetailsService;
 
+    private final ObjectProvider<Tracer> tracer;
+
+    @Value("${app.security.bcrypt-strength:10}")
+    private int bcryptStrength;
+
     /**
-     * Password encoder using BCrypt algorithm
+     * Password encoder using BCrypt algorithm (strength from app.security.bcrypt-strength)
+     * Hashing and verification are traced as their own spans (no-op without a tracer, e.g. in slice tests).
      */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        return new TracingPasswordEncoder(new BCryptPasswordEncoder(bcryptStrength),
+                tracer.getIfAvailable(() -> Tracer.NOOP));
     }
 
     /**
@@ -49,11 +67,39 @@ public class SecurityConfig {
         return authConfig.getAuthenticationManager();
     }
 
+    /**
+     * API filter chain - /api/** only, checked before the form-login chain
+     * Stateless: no session is created or read; each request carries a signed bearer token
+     * (POST /api/auth/token) whose role claim becomes the authority.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http,
+                                                      JwtAuthenticationConverter apiTokenAuthenticationConverter) throws Exception {
+        http
+            .securityMatcher("/api/**")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .requestCache(cache -> cache.disable())
+            .authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.POST, "/api/auth/token").permitAll()
+                // Change feed lists ids of every entity, including other students' enrollments
+                .requestMatchers("/api/changes/**").hasRole("TEACHER")
+                .anyRequest().authenticated()
+            )
+            .oauth2ResourceServer(oauth2 -> oauth2
+                .jwt(jwt -> jwt.jwtAuthenticationConverter(apiTokenAuthenticationConverter))
+            );
+
+        return http.build();
+    }
+
     /**
      * Security filter chain - configures HTTP security
      * Implements role-based access control
      */
     @Bean
+    @Order(2)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             // Disable CSRF for simplicity (enable in production)
@@ -64,6 +110,7 @@ public class SecurityConfig {
                 // Public endpoints - accessible by everyone
                 .requestMatchers("/", "/login", "/about", "/css/**", "/js/**", "/images/**").permitAll()
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
                 
                 // Student-only endpoints
                 .requestMatchers("/students/profile", "/students/my-courses", "/students/my-department").hasRole("STUDENT")
@@ -80,6 +127,8 @@ public class SecurityConfig {
                 .requestMatchers("/teachers/**").hasRole("TEACHER")
                 .requestMatchers("/departments/**").hasRole("TEACHER")
                 .requestMatchers("/courses/**").hasRole("TEACHER")
+                .requestMatchers("/reports/**").hasRole("TEACHER")
+                .requestMatchers("/actuator/**").hasRole("TEACHER")
                 
                 // Dashboard accessible by both roles
                 .requestMatchers("/dashboard").hasAnyRole("STUDENT", "TEACHER")
@@ -102,7 +151,7 @@ public class SecurityConfig {
                 .logoutUrl("/logout")
                 .logoutSuccessUrl("/login?logout=true")
                 .invalidateHttpSession(true)
-                .deleteCookies("JSESSIONID")
+                .deleteCookies("SESSION")
                 .permitAll()
             )
             
@@ -0,0 +1,72 @@
+package com.example.studentManagementSystem.controller;
+
+import com.example.studentManagementSystem.service.ReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Report Controller - Handles statistics and exports
+ * Only accessible by teachers (ROLE_TEACHER)
+ * Reports complete asynchronously so request threads are not held while they run.
+ */
+@Controller
+@RequestMapping("/reports")
+@RequiredArgsConstructor
+public class ReportController {
+
+    private final ReportService reportService;
+
+    /**
+     * Department statistics
+     */
+    @GetMapping("/departments")
+    public CompletableFuture<String> departmentStatistics(Model model) {
+        return reportService.getDepartmentStatistics()
+                .handle((stats, ex) -> {
+                    if (ex != null) {
+                        model.addAttribute("stats", List.of());
+                        model.addAttribute("errorMessage", rootMessage(ex));
+                    } else {
+                        model.addAttribute("stats", stats);
+                    }
+                    return "report/departments";
+                });
+    }
+
+    /**
+     * Export all students as CSV
+     */
+    @GetMapping("/students/export")
+    public CompletableFuture<ResponseEntity<String>> exportStudents() {
+        return reportService.exportStudentsCsv()
+                .handle((csv, ex) -> {
+                    if (ex != null) {
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                .contentType(MediaType.TEXT_PLAIN)
+                                .body(rootMessage(ex));
+                    }
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.csv\"")
+                            .contentType(new MediaType("text", "csv"))
+                            .body(csv);
+                });
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable cause = ex;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage();
+    }
+}
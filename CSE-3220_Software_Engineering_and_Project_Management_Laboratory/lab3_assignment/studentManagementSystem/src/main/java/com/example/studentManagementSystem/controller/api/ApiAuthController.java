@@ -0,0 +1,52 @@
+package com.example.studentManagementSystem.controller.api;
+
+import com.example.studentManagementSystem.dto.ApiTokenRequest;
+import com.example.studentManagementSystem.dto.ApiTokenResponse;
+import com.example.studentManagementSystem.security.ApiPrincipal;
+import com.example.studentManagementSystem.security.ApiTokenService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * API Auth Controller - Token issuing for API clients (stateless, see SecurityConfig)
+ */
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class ApiAuthController {
+
+    private final ApiTokenService apiTokenService;
+
+    /**
+     * Exchange username/password for a bearer token (public)
+     */
+    @PostMapping("/token")
+    public ApiTokenResponse token(@Valid @RequestBody ApiTokenRequest request) {
+        return apiTokenService.issue(request.getUsername(), request.getPassword());
+    }
+
+    /**
+     * Claims of the calling token
+     */
+    @GetMapping("/me")
+    public ApiPrincipal me(Authentication authentication) {
+        return ApiPrincipal.of(authentication);
+    }
+
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Map<String, String>> authenticationFailed(AuthenticationException ex) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(Map.of("error", "Invalid username or password"));
+    }
+}
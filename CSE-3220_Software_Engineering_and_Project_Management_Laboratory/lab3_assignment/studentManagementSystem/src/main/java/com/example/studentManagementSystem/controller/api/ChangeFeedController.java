@@ -0,0 +1,45 @@
+package com.example.studentManagementSystem.controller.api;
+
+import com.example.studentManagementSystem.changes.ChangeFeedPage;
+import com.example.studentManagementSystem.changes.ChangeLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Change Feed API - what changed since a cursor, for downstream sync (Teacher only, see SecurityConfig)
+ *
+ * A client keeps the "next" cursor of its last page and asks again from there;
+ * "more" means it should ask again right away. A new client first notes the head,
+ * downloads the entities once, then follows the feed from that head.
+ */
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+public class ChangeFeedController {
+
+    private final ChangeLog changeLog;
+
+    @Value("${app.changes.page-size:500}")
+    private int defaultPageSize;
+
+    /**
+     * Changes after the given version
+     */
+    @GetMapping
+    public ChangeFeedPage changes(@RequestParam(defaultValue = "0") long since,
+                                  @RequestParam(required = false) Integer limit) {
+        return changeLog.read(since, limit != null ? limit : defaultPageSize);
+    }
+
+    /**
+     * Current head version, the starting cursor after a full download
+     */
+    @GetMapping("/head")
+    public long head() {
+        return changeLog.head();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.studentManagementSystem.controller.api;
+
+import com.example.studentManagementSystem.dto.CourseDTO;
+import com.example.studentManagementSystem.service.CourseService;
+import com.example.studentManagementSystem.versioning.ConditionalGet;
+import com.example.studentManagementSystem.versioning.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+/**
+ * Course API - JSON reads with conditional GET (ETag / Last-Modified)
+ * Enrollment counts are part of a course, so enroll/drop moves the course version too.
+ */
+@RestController
+@RequestMapping("/api/courses")
+@RequiredArgsConstructor
+public class CourseApiController {
+
+    private final CourseService courseService;
+    private final ConditionalGet conditionalGet;
+
+    /**
+     * List all courses
+     */
+    @GetMapping
+    public ResponseEntity<List<CourseDTO>> listCourses(ServletWebRequest request) {
+        return conditionalGet.respond(request, EntityType.COURSES, courseService::getAllCourses);
+    }
+
+    /**
+     * Course details
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<CourseDTO> getCourse(@PathVariable Long id, ServletWebRequest request) {
+        return conditionalGet.respond(request, EntityType.COURSES, () -> courseService.getCourseById(id));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.studentManagementSystem.controller.api;
+
+import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.service.DepartmentService;
+import com.example.studentManagementSystem.versioning.ConditionalGet;
+import com.example.studentManagementSystem.versioning.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+/**
+ * Department API - JSON reads with conditional GET (ETag / Last-Modified)
+ * Student and teacher counts are part of a department, so their changes move the department version too.
+ */
+@RestController
+@RequestMapping("/api/departments")
+@RequiredArgsConstructor
+public class DepartmentApiController {
+
+    private final DepartmentService departmentService;
+    private final ConditionalGet conditionalGet;
+
+    /**
+     * List all departments
+     */
+    @GetMapping
+    public ResponseEntity<List<DepartmentDTO>> listDepartments(ServletWebRequest request) {
+        return conditionalGet.respond(request, EntityType.DEPARTMENTS, departmentService::getAllDepartments);
+    }
+
+    /**
+     * Department details
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<DepartmentDTO> getDepartment(@PathVariable Long id, ServletWebRequest request) {
+        return conditionalGet.respond(request, EntityType.DEPARTMENTS, () -> departmentService.getDepartmentById(id));
+    }
+}
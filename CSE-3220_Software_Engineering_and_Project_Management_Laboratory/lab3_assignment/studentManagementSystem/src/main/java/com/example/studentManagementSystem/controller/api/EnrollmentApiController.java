@@ -0,0 +1,54 @@
+package com.example.studentManagementSystem.controller.api;
+
+import com.example.studentManagementSystem.dto.EnrollmentDTO;
+import com.example.studentManagementSystem.security.ApiPrincipal;
+import com.example.studentManagementSystem.service.StudentService;
+import com.example.studentManagementSystem.versioning.ConditionalGet;
+import com.example.studentManagementSystem.versioning.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+/**
+ * Enrollment API - (studentId, courseId) pairs with conditional GET (ETag / Last-Modified)
+ * Teachers see all enrollments; students only their own.
+ */
+@RestController
+@RequestMapping("/api/enrollments")
+@RequiredArgsConstructor
+public class EnrollmentApiController {
+
+    private final StudentService studentService;
+    private final ConditionalGet conditionalGet;
+
+    /**
+     * List enrollments, optionally filtered by student and/or course
+     */
+    @GetMapping
+    public ResponseEntity<List<EnrollmentDTO>> listEnrollments(@RequestParam(required = false) Long studentId,
+                                                               @RequestParam(required = false) Long courseId,
+                                                               Authentication authentication,
+                                                               ServletWebRequest request) {
+        Long visibleStudentId = visibleStudentId(ApiPrincipal.of(authentication), studentId);
+        return conditionalGet.respond(request, EntityType.ENROLLMENTS,
+                () -> studentService.getEnrollments(visibleStudentId, courseId));
+    }
+
+    private static Long visibleStudentId(ApiPrincipal principal, Long requested) {
+        if (!"ROLE_STUDENT".equals(principal.role())) {
+            return requested;
+        }
+        if (requested != null && !requested.equals(principal.studentId())) {
+            throw new AccessDeniedException("Students can only list their own enrollments");
+        }
+        return principal.studentId();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.studentManagementSystem.controller.api;
+
+import com.example.studentManagementSystem.dto.StudentDTO;
+import com.example.studentManagementSystem.service.StudentService;
+import com.example.studentManagementSystem.versioning.ConditionalGet;
+import com.example.studentManagementSystem.versioning.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+/**
+ * Student API - JSON reads with conditional GET (ETag / Last-Modified)
+ */
+@RestController
+@RequestMapping("/api/students")
+@RequiredArgsConstructor
+public class StudentApiController {
+
+    private final StudentService studentService;
+    private final ConditionalGet conditionalGet;
+
+    /**
+     * List all students
+     */
+    @GetMapping
+    public ResponseEntity<List<StudentDTO>> listStudents(ServletWebRequest request) {
+        return conditionalGet.respond(request, EntityType.STUDENTS, studentService::getAllStudents);
+    }
+
+    /**
+     * Student details
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<StudentDTO> getStudent(@PathVariable Long id, ServletWebRequest request) {
+        return conditionalGet.respond(request, EntityType.STUDENTS, () -> studentService.getStudentById(id));
+    }
+}
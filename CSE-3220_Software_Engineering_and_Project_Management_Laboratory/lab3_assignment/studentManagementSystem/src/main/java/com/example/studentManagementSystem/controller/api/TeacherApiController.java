@@ -0,0 +1,43 @@
+package com.example.studentManagementSystem.controller.api;
+
+import com.example.studentManagementSystem.dto.TeacherDTO;
+import com.example.studentManagementSystem.service.TeacherService;
+import com.example.studentManagementSystem.versioning.ConditionalGet;
+import com.example.studentManagementSystem.versioning.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+/**
+ * Teacher API - JSON reads with conditional GET (ETag / Last-Modified)
+ */
+@RestController
+@RequestMapping("/api/teachers")
+@RequiredArgsConstructor
+public class TeacherApiController {
+
+    private final TeacherService teacherService;
+    private final ConditionalGet conditionalGet;
+
+    /**
+     * List all teachers
+     */
+    @GetMapping
+    public ResponseEntity<List<TeacherDTO>> listTeachers(ServletWebRequest request) {
+        return conditionalGet.respond(request, EntityType.TEACHERS, teacherService::getAllTeachers);
+    }
+
+    /**
+     * Teacher details
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<TeacherDTO> getTeacher(@PathVariable Long id, ServletWebRequest request) {
+        return conditionalGet.respond(request, EntityType.TEACHERS, () -> teacherService.getTeacherById(id));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.studentManagementSystem.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Credentials exchanged for an API token (POST /api/auth/token)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiTokenRequest {
+
+    @NotBlank(message = "Username is required")
+    private String username;
+
+    @NotBlank(message = "Password is required")
+    private String password;
+}
@@ -0,0 +1,18 @@
+package com.example.studentManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Issued API token; sent back as "Authorization: Bearer {accessToken}"
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiTokenResponse {
+
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+}
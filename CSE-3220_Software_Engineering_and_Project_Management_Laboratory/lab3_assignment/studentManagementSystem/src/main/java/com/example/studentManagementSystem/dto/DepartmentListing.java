@@ -0,0 +1,13 @@
+package com.example.studentManagementSystem.dto;
+
+/**
+ * Immutable department listing row with student/teacher counts, as held by the listing cache
+ * (callers receive fresh DepartmentDTOs built from it)
+ */
+public record DepartmentListing(Long id, String name, String code, String description,
+                                int studentCount, int teacherCount) {
+
+    public DepartmentDTO toDTO() {
+        return new DepartmentDTO(id, name, code, description, studentCount, teacherCount);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.studentManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for Department statistics report
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentStatsDTO {
+    
+    private Long departmentId;
+    private String code;
+    private String name;
+    private long studentCount;
+    private long teacherCount;
+    private long courseCount;
+    private long enrollmentCount;
+}
@@ -0,0 +1,17 @@
+package com.example.studentManagementSystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one enrollment (student in course)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnrollmentDTO {
+
+    private Long studentId;
+    private Long courseId;
+}
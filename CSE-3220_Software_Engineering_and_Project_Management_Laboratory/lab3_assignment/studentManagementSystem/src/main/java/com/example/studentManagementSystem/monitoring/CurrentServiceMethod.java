@@ -0,0 +1,40 @@
+package com.example.studentManagementSystem.monitoring;
+
+/**
+ * Current Service Method - The innermost @Service method running on this thread
+ * Set by {@link ServiceMetricsAspect} so SQL statements can be attributed to their caller.
+ */
+public final class CurrentServiceMethod {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private CurrentServiceMethod() {
+    }
+
+    /**
+     * Mark the given method (e.g. "StudentService.getAllStudents") as current and return the previous one
+     */
+    static String enter(String method) {
+        String previous = CURRENT.get();
+        CURRENT.set(method);
+        return previous;
+    }
+
+    /**
+     * Restore the method returned by {@link #enter(String)}
+     */
+    static void exit(String previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Current service method, or null outside any service call
+     */
+    public static String get() {
+        return CURRENT.get();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.studentManagementSystem.monitoring;
+
+import com.example.studentManagementSystem.monitoring.jfr.ServiceCallEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service Metrics Aspect - Times every public method of every @Service
+ * Published as the "service.method" timer tagged by class, method and exception,
+ * and as a ServiceCallEvent (entity type, row count) while JFR is recording.
+ * The running method is exposed through {@link CurrentServiceMethod} for the slow-query log.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    static final String METRIC_NAME = "service.method";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("within(com.example.studentManagementSystem.service..*) "
+            + "&& @within(org.springframework.stereotype.Service) "
+            + "&& execution(public * *(..))")
+    public Object timeServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String previousMethod = CurrentServiceMethod.enter(
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+        ServiceCallEvent event = new ServiceCallEvent();
+        event.begin();
+        String exception = "none";
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            return result;
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            CurrentServiceMethod.exit(previousMethod);
+            event.end();
+            if (event.shouldCommit()) {
+                String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.service = service;
+                event.method = joinPoint.getSignature().getName();
+                event.entityType = service.endsWith("Service") ? service.substring(0, service.length() - 7) : service;
+                event.rowCount = rowCount(result);
+                event.exception = exception;
+                event.commit();
+            }
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Service method execution time")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Rows in a service result: collection/map size, 0 for void/null/empty Optional, otherwise 1
+     */
+    static int rowCount(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        return 1;
+    }
+}
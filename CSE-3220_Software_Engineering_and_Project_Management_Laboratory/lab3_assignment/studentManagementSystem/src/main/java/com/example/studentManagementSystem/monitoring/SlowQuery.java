@@ -0,0 +1,14 @@
+package com.example.studentManagementSystem.monitoring;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * One captured slow statement
+ *
+ * @param serviceMethod service method that ran it, null outside a service call
+ * @param rows          rows read (queries) or updated (updates/batches), -1 when unknown
+ */
+public record SlowQuery(String sql, List<String> parameters, String serviceMethod,
+                        long rows, long elapsedNanos, Instant executedAt) {
+}
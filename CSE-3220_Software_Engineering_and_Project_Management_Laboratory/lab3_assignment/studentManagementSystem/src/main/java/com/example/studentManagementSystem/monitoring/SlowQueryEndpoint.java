@@ -0,0 +1,74 @@
+package com.example.studentManagementSystem.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Actuator endpoint for the slow-query log (/actuator/slowqueries, ROLE_TEACHER)
+ *
+ * GET    retained slow statements grouped by SQL, highest total time first
+ *        (limit caps the number of groups)
+ * DELETE clears the log
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    @ReadOperation
+    public Map<String, Object> slowQueries(@Nullable Integer limit) {
+        List<SlowQueryLog.Summary> summaries = slowQueryLog.summarize();
+        if (limit != null && limit >= 0 && limit < summaries.size()) {
+            summaries = summaries.subList(0, limit);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("enabled", slowQueryLog.isEnabled());
+        body.put("thresholdMillis", slowQueryLog.getProperties().getThreshold().toMillis());
+        body.put("capacity", slowQueryLog.getProperties().getCapacity());
+        body.put("captured", slowQueryLog.captured());
+        body.put("queries", summaries.stream().map(SlowQueryEndpoint::toMap).toList());
+        return body;
+    }
+
+    @DeleteOperation
+    public Map<String, Object> clear() {
+        slowQueryLog.clear();
+        return slowQueries(null);
+    }
+
+    private static Map<String, Object> toMap(SlowQueryLog.Summary summary) {
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("sql", summary.sql());
+        query.put("count", summary.count());
+        query.put("totalMillis", millis(summary.totalNanos()));
+        query.put("maxMillis", millis(summary.maxNanos()));
+        query.put("meanMillis", millis(summary.totalNanos() / summary.count()));
+        query.put("rows", summary.rows());
+        query.put("serviceMethods", summary.serviceMethods());
+
+        SlowQuery slowest = summary.slowest();
+        Map<String, Object> sample = new LinkedHashMap<>();
+        sample.put("parameters", slowest.parameters());
+        sample.put("serviceMethod", slowest.serviceMethod());
+        sample.put("rows", slowest.rows());
+        sample.put("elapsedMillis", millis(slowest.elapsedNanos()));
+        sample.put("executedAt", slowest.executedAt());
+        query.put("slowest", sample);
+        return query;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
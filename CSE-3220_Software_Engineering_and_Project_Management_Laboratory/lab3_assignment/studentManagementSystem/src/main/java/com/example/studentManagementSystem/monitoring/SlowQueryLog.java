@@ -0,0 +1,166 @@
+package com.example.studentManagementSystem.monitoring;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Slow-Query Log - Keeps the most recent statements slower than the threshold
+ *
+ * Entries live in a fixed-size ring: writers claim a slot with one atomic increment
+ * and overwrite whatever was there, so recording never blocks or allocates beyond the entry.
+ * Fed by {@link StatementCountingDataSource}, read through the slowqueries actuator endpoint.
+ */
+@Component
+@EnableConfigurationProperties(SlowQueryProperties.class)
+public class SlowQueryLog {
+
+    private final SlowQueryProperties properties;
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<SlowQuery> ring;
+    private final AtomicLong sequence = new AtomicLong();
+
+    public SlowQueryLog(SlowQueryProperties properties) {
+        if (properties.getCapacity() < 1) {
+            throw new IllegalArgumentException("app.sql.slow-query.capacity must be at least 1");
+        }
+        this.properties = properties;
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.ring = new AtomicReferenceArray<>(properties.getCapacity());
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * Record a statement if it took at least the threshold
+     *
+     * @param parameters bound parameters by JDBC index (slot 0 unused), may be null
+     */
+    void record(String sql, Object[] parameters, long rows, long elapsedNanos) {
+        if (!properties.isEnabled() || elapsedNanos < thresholdNanos || sql == null) {
+            return;
+        }
+        SlowQuery query = new SlowQuery(sql, format(parameters), CurrentServiceMethod.get(),
+                rows, elapsedNanos, Instant.now());
+        long slot = sequence.getAndIncrement();
+        ring.set((int) (slot % ring.length()), query);
+    }
+
+    /**
+     * Captured entries, oldest overwritten first; at most capacity of them
+     */
+    public List<SlowQuery> entries() {
+        List<SlowQuery> entries = new ArrayList<>(ring.length());
+        for (int i = 0; i < ring.length(); i++) {
+            SlowQuery query = ring.get(i);
+            if (query != null) {
+                entries.add(query);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Slow statements captured since startup, including those already overwritten
+     */
+    public long captured() {
+        return sequence.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) {
+            ring.set(i, null);
+        }
+    }
+
+    /**
+     * Retained entries grouped by SQL text, highest total time first
+     */
+    public List<Summary> summarize() {
+        Map<String, List<SlowQuery>> bySql = new LinkedHashMap<>();
+        for (SlowQuery query : entries()) {
+            bySql.computeIfAbsent(query.sql(), sql -> new ArrayList<>()).add(query);
+        }
+        return bySql.values().stream()
+                .map(Summary::of)
+                .sorted(Comparator.comparingLong(Summary::totalNanos).reversed())
+                .toList();
+    }
+
+    public SlowQueryProperties getProperties() {
+        return properties;
+    }
+
+    private List<String> format(Object[] parameters) {
+        if (parameters == null || !properties.isCaptureParameters()) {
+            return List.of();
+        }
+        List<String> formatted = new ArrayList<>(parameters.length);
+        for (int i = 1; i < parameters.length; i++) {
+            formatted.add(format(parameters[i]));
+        }
+        return formatted;
+    }
+
+    private String format(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (value instanceof InputStream || value instanceof Reader || value instanceof Blob || value instanceof Clob) {
+            return "<" + value.getClass().getSimpleName() + ">";
+        }
+        String text = value instanceof Object[] array ? Arrays.toString(array) : value.toString();
+        int max = properties.getMaxParameterLength();
+        if (text.length() > max) {
+            text = text.substring(0, max) + "...";
+        }
+        return value instanceof CharSequence ? "'" + text + "'" : text;
+    }
+
+    /**
+     * All retained executions of one SQL statement
+     *
+     * @param slowest the slowest execution, with its parameters and service method
+     */
+    public record Summary(String sql, int count, long totalNanos, long maxNanos, long rows,
+                          List<String> serviceMethods, SlowQuery slowest) {
+
+        static Summary of(List<SlowQuery> queries) {
+            long total = 0;
+            long rows = 0;
+            SlowQuery slowest = queries.get(0);
+            TreeSet<String> methods = new TreeSet<>();
+            for (SlowQuery query : queries) {
+                total += query.elapsedNanos();
+                rows += Math.max(query.rows(), 0);
+                if (query.elapsedNanos() > slowest.elapsedNanos()) {
+                    slowest = query;
+                }
+                if (query.serviceMethod() != null) {
+                    methods.add(query.serviceMethod());
+                }
+            }
+            return new Summary(slowest.sql(), queries.size(), total, slowest.elapsedNanos(), rows,
+                    List.copyOf(methods), slowest);
+        }
+    }
+}
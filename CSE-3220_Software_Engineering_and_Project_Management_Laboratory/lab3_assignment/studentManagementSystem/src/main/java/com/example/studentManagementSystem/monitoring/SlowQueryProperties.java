@@ -0,0 +1,28 @@
+package com.example.studentManagementSystem.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Slow-query log settings (app.sql.slow-query.*)
+ * Statements taking at least the threshold (execution plus reading the result set) are kept
+ * in a ring buffer of the given capacity; older entries are overwritten.
+ */
+@Data
+@ConfigurationProperties("app.sql.slow-query")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    private Duration threshold = Duration.ofMillis(100);
+
+    private int capacity = 256;
+
+    /** Keep bound parameter values; disable where they may contain personal data */
+    private boolean captureParameters = true;
+
+    /** Longer parameter values are truncated */
+    private int maxParameterLength = 64;
+}
@@ -0,0 +1,93 @@
+package com.example.studentManagementSystem.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * SQL Statement Budget Filter - Counts SQL statements per HTTP request
+ * Logs a warning when a route exceeds its budget (N+1 detector), records the
+ * "http.server.requests.sql.statements" summary and exposes the count as a
+ * request attribute for tests. A request that goes async (parked by a workload lane,
+ * async report handlers) is recorded once, when its last dispatch finishes.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SqlStatementBudgetProperties.class)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENT_COUNT_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".COUNT";
+
+    private final SqlStatementBudgetProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    /**
+     * Requests parked by a workload lane, and async handlers (reports), finish on an ASYNC
+     * dispatch; their statements are added up over all dispatches of the request
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!properties.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int count = SqlStatementCounter.stop() + earlierDispatches(request);
+            request.setAttribute(STATEMENT_COUNT_ATTRIBUTE, count);
+            if (!request.isAsyncStarted()) {
+                record(request, count);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int count) {
+        String route = route(request);
+        meterRegistry.ifAvailable(registry -> DistributionSummary.builder("http.server.requests.sql.statements")
+                .description("SQL statements executed per HTTP request")
+                .tag("uri", route)
+                .register(registry)
+                .record(count));
+
+        int limit = properties.limitFor(route);
+        if (count > limit) {
+            log.warn("SQL statement budget exceeded: {} {} executed {} statements (budget {})",
+                    request.getMethod(), route, count, limit);
+        }
+    }
+
+    private static int earlierDispatches(HttpServletRequest request) {
+        Object count = request.getAttribute(STATEMENT_COUNT_ATTRIBUTE);
+        return request.getDispatcherType() == DispatcherType.ASYNC && count instanceof Integer earlier ? earlier : 0;
+    }
+
+    private static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.studentManagementSystem.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-request SQL statement budget (app.sql.statement-budget.*)
+ * Routes are matched by their request-mapping pattern, e.g. routes[/courses]=5
+ */
+@Data
+@ConfigurationProperties("app.sql.statement-budget")
+public class SqlStatementBudgetProperties {
+
+    private boolean enabled = true;
+
+    private int defaultLimit = 20;
+
+    private Map<String, Integer> routes = new HashMap<>();
+
+    public int limitFor(String route) {
+        return routes.getOrDefault(route, defaultLimit);
+    }
+}
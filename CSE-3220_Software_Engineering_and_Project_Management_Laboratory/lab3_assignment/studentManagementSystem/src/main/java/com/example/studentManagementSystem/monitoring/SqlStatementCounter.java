@@ -0,0 +1,44 @@
+package com.example.studentManagementSystem.monitoring;
+
+/**
+ * SQL Statement Counter - Counts statements executed by the current thread
+ * Counting is only active between start() and stop(); otherwise increments are ignored.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> COUNTER = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    /**
+     * Start (or restart) counting on the current thread
+     */
+    public static void start() {
+        COUNTER.set(new int[1]);
+    }
+
+    /**
+     * Stop counting on the current thread and return the number of statements executed
+     */
+    public static int stop() {
+        int[] counter = COUNTER.get();
+        COUNTER.remove();
+        return counter != null ? counter[0] : 0;
+    }
+
+    /**
+     * Number of statements executed so far on the current thread
+     */
+    public static int current() {
+        int[] counter = COUNTER.get();
+        return counter != null ? counter[0] : 0;
+    }
+
+    static void increment() {
+        int[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.example.studentManagementSystem.monitoring;
+
+import com.example.studentManagementSystem.monitoring.jfr.SqlStatementEvent;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.function.SingletonSupplier;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Statement Counting DataSource - Proxies connections and statements so every
+ * executed SQL statement is reported to {@link SqlStatementCounter}, as a
+ * SqlStatementEvent while JFR is recording, and to the {@link SlowQueryLog}
+ * (timed until its result set is closed, with bound parameters and row count)
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+    private final Supplier<SlowQueryLog> slowQueryLog;
+
+    public StatementCountingDataSource(DataSource targetDataSource) {
+        this(targetDataSource, () -> null);
+    }
+
+    /**
+     * @param slowQueryLog resolved on first use; may supply null (no slow-query capture)
+     */
+    public StatementCountingDataSource(DataSource targetDataSource, Supplier<SlowQueryLog> slowQueryLog) {
+        super(targetDataSource);
+        this.slowQueryLog = SingletonSupplier.of(slowQueryLog);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxyConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection proxyConnection(Connection connection) {
+        SlowQueryLog log = slowQueryLog.get();
+        return (Connection) Proxy.newProxyInstance(
+                StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection, log != null && log.isEnabled() ? log : null));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /**
+     * Wraps every statement created by the connection
+     */
+    private record ConnectionHandler(Connection target, SlowQueryLog slowQueryLog) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getName().equals("unwrap") && args[0] == Connection.class) {
+                return target;
+            }
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            // prepareStatement/prepareCall(sql, ...): the SQL is known up front
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+            if (result instanceof CallableStatement statement) {
+                return proxyStatement(statement, CallableStatement.class, sql);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxyStatement(statement, PreparedStatement.class, sql);
+            }
+            if (result instanceof Statement statement) {
+                return proxyStatement(statement, Statement.class, null);
+            }
+            return result;
+        }
+
+        private Object proxyStatement(Statement statement, Class<? extends Statement> type, String sql) {
+            return Proxy.newProxyInstance(
+                    StatementCountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type},
+                    new StatementHandler(statement, sql, slowQueryLog));
+        }
+    }
+
+    /**
+     * Counts execute*() calls; a batch counts as one statement
+     * With a slow-query log, also keeps the bound parameters (setXxx(index, value, ...))
+     * and times each execution; queries are timed until their result set is closed.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private final SlowQueryLog slowQueryLog;
+        private Object[] parameters;
+
+        StatementHandler(Statement target, String preparedSql, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                if (slowQueryLog != null) {
+                    captureParameter(name, args);
+                }
+                return StatementCountingDataSource.invoke(target, method, args);
+            }
+            SqlStatementCounter.increment();
+            // Plain Statement: execute(sql) / executeQuery(sql) carry the SQL
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            boolean batch = name.equals("executeBatch") || name.equals("executeLargeBatch");
+            SqlStatementEvent event = new SqlStatementEvent();
+            event.begin();
+            long start = System.nanoTime();
+            Object result = null;
+            try {
+                result = StatementCountingDataSource.invoke(target, method, args);
+                return slowQueryLog != null && result instanceof ResultSet resultSet
+                        ? proxyResultSet(resultSet, sql, start)
+                        : result;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.sql = SqlStatementEvent.truncate(sql);
+                    event.batch = batch;
+                    event.commit();
+                }
+                if (slowQueryLog != null && !(result instanceof ResultSet)) {
+                    slowQueryLog.record(sql, parameters, updatedRows(result), System.nanoTime() - start);
+                }
+            }
+        }
+
+        private void captureParameter(String name, Object[] args) {
+            if (name.equals("clearParameters")) {
+                parameters = null;
+            } else if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+                    && index > 0) {
+                if (parameters == null || parameters.length <= index) {
+                    parameters = Arrays.copyOf(parameters == null ? new Object[0] : parameters, index + 1);
+                }
+                parameters[index] = name.equals("setNull") ? null : args[1];
+            }
+        }
+
+        private Object proxyResultSet(ResultSet resultSet, String sql, long start) {
+            return Proxy.newProxyInstance(
+                    StatementCountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{ResultSet.class},
+                    new ResultSetHandler(resultSet, sql, parameters, start, slowQueryLog));
+        }
+
+        private static long updatedRows(Object result) {
+            if (result instanceof Integer count) {
+                return count;
+            }
+            if (result instanceof Long count) {
+                return count;
+            }
+            if (result instanceof int[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).sum();
+            }
+            if (result instanceof long[] counts) {
+                return Arrays.stream(counts).filter(count -> count > 0).sum();
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Counts rows read and reports the query to the slow-query log when the result set is closed
+     */
+    private static final class ResultSetHandler implements InvocationHandler {
+
+        private final ResultSet target;
+        private final String sql;
+        private final Object[] parameters;
+        private final long start;
+        private final SlowQueryLog slowQueryLog;
+        private long rows;
+        private boolean closed;
+
+        ResultSetHandler(ResultSet target, String sql, Object[] parameters, long start, SlowQueryLog slowQueryLog) {
+            this.target = target;
+            this.sql = sql;
+            this.parameters = parameters == null ? null : parameters.clone();
+            this.start = start;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementCountingDataSource.invoke(target, method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if (Boolean.TRUE.equals(result)) {
+                        rows++;
+                    }
+                }
+                case "close" -> {
+                    if (!closed) {
+                        closed = true;
+                        slowQueryLog.record(sql, parameters, rows, System.nanoTime() - start);
+                    }
+                }
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.studentManagementSystem.monitoring;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every DataSource bean in a {@link StatementCountingDataSource}
+ * Runs after initialization so pool properties are already bound to the target.
+ * The slow-query log is looked up on first connection, not while post-processors are created.
+ */
+@Component
+public class StatementCountingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    public StatementCountingDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+            return new StatementCountingDataSource(dataSource, slowQueryLog::getIfAvailable);
+        }
+        return bean;
+    }
+}
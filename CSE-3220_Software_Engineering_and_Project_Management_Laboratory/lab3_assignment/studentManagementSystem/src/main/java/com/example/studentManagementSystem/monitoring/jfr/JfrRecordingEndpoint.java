@@ -0,0 +1,120 @@
+package com.example.studentManagementSystem.monitoring.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint for a bounded JFR recording (/actuator/jfr)
+ *
+ * POST   starts a recording ("profile" settings plus the application events),
+ *        capped in duration and size; it stops by itself when the duration ends
+ * DELETE stops it early
+ * GET    shows the state and the .jfr file it is written to (complete once CLOSED)
+ *
+ * Only one recording at a time; starting while one runs returns the running one.
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final List<Class<? extends jdk.jfr.Event>> APPLICATION_EVENTS =
+            List.of(ServiceCallEvent.class, SqlStatementEvent.class, TemplateRenderEvent.class);
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final long maxSizeBytes;
+
+    private Recording recording;
+    private Path file;
+
+    public JfrRecordingEndpoint(@Value("${app.jfr.directory:${java.io.tmpdir}}") Path directory,
+                                @Value("${app.jfr.max-duration:PT10M}") Duration maxDuration,
+                                @Value("${app.jfr.max-size-mb:200}") long maxSizeMb) {
+        this.directory = directory;
+        this.maxDuration = maxDuration;
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            status.put("name", recording.getName());
+            status.put("startTime", recording.getStartTime());
+            status.put("duration", recording.getDuration());
+            status.put("maxSizeBytes", recording.getMaxSize());
+            status.put("file", file.toString());
+        }
+        status.put("maxDuration", maxDuration);
+        return status;
+    }
+
+    /**
+     * Start a recording; durationSeconds and maxSizeMb are clamped to the configured maximum
+     */
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable Long durationSeconds, @Nullable Long maxSizeMb)
+            throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        Duration duration = durationSeconds == null ? maxDuration
+                : Duration.ofSeconds(Math.max(1, Math.min(durationSeconds, maxDuration.toSeconds())));
+        long maxSize = maxSizeMb == null ? maxSizeBytes
+                : Math.max(1, Math.min(maxSizeMb * 1024 * 1024, maxSizeBytes));
+
+        Files.createDirectories(directory);
+        file = directory.resolve("studentManagementSystem-"
+                + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr");
+
+        Recording started = new Recording(Configuration.getConfiguration("profile"));
+        started.setName("studentManagementSystem");
+        APPLICATION_EVENTS.forEach(event -> started.enable(event).withThreshold(Duration.ZERO));
+        started.setDuration(duration);
+        started.setMaxSize(maxSize);
+        started.setToDisk(true);
+        started.setDestination(file);
+        started.start();
+
+        if (recording != null) {
+            recording.close();
+        }
+        recording = started;
+        log.info("JFR recording started for {} (max {} bytes) -> {}", duration, maxSize, file);
+        return status();
+    }
+
+    /**
+     * Stop the running recording; its data is written to the file shown in the status
+     */
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("JFR recording stopped -> {}", file);
+        }
+        return status();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.studentManagementSystem.monitoring.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.thymeleaf.spring6.view.ThymeleafView;
+
+import java.util.Map;
+
+/**
+ * ThymeleafView that reports every render as a TemplateRenderEvent
+ */
+public class JfrThymeleafView extends ThymeleafView {
+
+    @Override
+    public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+        TemplateRenderEvent event = new TemplateRenderEvent();
+        event.begin();
+        try {
+            super.render(model, request, response);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.template = getTemplateName();
+                event.commit();
+            }
+        }
+    }
+}
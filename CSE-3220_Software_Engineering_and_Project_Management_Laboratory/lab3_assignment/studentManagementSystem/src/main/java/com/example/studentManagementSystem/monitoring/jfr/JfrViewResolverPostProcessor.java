@@ -0,0 +1,20 @@
+package com.example.studentManagementSystem.monitoring.jfr;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+/**
+ * Makes the auto-configured ThymeleafViewResolver create JfrThymeleafView instances
+ */
+@Component
+public class JfrViewResolverPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        if (bean instanceof ThymeleafViewResolver viewResolver) {
+            viewResolver.setViewClass(JfrThymeleafView.class);
+        }
+        return bean;
+    }
+}
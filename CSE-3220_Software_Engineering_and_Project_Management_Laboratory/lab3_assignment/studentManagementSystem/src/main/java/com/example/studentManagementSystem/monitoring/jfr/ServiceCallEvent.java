@@ -0,0 +1,31 @@
+package com.example.studentManagementSystem.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for one @Service method call (emitted by ServiceMetricsAspect)
+ */
+@Name("studentManagementSystem.ServiceCall")
+@Label("Service Call")
+@Category({"Student Management", "Service"})
+@Description("Call of a public @Service method, with the entity type and number of rows returned")
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Service")
+    public String service;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Entity Type")
+    @Description("Entity the service manages, e.g. Course for CourseService")
+    public String entityType;
+
+    @Label("Row Count")
+    @Description("Size of a returned collection, 1 for a single object, 0 for void/null")
+    public int rowCount;
+
+    @Label("Exception")
+    public String exception;
+}
@@ -0,0 +1,30 @@
+package com.example.studentManagementSystem.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for one executed SQL statement (emitted by StatementCountingDataSource)
+ */
+@Name("studentManagementSystem.SqlStatement")
+@Label("SQL Statement")
+@Category({"Student Management", "Database"})
+@Description("Execution of a JDBC statement; the query string is truncated")
+@StackTrace(false)
+public class SqlStatementEvent extends Event {
+
+    /** Longest query string recorded */
+    public static final int MAX_SQL_LENGTH = 512;
+
+    @Label("SQL")
+    public String sql;
+
+    @Label("Batch")
+    public boolean batch;
+
+    public static String truncate(String sql) {
+        if (sql == null || sql.length() <= MAX_SQL_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.studentManagementSystem.monitoring.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * JFR event for one Thymeleaf template render (emitted by JfrThymeleafView)
+ */
+@Name("studentManagementSystem.TemplateRender")
+@Label("Template Render")
+@Category({"Student Management", "Web"})
+@Description("Rendering of a Thymeleaf view")
+@StackTrace(false)
+public class TemplateRenderEvent extends Event {
+
+    @Label("Template")
+    public String template;
+}
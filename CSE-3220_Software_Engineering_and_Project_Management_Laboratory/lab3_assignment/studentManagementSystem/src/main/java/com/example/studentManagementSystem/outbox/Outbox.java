@@ -0,0 +1,91 @@
+package com.example.studentManagementSystem.outbox;
+
+import com.example.studentManagementSystem.changes.Change;
+import com.example.studentManagementSystem.changes.ChangeOperation;
+import com.example.studentManagementSystem.versioning.EntityType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * outbox_events table: appended to inside the writing transaction, drained by the OutboxRelay
+ */
+@Component
+@RequiredArgsConstructor
+public class Outbox {
+
+    private static final String INSERT = "INSERT INTO outbox_events "
+            + "(version, entity_type, entity_id, related_id, operation, occurred_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String PENDING = "SELECT version, entity_type, entity_id, related_id, operation, "
+            + "occurred_at, attempts FROM outbox_events WHERE attempts < ? ORDER BY version FETCH FIRST ? ROWS ONLY";
+    private static final String DELETE = "DELETE FROM outbox_events WHERE version >= ? AND version <= ? AND attempts < ?";
+    private static final String FAILED = "UPDATE outbox_events SET attempts = attempts + 1 WHERE version = ?";
+    private static final String ACQUIRE_LEASE = "UPDATE outbox_relay_lease SET owner = ?, expires_at = ? "
+            + "WHERE id = 1 AND (owner = ? OR expires_at < ?)";
+    private static final String RELEASE_LEASE = "UPDATE outbox_relay_lease SET owner = NULL, expires_at = ? "
+            + "WHERE id = 1 AND owner = ?";
+    private static final String DEAD = "SELECT COUNT(*) FROM outbox_events WHERE attempts >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Add events for the given changes; must run in the transaction that made them
+     */
+    public void append(List<Change> changes, Timestamp occurredAt) {
+        List<Object[]> rows = new ArrayList<>(changes.size());
+        for (Change change : changes) {
+            rows.add(new Object[]{change.version(), change.type(), change.id(), change.relatedId(),
+                    change.operation(), occurredAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    /**
+     * Oldest undelivered events that have not used up their attempts
+     */
+    List<OutboxEvent> pending(int limit, int maxAttempts) {
+        return jdbcTemplate.query(PENDING,
+                (rs, rowNum) -> new OutboxEvent(rs.getLong(1), EntityType.ofTag(rs.getString(2)), rs.getLong(3),
+                        rs.getLong(4), ChangeOperation.ofCode(rs.getString(5)), rs.getTimestamp(6).toInstant(),
+                        rs.getInt(7)),
+                maxAttempts, limit);
+    }
+
+    /**
+     * Delete delivered events; versions commit in order, so the range holds no event that was not read
+     */
+    void delivered(long fromVersion, long toVersion, int maxAttempts) {
+        jdbcTemplate.update(DELETE, fromVersion, toVersion, maxAttempts);
+    }
+
+    void failed(long version) {
+        jdbcTemplate.update(FAILED, version);
+    }
+
+    /**
+     * Events that used up their attempts and are no longer delivered
+     */
+    long dead(int maxAttempts) {
+        Long dead = jdbcTemplate.queryForObject(DEAD, Long.class, maxAttempts);
+        return dead == null ? 0 : dead;
+    }
+
+    /**
+     * Take or renew the relay lease; false while another instance holds it
+     */
+    boolean acquireLease(String owner, Duration duration) {
+        Instant now = Instant.now();
+        return jdbcTemplate.update(ACQUIRE_LEASE, owner, Timestamp.from(now.plus(duration)), owner,
+                Timestamp.from(now)) == 1;
+    }
+
+    void releaseLease(String owner) {
+        jdbcTemplate.update(RELEASE_LEASE, Timestamp.from(Instant.EPOCH), owner);
+    }
+}
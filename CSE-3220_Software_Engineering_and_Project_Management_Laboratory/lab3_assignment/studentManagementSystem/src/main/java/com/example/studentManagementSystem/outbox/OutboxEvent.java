@@ -0,0 +1,19 @@
+package com.example.studentManagementSystem.outbox;
+
+import com.example.studentManagementSystem.changes.ChangeOperation;
+import com.example.studentManagementSystem.versioning.EntityType;
+
+import java.time.Instant;
+
+/**
+ * A committed entity change, as handed to OutboxListeners
+ *
+ * @param version   change_log version; increases with commit order and identifies the event,
+ *                  so a listener can ignore a redelivery it has already applied
+ * @param id        entity id; for enrollments the student id
+ * @param relatedId for enrollments the course id, 0 otherwise
+ * @param attempts  earlier deliveries of this event that failed
+ */
+public record OutboxEvent(long version, EntityType type, long id, long relatedId,
+                          ChangeOperation operation, Instant occurredAt, int attempts) {
+}
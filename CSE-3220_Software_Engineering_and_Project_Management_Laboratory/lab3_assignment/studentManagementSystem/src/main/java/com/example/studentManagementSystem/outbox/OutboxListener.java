@@ -0,0 +1,15 @@
+package com.example.studentManagementSystem.outbox;
+
+import java.util.List;
+
+/**
+ * Receiver of committed entity change events; every bean implementing it is registered with the OutboxRelay.
+ *
+ * Delivery is at least once: events arrive in version order, and a batch is delivered
+ * again (to every listener) when any listener throws, so handling must be idempotent.
+ * Listeners run on the relay thread; slow work should be handed off.
+ */
+public interface OutboxListener {
+
+    void onEvents(List<OutboxEvent> events);
+}
@@ -0,0 +1,30 @@
+package com.example.studentManagementSystem.outbox;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Outbox relay settings (app.outbox.*)
+ * Every poll-interval the relay delivers up to max-batches-per-poll batches of batch-size events.
+ */
+@Data
+@ConfigurationProperties("app.outbox")
+public class OutboxProperties {
+
+    private boolean enabled = true;
+
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    private int batchSize = 500;
+
+    /** Stop draining after this many full batches and let other scheduled tasks run */
+    private int maxBatchesPerPoll = 20;
+
+    /** Failed deliveries of one event before it is left in the table and skipped */
+    private int maxAttempts = 10;
+
+    /** How long the relaying instance holds the lease without renewing it */
+    private Duration lease = Duration.ofSeconds(30);
+}
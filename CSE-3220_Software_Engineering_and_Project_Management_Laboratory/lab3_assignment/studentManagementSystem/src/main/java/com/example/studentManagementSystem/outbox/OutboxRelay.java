@@ -0,0 +1,176 @@
+package com.example.studentManagementSystem.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers outbox events to every OutboxListener bean, at least once, in version order.
+ *
+ * Before each batch the relay takes (or renews) a lease row, so only one instance relays
+ * at a time and a long poll stops as soon as another instance has taken over. It reads
+ * the oldest events, hands them to the listeners and deletes them. A crash between
+ * delivery and delete means the batch is delivered again.
+ *
+ * When a listener throws, the batch is retried event by event: the events before the
+ * failing one are delivered and deleted, the failing event's attempts go up, and the
+ * relay tries again on the next poll. An event that fails max-attempts times is skipped
+ * and stays in the table for inspection; the "outbox.dead" gauge counts these events
+ * (read at startup and whenever another event dies).
+ *
+ * Without any OutboxListener bean the relay does nothing: the events stay in the table
+ * until a listener is deployed instead of being deleted as delivered to nobody.
+ *
+ * Meters: outbox.delivered, outbox.failures, outbox.dead and outbox.delivery.lag
+ * (commit to delivery).
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxRelay {
+
+    private final Outbox outbox;
+    private final ObjectProvider<OutboxListener> listeners;
+    private final OutboxProperties properties;
+    private final String owner = UUID.randomUUID().toString();
+    private final Counter delivered;
+    private final Counter failures;
+    private final Timer lag;
+    private final AtomicLong dead = new AtomicLong();
+
+    public OutboxRelay(Outbox outbox, ObjectProvider<OutboxListener> listeners,
+                       OutboxProperties properties, MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.listeners = listeners;
+        this.properties = properties;
+        this.delivered = Counter.builder("outbox.delivered")
+                .description("Outbox events delivered to all listeners and deleted")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.failures")
+                .description("Outbox event deliveries that a listener failed")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.delivery.lag")
+                .description("Time from the commit of a change to the delivery of its event")
+                .register(meterRegistry);
+        Gauge.builder("outbox.dead", dead, AtomicLong::get)
+                .description("Outbox events skipped after max-attempts failed deliveries")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${app.outbox.poll-interval:PT1S}",
+            fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void scheduledPoll() {
+        if (properties.isEnabled()) {
+            poll();
+        }
+    }
+
+    /**
+     * Deliver pending events if there are listeners and this instance holds the lease;
+     * returns the number delivered
+     */
+    public int poll() {
+        if (listeners.orderedStream().findAny().isEmpty()) {
+            log.debug("No OutboxListener beans, leaving the outbox events in place");
+            return 0;
+        }
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerPoll(); batch++) {
+            if (!outbox.acquireLease(owner, properties.getLease())) {
+                if (batch > 0) {
+                    log.warn("Outbox relay lost its lease after {} batches, stopping this poll", batch);
+                }
+                break;
+            }
+            List<OutboxEvent> events = outbox.pending(properties.getBatchSize(), properties.getMaxAttempts());
+            if (events.isEmpty()) {
+                break;
+            }
+            int count = deliver(events);
+            total += count;
+            if (count < events.size() || events.size() < properties.getBatchSize()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Read the number of dead events at startup (they stay in the table across restarts)
+     */
+    @PostConstruct
+    public void countDeadEvents() {
+        dead.set(outbox.dead(properties.getMaxAttempts()));
+    }
+
+    @PreDestroy
+    public void releaseLease() {
+        outbox.releaseLease(owner);
+    }
+
+    /**
+     * Deliver a batch; returns how many of its events were delivered and deleted
+     */
+    private int deliver(List<OutboxEvent> events) {
+        try {
+            dispatch(events);
+            completed(events);
+            return events.size();
+        } catch (RuntimeException e) {
+            log.warn("Outbox batch {}..{} failed, retrying event by event: {}",
+                    events.get(0).version(), events.get(events.size() - 1).version(), e.getMessage());
+        }
+        int count = 0;
+        for (OutboxEvent event : events) {
+            try {
+                dispatch(List.of(event));
+            } catch (RuntimeException e) {
+                failed(event, e);
+                return count;
+            }
+            completed(List.of(event));
+            count++;
+        }
+        return count;
+    }
+
+    private void dispatch(List<OutboxEvent> events) {
+        listeners.orderedStream().forEach(listener -> listener.onEvents(events));
+    }
+
+    private void completed(List<OutboxEvent> events) {
+        outbox.delivered(events.get(0).version(), events.get(events.size() - 1).version(), properties.getMaxAttempts());
+        delivered.increment(events.size());
+        Instant now = Instant.now();
+        for (OutboxEvent event : events) {
+            lag.record(Duration.between(event.occurredAt(), now));
+        }
+    }
+
+    private void failed(OutboxEvent event, RuntimeException e) {
+        outbox.failed(event.version());
+        failures.increment();
+        if (event.attempts() + 1 >= properties.getMaxAttempts()) {
+            log.error("Outbox event {} ({} {} {}) failed {} times and will no longer be delivered",
+                    event.version(), event.type().tag(), event.id(), event.operation().code(),
+                    properties.getMaxAttempts(), e);
+            dead.set(outbox.dead(properties.getMaxAttempts()));
+        } else {
+            log.warn("Outbox event {} failed (attempt {}): {}", event.version(), event.attempts() + 1, e.getMessage());
+        }
+    }
+}
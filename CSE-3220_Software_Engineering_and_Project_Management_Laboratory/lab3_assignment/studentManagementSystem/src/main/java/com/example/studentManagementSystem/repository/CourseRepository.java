@@ -1,9 +1,13 @@
 package com.example.studentManagementSystem.repository;
 
+import com.example.studentManagementSystem.catalog.CourseCatalogEntry;
 import com.example.studentManagementSystem.entity.Course;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +19,21 @@ public interface CourseRepository extends JpaRepository<Course, Long> {
     
     Optional<Course> findByCode(String code);
     
-    List<Course> findByTeacherId(Long teacherId);
+    @Query("select c from Course c where c.teacher.id = :teacherId")
+    List<Course> findByTeacherId(@Param("teacherId") Long teacherId);
     
     boolean existsByCode(String code);
+
+    /**
+     * Catalog read model rows: course, teacher name and enrollment count in one statement
+     */
+    String CATALOG_ENTRY = "select new com.example.studentManagementSystem.catalog.CourseCatalogEntry("
+            + "c.id, c.code, c.name, c.description, c.credits, t.id, concat(t.firstName, ' ', t.lastName), "
+            + "size(c.enrolledStudents)) from Course c left join c.teacher t";
+
+    @Query(CATALOG_ENTRY + " order by c.id")
+    List<CourseCatalogEntry> findCatalogEntries();
+
+    @Query(CATALOG_ENTRY + " where c.id in :ids")
+    List<CourseCatalogEntry> findCatalogEntriesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,9 +1,12 @@
 package com.example.studentManagementSystem.repository;
 
+import com.example.studentManagementSystem.dto.DepartmentListing;
 import com.example.studentManagementSystem.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,4 +22,12 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     boolean existsByCode(String code);
     
     boolean existsByName(String name);
+
+    /**
+     * Department listing with student/teacher counts in one statement (no collection loads)
+     */
+    @Query("select new com.example.studentManagementSystem.dto.DepartmentListing("
+            + "d.id, d.name, d.code, d.description, size(d.students), size(d.teachers)) "
+            + "from Department d order by d.id")
+    List<DepartmentListing> findAllListings();
 }
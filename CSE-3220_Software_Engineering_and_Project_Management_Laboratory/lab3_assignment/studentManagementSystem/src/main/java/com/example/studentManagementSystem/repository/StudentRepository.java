@@ -1,7 +1,10 @@
 package com.example.studentManagementSystem.repository;
 
+import com.example.studentManagementSystem.dto.EnrollmentDTO;
 import com.example.studentManagementSystem.entity.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,11 +20,28 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     
     Optional<Student> findByEmail(String email);
     
-    Optional<Student> findByUserId(Long userId);
+    @Query("select s from Student s where s.user.id = :userId")
+    Optional<Student> findByUserId(@Param("userId") Long userId);
     
-    List<Student> findByDepartmentId(Long departmentId);
+    @Query("select s from Student s where s.department.id = :departmentId")
+    List<Student> findByDepartmentId(@Param("departmentId") Long departmentId);
     
     boolean existsByStudentId(String studentId);
     
     boolean existsByEmail(String email);
+
+    /**
+     * Enrollment pairs straight from the join table rows (no entities loaded)
+     */
+    String ENROLLMENT = "select new com.example.studentManagementSystem.dto.EnrollmentDTO(s.id, c.id) "
+            + "from Student s join s.enrolledCourses c";
+
+    @Query(ENROLLMENT + " order by s.id, c.id")
+    List<EnrollmentDTO> findAllEnrollments();
+
+    @Query(ENROLLMENT + " where s.id = :studentId order by c.id")
+    List<EnrollmentDTO> findEnrollmentsByStudentId(@Param("studentId") Long studentId);
+
+    @Query(ENROLLMENT + " where c.id = :courseId order by s.id")
+    List<EnrollmentDTO> findEnrollmentsByCourseId(@Param("courseId") Long courseId);
 }
@@ -2,6 +2,8 @@ package com.example.studentManagementSystem.repository;
 
 import com.example.studentManagementSystem.entity.Teacher;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,9 +17,11 @@ public interface TeacherRepository extends JpaRepository<Teacher, Long> {
     
     Optional<Teacher> findByEmail(String email);
     
-    Optional<Teacher> findByUserId(Long userId);
+    @Query("select t from Teacher t where t.user.id = :userId")
+    Optional<Teacher> findByUserId(@Param("userId") Long userId);
     
-    List<Teacher> findByDepartmentId(Long departmentId);
+    @Query("select t from Teacher t where t.department.id = :departmentId")
+    List<Teacher> findByDepartmentId(@Param("departmentId") Long departmentId);
     
     boolean existsByEmail(String email);
 }
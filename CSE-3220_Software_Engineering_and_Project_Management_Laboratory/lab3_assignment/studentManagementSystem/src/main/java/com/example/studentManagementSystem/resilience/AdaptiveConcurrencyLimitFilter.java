@@ -0,0 +1,146 @@
+package com.example.studentManagementSystem.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Adaptive Concurrency Limit Filter - sheds load before it reaches the services
+ * Each route group (student self-service, teacher CRUD, auth) has its own
+ * AimdLimiter. Requests over the current limit get 503 with Retry-After at once
+ * instead of queueing for a Tomcat thread behind a slow database.
+ *
+ * Runs after the WorkloadLaneFilter: a request parked in a lane takes its slot on the
+ * ASYNC re-dispatch that actually runs it, so queue time never counts as latency.
+ *
+ * Metrics: "concurrency.limit" and "concurrency.in.flight" gauges and the
+ * "concurrency.rejected" counter, all tagged by group.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /** Set while a request holds a slot, so its later ASYNC dispatches do not take another */
+    private static final String SLOT_ATTRIBUTE = AdaptiveConcurrencyLimitFilter.class.getName() + ".SLOT";
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final RouteGroups<AimdLimiter> limiters = new RouteGroups<>();
+
+    public AdaptiveConcurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                          ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (ConcurrencyLimitProperties.Group group : properties.getGroups()) {
+            AimdLimiter limiter = new AimdLimiter(group);
+            limiters.add(limiter, group.getPaths());
+            meterRegistry.ifAvailable(registry -> {
+                Gauge.builder("concurrency.limit", limiter, AimdLimiter::getLimit)
+                        .description("Current adaptive concurrency limit")
+                        .tag("group", limiter.getName())
+                        .register(registry);
+                Gauge.builder("concurrency.in.flight", limiter, AimdLimiter::getInFlight)
+                        .description("Requests currently holding a concurrency slot")
+                        .tag("group", limiter.getName())
+                        .register(registry);
+            });
+        }
+    }
+
+    /**
+     * Requests parked by the WorkloadLaneFilter first reach this filter on their ASYNC dispatch
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AimdLimiter limiter = properties.isEnabled() ? limiterFor(request) : null;
+        if (limiter == null || request.getAttribute(SLOT_ATTRIBUTE) != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        int inFlight = limiter.tryAcquire();
+        if (inFlight == 0) {
+            reject(limiter, request, response);
+            return;
+        }
+        request.setAttribute(SLOT_ATTRIBUTE, Boolean.TRUE);
+        long start = System.nanoTime();
+        boolean async = false;
+        try {
+            filterChain.doFilter(request, response);
+            if (request.isAsyncStarted()) {
+                // Async requests (reports) finish on another thread; keep the slot until then
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        limiter.release(System.nanoTime() - start, inFlight);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+                async = true;
+            }
+        } finally {
+            if (!async) {
+                request.removeAttribute(SLOT_ATTRIBUTE);
+                limiter.release(System.nanoTime() - start, inFlight);
+            }
+        }
+    }
+
+    /**
+     * Limiter of the first group whose patterns match the request path, or null
+     */
+    AimdLimiter limiterFor(HttpServletRequest request) {
+        return limiters.match(request);
+    }
+
+    private void reject(AimdLimiter limiter, HttpServletRequest request,
+                        HttpServletResponse response) throws IOException {
+        log.debug("Concurrency limit {} of group {} reached, shedding {} {}",
+                limiter.getLimit(), limiter.getName(), request.getMethod(), request.getRequestURI());
+        meterRegistry.ifAvailable(registry -> Counter.builder("concurrency.rejected")
+                .description("Requests shed because the group's concurrency limit was reached")
+                .tag("group", limiter.getName())
+                .register(registry)
+                .increment());
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Server busy, please retry in " + properties.getRetryAfterSeconds() + "s");
+    }
+}
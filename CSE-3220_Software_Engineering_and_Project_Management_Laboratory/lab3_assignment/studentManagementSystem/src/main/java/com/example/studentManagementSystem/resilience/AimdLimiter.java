@@ -0,0 +1,79 @@
+package com.example.studentManagementSystem.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AIMD concurrency limit driven by request latency.
+ * A request slower than the latency threshold multiplies the limit by the backoff
+ * ratio; a fast request grows it by one while the limit is actually being used
+ * (at least half of it in flight). The limit stays within [minLimit, maxLimit].
+ */
+public class AimdLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile int limit;
+
+    public AimdLimiter(ConcurrencyLimitProperties.Group group) {
+        if (group.getMinLimit() < 1 || group.getMaxLimit() < group.getMinLimit()) {
+            throw new IllegalArgumentException("Invalid concurrency limits for group " + group.getName()
+                    + ": min " + group.getMinLimit() + ", max " + group.getMaxLimit());
+        }
+        this.name = group.getName();
+        this.minLimit = group.getMinLimit();
+        this.maxLimit = group.getMaxLimit();
+        this.latencyThresholdNanos = group.getLatencyThreshold().toNanos();
+        this.backoffRatio = group.getBackoffRatio();
+        this.limit = Math.max(minLimit, Math.min(maxLimit, group.getInitialLimit()));
+    }
+
+    /**
+     * Take a slot, or return false immediately when the limit is reached
+     *
+     * @return in-flight count including this request, or 0 when rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return 0;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Release the slot and adjust the limit from the observed latency
+     *
+     * @param inFlightAtStart value returned by tryAcquire
+     */
+    public void release(long latencyNanos, int inFlightAtStart) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            if (latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, (int) (limit * backoffRatio));
+            } else if (inFlightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.studentManagementSystem.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Workload lanes (app.bulkhead.*)
+ * Lanes are matched in order by Ant path pattern; unmatched requests run outside any lane.
+ * Keep the sum of max-concurrent below server.tomcat.threads.max so no lane can take every thread.
+ */
+@Data
+@ConfigurationProperties("app.bulkhead")
+public class BulkheadProperties {
+
+    private boolean enabled = true;
+
+    /** Retry-After header (seconds) sent when a lane's queue is full or times out */
+    private int retryAfterSeconds = 1;
+
+    private List<Lane> lanes = new ArrayList<>();
+
+    @Data
+    public static class Lane {
+
+        /** Metric tag, e.g. teacher-crud */
+        private String name;
+
+        /** Ant path patterns, e.g. /courses/** */
+        private List<String> paths = new ArrayList<>();
+
+        /** Requests of this lane executing at once (each holds a Tomcat thread) */
+        private int maxConcurrent = 20;
+
+        /** Requests parked (async, no thread held) waiting for a slot */
+        private int maxQueued = 100;
+
+        /** Parked requests still waiting after this get 503 */
+        private Duration queueTimeout = Duration.ofSeconds(5);
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.studentManagementSystem.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Adaptive concurrency limits per route group (app.concurrency-limit.*)
+ * Groups are matched in order by Ant path pattern; unmatched requests are not limited.
+ */
+@Data
+@ConfigurationProperties("app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Retry-After header (seconds) sent with shed requests */
+    private int retryAfterSeconds = 1;
+
+    private List<Group> groups = new ArrayList<>();
+
+    @Data
+    public static class Group {
+
+        /** Metric tag, e.g. student-self-service */
+        private String name;
+
+        /** Ant path patterns, e.g. /students/enroll/** */
+        private List<String> paths = new ArrayList<>();
+
+        private int initialLimit = 20;
+
+        private int minLimit = 1;
+
+        private int maxLimit = 200;
+
+        /** Requests slower than this shrink the limit; faster ones grow it */
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        /** Multiplicative decrease applied to the limit after a slow request */
+        private double backoffRatio = 0.9;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.studentManagementSystem.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Principal Rate Limit Filter - per-user token buckets on mutating routes (enroll/drop)
+ * Runs after the Spring Security filter chain, so the caller is known (form login or
+ * API token). A principal whose bucket is empty gets 429 with Retry-After before any
+ * transaction is started. Anonymous requests are left to Spring Security.
+ *
+ * Metrics, tagged by rule: "ratelimit.throttled" counter, "ratelimit.principals" and
+ * "ratelimit.throttled.principals" gauges, "ratelimit.evicted" counter (reason idle/capacity).
+ */
+@Slf4j
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class PrincipalRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ADMITTED_ATTRIBUTE = PrincipalRateLimitFilter.class.getName() + ".ADMITTED";
+
+    private record LimitedRoute(PrincipalRateLimiter limiter, Set<String> methods) {
+    }
+
+    private final RateLimitProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final RouteGroups<LimitedRoute> routes = new RouteGroups<>();
+    private final List<PrincipalRateLimiter> limiters = new ArrayList<>();
+
+    public PrincipalRateLimitFilter(RateLimitProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            PrincipalRateLimiter limiter = new PrincipalRateLimiter(rule, properties.getMaxPrincipals(), System::nanoTime);
+            Set<String> methods = rule.getMethods().stream()
+                    .map(m -> m.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            routes.add(new LimitedRoute(limiter, methods), rule.getPaths());
+            limiters.add(limiter);
+            meterRegistry.ifAvailable(registry -> register(registry, limiter));
+        }
+    }
+
+    private static void register(MeterRegistry registry, PrincipalRateLimiter limiter) {
+        Gauge.builder("ratelimit.principals", limiter, PrincipalRateLimiter::getPrincipals)
+                .description("Principals with a tracked token bucket")
+                .tag("rule", limiter.getName())
+                .register(registry);
+        Gauge.builder("ratelimit.throttled.principals", limiter, PrincipalRateLimiter::getThrottledPrincipals)
+                .description("Tracked principals refused at least once")
+                .tag("rule", limiter.getName())
+                .register(registry);
+        FunctionCounter.builder("ratelimit.evicted", limiter, PrincipalRateLimiter::getEvictedIdle)
+                .description("Token buckets dropped")
+                .tags("rule", limiter.getName(), "reason", "idle")
+                .register(registry);
+        FunctionCounter.builder("ratelimit.evicted", limiter, PrincipalRateLimiter::getEvictedOverCapacity)
+                .description("Token buckets dropped")
+                .tags("rule", limiter.getName(), "reason", "capacity")
+                .register(registry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        PrincipalRateLimiter limiter = properties.isEnabled() ? limiterFor(request) : null;
+        Principal principal = request.getUserPrincipal();
+        if (limiter == null || principal == null || request.getAttribute(ADMITTED_ATTRIBUTE) != null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = limiter.tryAcquire(principal.getName());
+        if (waitNanos > 0) {
+            reject(limiter, principal, waitNanos, request, response);
+            return;
+        }
+        request.setAttribute(ADMITTED_ATTRIBUTE, Boolean.TRUE);
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Requests parked by a workload lane first reach this filter on their async dispatch
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    /**
+     * Limiter of the first rule matching the request path and method, or null
+     */
+    PrincipalRateLimiter limiterFor(HttpServletRequest request) {
+        LimitedRoute route = routes.match(request);
+        return route != null && route.methods().contains(request.getMethod()) ? route.limiter() : null;
+    }
+
+    /**
+     * Drop buckets of principals that have been idle long enough to refill
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-interval:PT1M}")
+    public void sweep() {
+        limiters.forEach(PrincipalRateLimiter::sweep);
+    }
+
+    private void reject(PrincipalRateLimiter limiter, Principal principal, long waitNanos,
+                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        log.debug("Rate limit {} exceeded by {}, refusing {} {} for {}s",
+                limiter.getName(), principal.getName(), request.getMethod(), request.getRequestURI(), retryAfterSeconds);
+        meterRegistry.ifAvailable(registry -> Counter.builder("ratelimit.throttled")
+                .description("Requests refused because the principal's token bucket was empty")
+                .tag("rule", limiter.getName())
+                .register(registry)
+                .increment());
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Too many requests, please retry in " + retryAfterSeconds + "s");
+    }
+}
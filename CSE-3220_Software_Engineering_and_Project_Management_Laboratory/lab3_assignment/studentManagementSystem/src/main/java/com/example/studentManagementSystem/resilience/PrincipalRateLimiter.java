@@ -0,0 +1,120 @@
+package com.example.studentManagementSystem.resilience;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets of one rate-limit rule, one per principal
+ * Memory is bounded: buckets that have refilled completely are dropped by sweep()
+ * (a new principal gets an identical full bucket). When a new principal arrives with
+ * maxPrincipals already tracked, the least throttled buckets are evicted as well, down to
+ * 90% of maxPrincipals so the eviction cost is spread over many new principals.
+ */
+public class PrincipalRateLimiter {
+
+    private final String name;
+    private final int capacity;
+    private final double refillPerSecond;
+    private final int maxPrincipals;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+    private final AtomicLong evictedIdle = new AtomicLong();
+    private final AtomicLong evictedOverCapacity = new AtomicLong();
+
+    public PrincipalRateLimiter(RateLimitProperties.Rule rule, int maxPrincipals, LongSupplier clock) {
+        this.name = rule.getName();
+        this.capacity = rule.getCapacity();
+        this.refillPerSecond = rule.getRefillPerSecond();
+        this.maxPrincipals = maxPrincipals;
+        this.clock = clock;
+        new TokenBucket(capacity, refillPerSecond, 0); // validates the rule at startup
+    }
+
+    /**
+     * Take a token from the principal's bucket
+     *
+     * @return 0 when allowed, otherwise nanoseconds until the principal may retry
+     */
+    public long tryAcquire(String principal) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.get(principal);
+        if (bucket == null) {
+            if (buckets.size() >= maxPrincipals) {
+                sweep(maxPrincipals - Math.max(1, maxPrincipals / 10));
+            }
+            bucket = buckets.computeIfAbsent(principal, p -> new TokenBucket(capacity, refillPerSecond, now));
+        }
+        return bucket.tryAcquire(now);
+    }
+
+    /**
+     * Drop full buckets (scheduled)
+     */
+    public void sweep() {
+        sweep(maxPrincipals);
+    }
+
+    /**
+     * Drop full buckets, then the least throttled ones while more than target remain
+     * Only one thread sweeps at a time; others carry on without waiting.
+     */
+    private void sweep(int target) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            buckets.forEach((principal, bucket) -> {
+                if (bucket.isFull(now) && buckets.remove(principal, bucket)) {
+                    evictedIdle.incrementAndGet();
+                }
+            });
+            int excess = buckets.size() - target;
+            if (excess > 0) {
+                buckets.entrySet().stream()
+                        .sorted(Comparator.comparingLong((Map.Entry<String, TokenBucket> e) -> e.getValue().getThrottled())
+                                .thenComparingLong(e -> -e.getValue().availableTokens(now)))
+                        .limit(excess)
+                        .toList()
+                        .forEach(e -> {
+                            if (buckets.remove(e.getKey(), e.getValue())) {
+                                evictedOverCapacity.incrementAndGet();
+                            }
+                        });
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Principals currently tracked
+     */
+    public int getPrincipals() {
+        return buckets.size();
+    }
+
+    /**
+     * Tracked principals refused at least once (the callers being throttled now or recently)
+     */
+    public long getThrottledPrincipals() {
+        return buckets.values().stream().filter(b -> b.getThrottled() > 0).count();
+    }
+
+    public long getEvictedIdle() {
+        return evictedIdle.get();
+    }
+
+    public long getEvictedOverCapacity() {
+        return evictedOverCapacity.get();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.studentManagementSystem.resilience;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-principal rate limits on mutating routes (app.rate-limit.*)
+ * Rules are matched in order by Ant path pattern and HTTP method; each rule keeps
+ * one token bucket per authenticated principal.
+ */
+@Data
+@ConfigurationProperties("app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Most principals tracked per rule; beyond it the least useful buckets are evicted */
+    private int maxPrincipals = 10_000;
+
+    /** How often buckets that have refilled completely (idle principals) are dropped */
+    private Duration sweepInterval = Duration.ofMinutes(1);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Data
+    public static class Rule {
+
+        /** Metric tag, e.g. enrollment */
+        private String name;
+
+        /** Ant path patterns, e.g. /students/enroll/** */
+        private List<String> paths = new ArrayList<>();
+
+        /** Limited methods; other methods on the same paths pass through */
+        private List<String> methods = new ArrayList<>(List.of("POST", "PUT", "PATCH", "DELETE"));
+
+        /** Bucket size: requests a principal may burst after being idle */
+        private int capacity = 10;
+
+        /** Tokens added back per second */
+        private double refillPerSecond = 1.0;
+    }
+}
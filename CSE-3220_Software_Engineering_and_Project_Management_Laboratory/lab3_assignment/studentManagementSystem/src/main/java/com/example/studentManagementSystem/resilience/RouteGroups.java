@@ -0,0 +1,38 @@
+package com.example.studentManagementSystem.resilience;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ordered route classification by Ant path pattern (first match wins)
+ */
+class RouteGroups<T> {
+
+    private record Group<T>(T value, List<String> patterns) {
+    }
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<Group<T>> groups = new ArrayList<>();
+
+    void add(T value, List<String> patterns) {
+        groups.add(new Group<>(value, List.copyOf(patterns)));
+    }
+
+    /**
+     * Value of the first group matching the request path, or null
+     */
+    T match(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Group<T> group : groups) {
+            for (String pattern : group.patterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group.value();
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.studentManagementSystem.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket for one principal
+ * Kept as a single "theoretical arrival time" (the GCRA form of a token bucket):
+ * the instant at which the bucket would be full again. Taking a token pushes it one
+ * refill interval forward; a request is refused when that would put it more than
+ * capacity intervals ahead of now. One CAS per request, no allocation, no timer.
+ */
+class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAt;
+    private final AtomicLong throttled = new AtomicLong();
+
+    TokenBucket(int capacity, double refillPerSecond, long nowNanos) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Invalid token bucket: capacity " + capacity
+                    + ", refill " + refillPerSecond + "/s");
+        }
+        this.intervalNanos = Math.max(1, (long) (1_000_000_000L / refillPerSecond));
+        this.burstNanos = intervalNanos * capacity;
+        this.fullAt = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take one token
+     *
+     * @return 0 when taken, otherwise nanoseconds until a token is available
+     */
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long wait = next - nowNanos - burstNanos;
+            if (wait > 0) {
+                throttled.incrementAndGet();
+                return wait;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Whether the bucket has refilled completely; dropping it then loses nothing
+     */
+    boolean isFull(long nowNanos) {
+        return fullAt.get() - nowNanos <= 0;
+    }
+
+    long availableTokens(long nowNanos) {
+        return (burstNanos - Math.max(0, fullAt.get() - nowNanos)) / intervalNanos;
+    }
+
+    /**
+     * Requests refused since this bucket was created
+     */
+    long getThrottled() {
+        return throttled.get();
+    }
+}
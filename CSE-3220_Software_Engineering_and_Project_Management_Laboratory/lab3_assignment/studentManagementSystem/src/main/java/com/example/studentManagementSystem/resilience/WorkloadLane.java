@@ -0,0 +1,86 @@
+package com.example.studentManagementSystem.resilience;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * One bulkhead lane: at most maxConcurrent requests run, up to maxQueued wait
+ * as started async contexts (no thread held), the rest are rejected.
+ * A finishing request hands its slot directly to the oldest waiting one.
+ */
+public class WorkloadLane {
+
+    /**
+     * Outcome of WorkloadLane.enter
+     */
+    public enum Admission { RUN, QUEUED, REJECTED }
+
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final long queueTimeoutMillis;
+    private final Deque<AsyncContext> queue = new ArrayDeque<>();
+
+    private int active;
+
+    public WorkloadLane(BulkheadProperties.Lane lane) {
+        if (lane.getMaxConcurrent() < 1 || lane.getMaxQueued() < 0) {
+            throw new IllegalArgumentException("Invalid bulkhead lane " + lane.getName()
+                    + ": max-concurrent " + lane.getMaxConcurrent() + ", max-queued " + lane.getMaxQueued());
+        }
+        this.name = lane.getName();
+        this.maxConcurrent = lane.getMaxConcurrent();
+        this.maxQueued = lane.getMaxQueued();
+        this.queueTimeoutMillis = lane.getQueueTimeout().toMillis();
+    }
+
+    /**
+     * Take a slot (RUN), or start async processing and park the request (QUEUED), or REJECTED
+     */
+    public synchronized Admission enter(HttpServletRequest request) {
+        if (active < maxConcurrent) {
+            active++;
+            return Admission.RUN;
+        }
+        if (queue.size() >= maxQueued) {
+            return Admission.REJECTED;
+        }
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(queueTimeoutMillis);
+        queue.addLast(asyncContext);
+        return Admission.QUEUED;
+    }
+
+    /**
+     * Give up the slot: returns the parked request that now owns it, or null when the slot is freed
+     */
+    public synchronized AsyncContext leave() {
+        AsyncContext next = queue.pollFirst();
+        if (next == null) {
+            active--;
+        }
+        return next;
+    }
+
+    /**
+     * Remove a parked request (queue timeout); false when it already received a slot
+     */
+    public synchronized boolean abandon(AsyncContext asyncContext) {
+        return queue.remove(asyncContext);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getActive() {
+        return active;
+    }
+
+    public synchronized int getQueued() {
+        return queue.size();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.studentManagementSystem.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.*;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Workload Lane Filter - bulkheads per workload class (student self-service, teacher CRUD)
+ *
+ * Each lane lets at most max-concurrent requests run on Tomcat threads. Further
+ * requests are parked with startAsync(), so they hold no thread while waiting,
+ * and re-dispatched (DispatcherType.ASYNC) when a slot frees up. Requests beyond
+ * max-queued, or parked longer than queue-timeout, get 503 with Retry-After.
+ * A flood of enrollments can therefore occupy only its own lane's threads;
+ * teacher requests keep running on theirs. The lane runs ahead of the
+ * AdaptiveConcurrencyLimitFilter, so a parked request holds no limiter slot.
+ *
+ * Metrics: "bulkhead.active" / "bulkhead.queued" gauges, "bulkhead.rejected"
+ * counter (reason: queue-full, timeout) and "bulkhead.queue.wait" timer, all tagged by lane.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class WorkloadLaneFilter extends OncePerRequestFilter {
+
+    /** Set on a parked request when it is handed a slot, before it is re-dispatched */
+    static final String SLOT_ATTRIBUTE = WorkloadLaneFilter.class.getName() + ".SLOT";
+
+    private static final String QUEUED_AT_ATTRIBUTE = WorkloadLaneFilter.class.getName() + ".QUEUED_AT";
+
+    private final BulkheadProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final RouteGroups<WorkloadLane> lanes = new RouteGroups<>();
+
+    public WorkloadLaneFilter(BulkheadProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        for (BulkheadProperties.Lane config : properties.getLanes()) {
+            WorkloadLane lane = new WorkloadLane(config);
+            lanes.add(lane, config.getPaths());
+            meterRegistry.ifAvailable(registry -> {
+                Gauge.builder("bulkhead.active", lane, WorkloadLane::getActive)
+                        .description("Requests of the lane currently executing")
+                        .tag("lane", lane.getName())
+                        .register(registry);
+                Gauge.builder("bulkhead.queued", lane, WorkloadLane::getQueued)
+                        .description("Requests of the lane parked waiting for a slot")
+                        .tag("lane", lane.getName())
+                        .register(registry);
+            });
+        }
+    }
+
+    /**
+     * Parked requests come back as ASYNC dispatches and must be seen again
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        WorkloadLane lane = properties.isEnabled() ? lanes.match(request) : null;
+        if (lane == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            if (request.getAttribute(SLOT_ATTRIBUTE) != lane) {
+                // Async result of a request that already ran in the lane (e.g. reports)
+                filterChain.doFilter(request, response);
+                return;
+            }
+            request.removeAttribute(SLOT_ATTRIBUTE);
+            recordQueueWait(lane, request);
+            runInLane(lane, request, response, filterChain);
+            return;
+        }
+
+        switch (lane.enter(request)) {
+            case RUN -> runInLane(lane, request, response, filterChain);
+            case QUEUED -> park(lane, request, response);
+            case REJECTED -> reject(lane, response, "queue-full");
+        }
+    }
+
+    private void runInLane(WorkloadLane lane, HttpServletRequest request, HttpServletResponse response,
+                           FilterChain filterChain) throws ServletException, IOException {
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            handOver(lane);
+        }
+    }
+
+    /**
+     * Pass the slot to the oldest parked request (or free it)
+     */
+    private void handOver(WorkloadLane lane) {
+        AsyncContext next;
+        while ((next = lane.leave()) != null) {
+            try {
+                next.getRequest().setAttribute(SLOT_ATTRIBUTE, lane);
+                next.dispatch();
+                return;
+            } catch (IllegalStateException e) {
+                // Completed or timed out meanwhile; try the next one
+                log.debug("Parked request in lane {} no longer dispatchable: {}", lane.getName(), e.getMessage());
+            }
+        }
+    }
+
+    private void park(WorkloadLane lane, HttpServletRequest request, HttpServletResponse response) {
+        request.setAttribute(QUEUED_AT_ATTRIBUTE, System.nanoTime());
+        AsyncContext asyncContext = request.getAsyncContext();
+        asyncContext.addListener(new AsyncListener() {
+            @Override
+            public void onTimeout(AsyncEvent event) throws IOException {
+                if (lane.abandon(asyncContext)) {
+                    reject(lane, response, "timeout");
+                    asyncContext.complete();
+                }
+            }
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                lane.abandon(asyncContext);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    private void recordQueueWait(WorkloadLane lane, HttpServletRequest request) {
+        Object queuedAt = request.getAttribute(QUEUED_AT_ATTRIBUTE);
+        if (queuedAt instanceof Long start) {
+            meterRegistry.ifAvailable(registry -> Timer.builder("bulkhead.queue.wait")
+                    .description("Time parked requests waited for a lane slot")
+                    .tag("lane", lane.getName())
+                    .register(registry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private void reject(WorkloadLane lane, HttpServletResponse response, String reason) throws IOException {
+        meterRegistry.ifAvailable(registry -> Counter.builder("bulkhead.rejected")
+                .description("Requests rejected by a workload lane")
+                .tag("lane", lane.getName())
+                .tag("reason", reason)
+                .register(registry)
+                .increment());
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+        response.setContentType("text/plain;charset=UTF-8");
+        response.getWriter().write("Server busy, please retry in " + properties.getRetryAfterSeconds() + "s");
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.studentManagementSystem.security;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+/**
+ * Caller of an /api request, read from the verified token's claims (no database access)
+ *
+ * @param studentId id of the caller's Student record, null for teachers
+ * @param teacherId id of the caller's Teacher record, null for students
+ */
+public record ApiPrincipal(Long userId, String username, String role, Long studentId, Long teacherId) {
+
+    static final String USER_ID_CLAIM = "userId";
+    static final String ROLE_CLAIM = "role";
+    static final String STUDENT_ID_CLAIM = "studentId";
+    static final String TEACHER_ID_CLAIM = "teacherId";
+
+    public static ApiPrincipal of(Jwt jwt) {
+        return new ApiPrincipal(
+                longClaim(jwt, USER_ID_CLAIM),
+                jwt.getSubject(),
+                jwt.getClaimAsString(ROLE_CLAIM),
+                longClaim(jwt, STUDENT_ID_CLAIM),
+                longClaim(jwt, TEACHER_ID_CLAIM));
+    }
+
+    /**
+     * Principal of a token-authenticated request
+     */
+    public static ApiPrincipal of(Authentication authentication) {
+        if (!(authentication.getPrincipal() instanceof Jwt jwt)) {
+            throw new IllegalStateException("Not authenticated with an API token");
+        }
+        return of(jwt);
+    }
+
+    private static Long longClaim(Jwt jwt, String name) {
+        Object value = jwt.getClaims().get(name);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+}
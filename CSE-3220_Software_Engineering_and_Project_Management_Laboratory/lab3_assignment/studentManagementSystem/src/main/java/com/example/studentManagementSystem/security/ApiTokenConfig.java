@@ -0,0 +1,81 @@
+package com.example.studentManagementSystem.security;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Signing and verification of API tokens (HS256 JWTs)
+ * Verification is an HMAC over the token plus expiry/issuer checks; no database access.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(ApiTokenProperties.class)
+public class ApiTokenConfig {
+
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final ApiTokenProperties properties;
+    private final SecretKey key;
+
+    public ApiTokenConfig(ApiTokenProperties properties) {
+        this.properties = properties;
+        this.key = new SecretKeySpec(keyBytes(properties.getSecret()), "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder apiTokenEncoder() {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(key));
+    }
+
+    @Bean
+    public JwtDecoder apiTokenDecoder() {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(properties.getIssuer()));
+        return decoder;
+    }
+
+    /**
+     * Authorities come from the "role" claim (e.g. ROLE_STUDENT), the name from "sub" (username)
+     */
+    @Bean
+    public JwtAuthenticationConverter apiTokenAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter authorities = new JwtGrantedAuthoritiesConverter();
+        authorities.setAuthoritiesClaimName(ApiPrincipal.ROLE_CLAIM);
+        authorities.setAuthorityPrefix("");
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authorities);
+        return converter;
+    }
+
+    private static byte[] keyBytes(String secret) {
+        if (secret == null || secret.isBlank()) {
+            log.warn("app.security.api-token.secret is not set; using a random key, API tokens will not "
+                    + "survive a restart or work on other instances");
+            byte[] random = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] bytes = Base64.getDecoder().decode(secret);
+        if (bytes.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("app.security.api-token.secret must be at least "
+                    + MIN_KEY_BYTES + " bytes (Base64), got " + bytes.length);
+        }
+        return bytes;
+    }
+}
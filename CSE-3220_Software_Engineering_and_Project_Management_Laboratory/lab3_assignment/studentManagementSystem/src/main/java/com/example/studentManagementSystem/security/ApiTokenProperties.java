@@ -0,0 +1,24 @@
+package com.example.studentManagementSystem.security;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * API token settings (app.security.api-token.*)
+ */
+@Data
+@ConfigurationProperties("app.security.api-token")
+public class ApiTokenProperties {
+
+    /**
+     * Base64 HMAC-SHA256 key, at least 32 bytes; every instance must use the same one.
+     * When empty a random key is generated, so tokens only work on this instance until restart.
+     */
+    private String secret;
+
+    private Duration lifetime = Duration.ofHours(1);
+
+    private String issuer = "studentManagementSystem";
+}
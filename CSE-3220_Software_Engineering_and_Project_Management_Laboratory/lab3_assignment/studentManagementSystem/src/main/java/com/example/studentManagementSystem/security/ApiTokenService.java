@@ -0,0 +1,69 @@
+package com.example.studentManagementSystem.security;
+
+import com.example.studentManagementSystem.dto.ApiTokenResponse;
+import com.example.studentManagementSystem.entity.Student;
+import com.example.studentManagementSystem.entity.Teacher;
+import com.example.studentManagementSystem.entity.User;
+import com.example.studentManagementSystem.repository.StudentRepository;
+import com.example.studentManagementSystem.repository.TeacherRepository;
+import com.example.studentManagementSystem.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Issues API tokens: the password is checked (BCrypt) and the caller's ids looked up once,
+ * then carried as claims so each API request is authenticated by signature alone
+ */
+@Component
+@RequiredArgsConstructor
+public class ApiTokenService {
+
+    private final AuthenticationManager authenticationManager;
+    private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+    private final TeacherRepository teacherRepository;
+    private final JwtEncoder apiTokenEncoder;
+    private final ApiTokenProperties properties;
+
+    /**
+     * Authenticate the credentials and issue a token
+     * Throws AuthenticationException for bad credentials or disabled users.
+     */
+    @Transactional(readOnly = true)
+    public ApiTokenResponse issue(String username, String password) {
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(username, password));
+        User user = userRepository.findByUsername(authentication.getName())
+                .orElseThrow(() -> new RuntimeException("User not found: " + authentication.getName()));
+
+        Instant now = Instant.now();
+        JwtClaimsSet.Builder claims = JwtClaimsSet.builder()
+                .issuer(properties.getIssuer())
+                .subject(user.getUsername())
+                .issuedAt(now)
+                .expiresAt(now.plus(properties.getLifetime()))
+                .claim(ApiPrincipal.USER_ID_CLAIM, user.getId())
+                .claim(ApiPrincipal.ROLE_CLAIM, user.getRole().getName());
+        studentRepository.findByUserId(user.getId())
+                .map(Student::getId)
+                .ifPresent(id -> claims.claim(ApiPrincipal.STUDENT_ID_CLAIM, id));
+        teacherRepository.findByUserId(user.getId())
+                .map(Teacher::getId)
+                .ifPresent(id -> claims.claim(ApiPrincipal.TEACHER_ID_CLAIM, id));
+
+        String token = apiTokenEncoder.encode(JwtEncoderParameters.from(
+                JwsHeader.with(MacAlgorithm.HS256).build(), claims.build())).getTokenValue();
+        return new ApiTokenResponse(token, "Bearer", properties.getLifetime().toSeconds());
+    }
+}
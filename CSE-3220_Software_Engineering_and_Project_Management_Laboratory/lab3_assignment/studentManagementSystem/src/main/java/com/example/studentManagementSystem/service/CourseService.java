@@ -1,12 +1,20 @@
 package com.example.studentManagementSystem.service;
 
+import com.example.studentManagementSystem.audit.AuditLog;
+import com.example.studentManagementSystem.catalog.CourseCatalog;
+import com.example.studentManagementSystem.changes.ChangeLog;
+import com.example.studentManagementSystem.changes.ChangeOperation;
+import com.example.studentManagementSystem.coalescing.CoalescedRead;
 import com.example.studentManagementSystem.dto.CourseDTO;
 import com.example.studentManagementSystem.entity.Course;
 import com.example.studentManagementSystem.entity.Teacher;
 import com.example.studentManagementSystem.repository.CourseRepository;
 import com.example.studentManagementSystem.repository.TeacherRepository;
+import com.example.studentManagementSystem.versioning.EntityType;
+import com.example.studentManagementSystem.versioning.EntityVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -23,23 +31,27 @@ public class CourseService {
 
     private final CourseRepository courseRepository;
     private final TeacherRepository teacherRepository;
+    private final CourseCatalog courseCatalog;
+    private final EntityVersions entityVersions;
+    private final ChangeLog changeLog;
+    private final AuditLog auditLog;
 
     /**
-     * Get all courses
+     * Get all courses (served from the in-memory catalog, no transaction)
      */
+    @CoalescedRead
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<CourseDTO> getAllCourses() {
-        return courseRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return courseCatalog.getCourses();
     }
 
     /**
-     * Get course by ID
+     * Get course by ID (served from the in-memory catalog, no transaction)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public CourseDTO getCourseById(Long id) {
-        Course course = courseRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
-        return convertToDTO(course);
+        return courseCatalog.findCourse(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + id));
     }
 
     /**
@@ -47,7 +59,7 @@ public class CourseService {
      */
     public Course getCourseEntityById(Long id) {
         return courseRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + id));
     }
 
     /**
@@ -75,12 +87,17 @@ public class CourseService {
         
         if (dto.getTeacherId() != null) {
             Teacher teacher = teacherRepository.findById(dto.getTeacherId())
-                    .orElseThrow(() -> new RuntimeException("Teacher not found"));
+                    .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
             course.setTeacher(teacher);
         }
         
         Course saved = courseRepository.save(course);
-        return convertToDTO(saved);
+        courseCatalog.courseChanged(saved.getId());
+        entityVersions.changed(EntityType.COURSES);
+        changeLog.record(EntityType.COURSES, saved.getId(), ChangeOperation.UPSERT);
+        CourseDTO created = convertToDTO(saved);
+        auditLog.created(EntityType.COURSES, saved.getId(), created);
+        return created;
     }
 
     /**
@@ -88,7 +105,8 @@ public class CourseService {
      */
     public CourseDTO updateCourse(Long id, CourseDTO dto) {
         Course course = courseRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Course not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + id));
+        CourseDTO before = convertToDTO(course);
         
         course.setName(dto.getName());
         course.setDescription(dto.getDescription());
@@ -96,28 +114,37 @@ public class CourseService {
         
         if (dto.getTeacherId() != null) {
             Teacher teacher = teacherRepository.findById(dto.getTeacherId())
-                    .orElseThrow(() -> new RuntimeException("Teacher not found"));
+                    .orElseThrow(() -> new ResourceNotFoundException("Teacher not found"));
             course.setTeacher(teacher);
         }
         
         Course saved = courseRepository.save(course);
-        return convertToDTO(saved);
+        courseCatalog.courseChanged(saved.getId());
+        entityVersions.changed(EntityType.COURSES);
+        changeLog.record(EntityType.COURSES, saved.getId(), ChangeOperation.UPSERT);
+        CourseDTO updated = convertToDTO(saved);
+        auditLog.updated(EntityType.COURSES, id, before, updated);
+        return updated;
     }
 
     /**
      * Delete course
      */
     public void deleteCourse(Long id) {
-        if (!courseRepository.existsById(id)) {
-            throw new RuntimeException("Course not found with id: " + id);
-        }
+        Course course = courseRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found with id: " + id));
+        CourseDTO before = convertToDTO(course);
         courseRepository.deleteById(id);
+        courseCatalog.courseChanged(id);
+        entityVersions.changed(EntityType.COURSES, EntityType.ENROLLMENTS);
+        changeLog.record(EntityType.COURSES, id, ChangeOperation.DELETE);
+        auditLog.deleted(EntityType.COURSES, id, before);
     }
 
     /**
      * Convert entity to DTO
      */
-    private CourseDTO convertToDTO(Course course) {
+    CourseDTO convertToDTO(Course course) {
         CourseDTO dto = new CourseDTO();
         dto.setId(course.getId());
         dto.setCode(course.getCode());
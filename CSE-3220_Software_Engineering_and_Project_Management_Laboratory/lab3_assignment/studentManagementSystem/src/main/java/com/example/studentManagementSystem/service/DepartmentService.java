@@ -1,14 +1,22 @@
 package com.example.studentManagementSystem.service;
 
+import com.example.studentManagementSystem.audit.AuditLog;
+import com.example.studentManagementSystem.cache.ListingCache;
+import com.example.studentManagementSystem.changes.ChangeLog;
+import com.example.studentManagementSystem.changes.ChangeOperation;
+import com.example.studentManagementSystem.coalescing.CoalescedRead;
 import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.dto.DepartmentListing;
 import com.example.studentManagementSystem.entity.Department;
 import com.example.studentManagementSystem.repository.DepartmentRepository;
+import com.example.studentManagementSystem.versioning.EntityType;
+import com.example.studentManagementSystem.versioning.EntityVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Service class for Department operations
@@ -19,15 +27,27 @@ import java.util.stream.Collectors;
 @Transactional
 public class DepartmentService {
 
+    /** ListingCache name of the department listing */
+    public static final String DEPARTMENTS_CACHE = "departments";
+
     private final DepartmentRepository departmentRepository;
+    private final StudentService studentService;
+    private final TeacherService teacherService;
+    private final ListingCache listingCache;
+    private final EntityVersions entityVersions;
+    private final ChangeLog changeLog;
+    private final AuditLog auditLog;
 
     /**
-     * Get all departments
+     * Get all departments (stale-while-revalidate cached; counts may lag by the soft TTL).
+     * The cache holds immutable listing rows; every call gets its own DTOs.
      */
+    @CoalescedRead
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<DepartmentDTO> getAllDepartments() {
-        return departmentRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        List<DepartmentListing> listings =
+                listingCache.get(DEPARTMENTS_CACHE, () -> List.copyOf(departmentRepository.findAllListings()));
+        return listings.stream().map(DepartmentListing::toDTO).toList();
     }
 
     /**
@@ -35,7 +55,7 @@ public class DepartmentService {
      */
     public DepartmentDTO getDepartmentById(Long id) {
         Department department = departmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
         return convertToDTO(department);
     }
 
@@ -44,7 +64,7 @@ public class DepartmentService {
      */
     public Department getDepartmentEntityById(Long id) {
         return departmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
     }
 
     /**
@@ -61,7 +81,12 @@ public class DepartmentService {
         department.setDescription(dto.getDescription());
         
         Department saved = departmentRepository.save(department);
-        return convertToDTO(saved);
+        listingCache.invalidateAfterCommit(DEPARTMENTS_CACHE);
+        entityVersions.changed(EntityType.DEPARTMENTS);
+        changeLog.record(EntityType.DEPARTMENTS, saved.getId(), ChangeOperation.UPSERT);
+        DepartmentDTO created = convertToDTO(saved);
+        auditLog.created(EntityType.DEPARTMENTS, saved.getId(), created);
+        return created;
     }
 
     /**
@@ -69,30 +94,46 @@ public class DepartmentService {
      */
     public DepartmentDTO updateDepartment(Long id, DepartmentDTO dto) {
         Department department = departmentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Department not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
+        DepartmentDTO before = convertToDTO(department);
         
         department.setName(dto.getName());
         department.setDescription(dto.getDescription());
         // Code cannot be changed
         
         Department saved = departmentRepository.save(department);
-        return convertToDTO(saved);
+        listingCache.invalidateAfterCommit(DEPARTMENTS_CACHE);
+        // Students and teachers show the department name
+        entityVersions.changed(EntityType.DEPARTMENTS, EntityType.STUDENTS, EntityType.TEACHERS);
+        changeLog.record(EntityType.DEPARTMENTS, saved.getId(), ChangeOperation.UPSERT);
+        DepartmentDTO updated = convertToDTO(saved);
+        auditLog.updated(EntityType.DEPARTMENTS, id, before, updated);
+        return updated;
     }
 
     /**
      * Delete department
      */
     public void deleteDepartment(Long id) {
-        if (!departmentRepository.existsById(id)) {
-            throw new RuntimeException("Department not found with id: " + id);
-        }
+        Department department = departmentRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
+        DepartmentDTO before = convertToDTO(department);
+        // The delete cascades to the department's students and teachers, and on to their
+        // enrollments and the teachers' courses
+        department.getStudents().forEach(studentService::recordDeletion);
+        department.getTeachers().forEach(teacherService::recordDeletion);
         departmentRepository.deleteById(id);
+        listingCache.invalidateAfterCommit(DEPARTMENTS_CACHE);
+        entityVersions.changed(EntityType.DEPARTMENTS, EntityType.STUDENTS, EntityType.TEACHERS,
+                EntityType.COURSES, EntityType.ENROLLMENTS);
+        changeLog.record(EntityType.DEPARTMENTS, id, ChangeOperation.DELETE);
+        auditLog.deleted(EntityType.DEPARTMENTS, id, before);
     }
 
     /**
      * Convert entity to DTO
      */
-    private DepartmentDTO convertToDTO(Department department) {
+    DepartmentDTO convertToDTO(Department department) {
         DepartmentDTO dto = new DepartmentDTO();
         dto.setId(department.getId());
         dto.setName(department.getName());
@@ -0,0 +1,103 @@
+package com.example.studentManagementSystem.service;
+
+import com.example.studentManagementSystem.dto.DepartmentStatsDTO;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Service class for heavy read-only reports
+ * Runs on the dedicated report executor against the reporting datasource,
+ * never on the primary (OLTP) connection pool.
+ */
+@Service
+public class ReportService {
+
+    private static final String DEPARTMENT_STATS_SQL = """
+            SELECT d.id, d.code, d.name,
+                   (SELECT COUNT(*) FROM students s WHERE s.department_id = d.id) AS student_count,
+                   (SELECT COUNT(*) FROM teachers t WHERE t.department_id = d.id) AS teacher_count,
+                   (SELECT COUNT(*) FROM courses c JOIN teachers t ON c.teacher_id = t.id
+                     WHERE t.department_id = d.id) AS course_count,
+                   (SELECT COUNT(*) FROM student_courses sc JOIN students s ON sc.student_id = s.id
+                     WHERE s.department_id = d.id) AS enrollment_count
+            FROM departments d
+            ORDER BY d.code
+            """;
+
+    private static final String STUDENT_EXPORT_SQL = """
+            SELECT s.student_id, s.first_name, s.last_name, s.email, s.semester, d.code AS department_code,
+                   (SELECT COUNT(*) FROM student_courses sc WHERE sc.student_id = s.id) AS course_count
+            FROM students s
+            LEFT JOIN departments d ON s.department_id = d.id
+            ORDER BY s.student_id
+            """;
+
+    private final JdbcTemplate reportingJdbcTemplate;
+    private final ThreadPoolTaskExecutor reportExecutor;
+
+    public ReportService(@Qualifier("reportingJdbcTemplate") JdbcTemplate reportingJdbcTemplate,
+                         @Qualifier("reportExecutor") ThreadPoolTaskExecutor reportExecutor) {
+        this.reportingJdbcTemplate = reportingJdbcTemplate;
+        this.reportExecutor = reportExecutor;
+    }
+
+    /**
+     * Student, teacher, course and enrollment counts per department
+     */
+    public CompletableFuture<List<DepartmentStatsDTO>> getDepartmentStatistics() {
+        return submit(() -> reportingJdbcTemplate.query(DEPARTMENT_STATS_SQL, (rs, rowNum) ->
+                new DepartmentStatsDTO(
+                        rs.getLong("id"),
+                        rs.getString("code"),
+                        rs.getString("name"),
+                        rs.getLong("student_count"),
+                        rs.getLong("teacher_count"),
+                        rs.getLong("course_count"),
+                        rs.getLong("enrollment_count"))));
+    }
+
+    /**
+     * Export all students as CSV
+     */
+    public CompletableFuture<String> exportStudentsCsv() {
+        return submit(() -> {
+            StringBuilder csv = new StringBuilder("studentId,firstName,lastName,email,semester,department,courses\n");
+            reportingJdbcTemplate.query(STUDENT_EXPORT_SQL, rs -> {
+                csv.append(csvValue(rs.getString("student_id"))).append(',')
+                        .append(csvValue(rs.getString("first_name"))).append(',')
+                        .append(csvValue(rs.getString("last_name"))).append(',')
+                        .append(csvValue(rs.getString("email"))).append(',')
+                        .append(rs.getInt("semester")).append(',')
+                        .append(csvValue(rs.getString("department_code"))).append(',')
+                        .append(rs.getLong("course_count")).append('\n');
+            });
+            return csv.toString();
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> report) {
+        try {
+            return CompletableFuture.supplyAsync(report, reportExecutor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(
+                    new RuntimeException("Too many reports are running, please try again later"));
+        }
+    }
+
+    private static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.studentManagementSystem.service;
+
+/**
+ * Thrown by the services when a student, teacher, course or department does not exist
+ * (the /api controllers answer 404; the web controllers show the message like any other error)
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -1,8 +1,17 @@
 package com.example.studentManagementSystem.service;
 
+import com.example.studentManagementSystem.audit.AuditLog;
+import com.example.studentManagementSystem.cache.ListingCache;
+import com.example.studentManagementSystem.changes.ChangeLog;
+import com.example.studentManagementSystem.changes.ChangeOperation;
+import com.example.studentManagementSystem.coalescing.CoalescedRead;
+import com.example.studentManagementSystem.catalog.CourseCatalog;
+import com.example.studentManagementSystem.dto.EnrollmentDTO;
 import com.example.studentManagementSystem.dto.StudentDTO;
 import com.example.studentManagementSystem.entity.*;
 import com.example.studentManagementSystem.repository.*;
+import com.example.studentManagementSystem.versioning.EntityType;
+import com.example.studentManagementSystem.versioning.EntityVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -27,10 +36,16 @@ public class StudentService {
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CourseCatalog courseCatalog;
+    private final ListingCache listingCache;
+    private final EntityVersions entityVersions;
+    private final ChangeLog changeLog;
+    private final AuditLog auditLog;
 
     /**
      * Get all students
      */
+    @CoalescedRead
     public List<StudentDTO> getAllStudents() {
         return studentRepository.findAll().stream()
                 .map(this::convertToDTO)
@@ -42,7 +57,7 @@ public class StudentService {
      */
     public StudentDTO getStudentById(Long id) {
         Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
         return convertToDTO(student);
     }
 
@@ -51,7 +66,7 @@ public class StudentService {
      */
     public StudentDTO getStudentByUserId(Long userId) {
         Student student = studentRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("Student not found for user id: " + userId));
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found for user id: " + userId));
         return convertToDTO(student);
     }
 
@@ -60,7 +75,7 @@ public class StudentService {
      */
     public Student getStudentEntityByUserId(Long userId) {
         return studentRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("Student not found for user id: " + userId));
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found for user id: " + userId));
     }
 
     /**
@@ -68,7 +83,7 @@ public class StudentService {
      */
     public Student getStudentEntityById(Long id) {
         return studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
     }
 
     /**
@@ -76,10 +91,25 @@ public class StudentService {
      */
     public Set<Course> getEnrolledCourses(Long studentId) {
         Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
         return student.getEnrolledCourses();
     }
 
+    /**
+     * Get enrollments, optionally only those of one student and/or one course
+     */
+    public List<EnrollmentDTO> getEnrollments(Long studentId, Long courseId) {
+        if (studentId != null) {
+            return studentRepository.findEnrollmentsByStudentId(studentId).stream()
+                    .filter(enrollment -> courseId == null || courseId.equals(enrollment.getCourseId()))
+                    .collect(Collectors.toList());
+        }
+        if (courseId != null) {
+            return studentRepository.findEnrollmentsByCourseId(courseId);
+        }
+        return studentRepository.findAllEnrollments();
+    }
+
     /**
      * Create new student with user account
      */
@@ -125,12 +155,17 @@ public class StudentService {
         
         if (dto.getDepartmentId() != null) {
             Department department = departmentRepository.findById(dto.getDepartmentId())
-                    .orElseThrow(() -> new RuntimeException("Department not found"));
+                    .orElseThrow(() -> new ResourceNotFoundException("Department not found"));
             student.setDepartment(department);
         }
         
         Student saved = studentRepository.save(student);
-        return convertToDTO(saved);
+        listingCache.invalidateAfterCommit(DepartmentService.DEPARTMENTS_CACHE);
+        entityVersions.changed(EntityType.STUDENTS, EntityType.DEPARTMENTS);
+        changeLog.record(EntityType.STUDENTS, saved.getId(), ChangeOperation.UPSERT);
+        StudentDTO created = convertToDTO(saved);
+        auditLog.created(EntityType.STUDENTS, saved.getId(), created);
+        return created;
     }
 
     /**
@@ -138,7 +173,8 @@ public class StudentService {
      */
     public StudentDTO updateStudent(Long id, StudentDTO dto) {
         Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
+        StudentDTO before = convertToDTO(student);
         
         student.setFirstName(dto.getFirstName());
         student.setLastName(dto.getLastName());
@@ -148,12 +184,17 @@ public class StudentService {
         
         if (dto.getDepartmentId() != null) {
             Department department = departmentRepository.findById(dto.getDepartmentId())
-                    .orElseThrow(() -> new RuntimeException("Department not found"));
+                    .orElseThrow(() -> new ResourceNotFoundException("Department not found"));
             student.setDepartment(department);
         }
         
         Student saved = studentRepository.save(student);
-        return convertToDTO(saved);
+        listingCache.invalidateAfterCommit(DepartmentService.DEPARTMENTS_CACHE);
+        entityVersions.changed(EntityType.STUDENTS, EntityType.DEPARTMENTS);
+        changeLog.record(EntityType.STUDENTS, saved.getId(), ChangeOperation.UPSERT);
+        StudentDTO updated = convertToDTO(saved);
+        auditLog.updated(EntityType.STUDENTS, id, before, updated);
+        return updated;
     }
 
     /**
@@ -161,14 +202,33 @@ public class StudentService {
      */
     public void deleteStudent(Long id) {
         Student student = studentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Student not found with id: " + id));
-        
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found with id: " + id));
         // Delete associated user account
         if (student.getUser() != null) {
             userRepository.delete(student.getUser());
         }
         
+        recordDeletion(student);
         studentRepository.deleteById(id);
+        listingCache.invalidateAfterCommit(DepartmentService.DEPARTMENTS_CACHE);
+    }
+
+    /**
+     * Report a student about to be deleted, by deleteStudent or by a department delete
+     * cascading to it
+     */
+    public void recordDeletion(Student student) {
+        // Enrollment counts of the student's courses change with the delete
+        courseCatalog.coursesChanged(student.getEnrolledCourses().stream()
+                .map(Course::getId)
+                .collect(Collectors.toList()));
+        entityVersions.changed(EntityType.STUDENTS, EntityType.DEPARTMENTS,
+                EntityType.ENROLLMENTS, EntityType.COURSES);
+        changeLog.record(EntityType.STUDENTS, student.getId(), ChangeOperation.DELETE);
+        auditLog.deleted(EntityType.STUDENTS, student.getId(), convertToDTO(student));
+        for (Course course : student.getEnrolledCourses()) {
+            changeLog.recordEnrollment(student.getId(), course.getId(), ChangeOperation.DELETE);
+        }
     }
 
     /**
@@ -176,12 +236,15 @@ public class StudentService {
      */
     public void enrollInCourse(Long studentId, Long courseId) {
         Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
         Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new RuntimeException("Course not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
         student.enrollInCourse(course);
         studentRepository.save(student);
+        courseCatalog.courseChanged(courseId);
+        entityVersions.changed(EntityType.ENROLLMENTS, EntityType.COURSES);
+        changeLog.recordEnrollment(studentId, courseId, ChangeOperation.UPSERT);
     }
 
     /**
@@ -189,18 +252,21 @@ public class StudentService {
      */
     public void dropCourse(Long studentId, Long courseId) {
         Student student = studentRepository.findById(studentId)
-                .orElseThrow(() -> new RuntimeException("Student not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Student not found"));
         Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> new RuntimeException("Course not found"));
+                .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
         
         student.dropCourse(course);
         studentRepository.save(student);
+        courseCatalog.courseChanged(courseId);
+        entityVersions.changed(EntityType.ENROLLMENTS, EntityType.COURSES);
+        changeLog.recordEnrollment(studentId, courseId, ChangeOperation.DELETE);
     }
 
     /**
      * Convert entity to DTO
      */
-    private StudentDTO convertToDTO(Student student) {
+    StudentDTO convertToDTO(Student student) {
         StudentDTO dto = new StudentDTO();
         dto.setId(student.getId());
         dto.setStudentId(student.getStudentId());
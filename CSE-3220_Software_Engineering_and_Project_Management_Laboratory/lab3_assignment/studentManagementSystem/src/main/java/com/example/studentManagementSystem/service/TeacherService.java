@@ -1,14 +1,24 @@
 package com.example.studentManagementSystem.service;
 
+import com.example.studentManagementSystem.audit.AuditLog;
+import com.example.studentManagementSystem.cache.ListingCache;
+import com.example.studentManagementSystem.changes.ChangeLog;
+import com.example.studentManagementSystem.changes.ChangeOperation;
+import com.example.studentManagementSystem.coalescing.CoalescedRead;
+import com.example.studentManagementSystem.catalog.CourseCatalog;
 import com.example.studentManagementSystem.dto.TeacherDTO;
+import com.example.studentManagementSystem.entity.Course;
 import com.example.studentManagementSystem.entity.Department;
 import com.example.studentManagementSystem.entity.Role;
+import com.example.studentManagementSystem.entity.Student;
 import com.example.studentManagementSystem.entity.Teacher;
 import com.example.studentManagementSystem.entity.User;
 import com.example.studentManagementSystem.repository.DepartmentRepository;
 import com.example.studentManagementSystem.repository.RoleRepository;
 import com.example.studentManagementSystem.repository.TeacherRepository;
 import com.example.studentManagementSystem.repository.UserRepository;
+import com.example.studentManagementSystem.versioning.EntityType;
+import com.example.studentManagementSystem.versioning.EntityVersions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -27,14 +37,21 @@ import java.util.stream.Collectors;
 public class TeacherService {
 
     private final TeacherRepository teacherRepository;
+    private final CourseService courseService;
     private final DepartmentRepository departmentRepository;
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CourseCatalog courseCatalog;
+    private final ListingCache listingCache;
+    private final EntityVersions entityVersions;
+    private final ChangeLog changeLog;
+    private final AuditLog auditLog;
 
     /**
      * Get all teachers
      */
+    @CoalescedRead
     public List<TeacherDTO> getAllTeachers() {
         return teacherRepository.findAll().stream()
                 .map(this::convertToDTO)
@@ -46,7 +63,7 @@ public class TeacherService {
      */
     public TeacherDTO getTeacherById(Long id) {
         Teacher teacher = teacherRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Teacher not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Teacher not found with id: " + id));
         return convertToDTO(teacher);
     }
 
@@ -55,7 +72,7 @@ public class TeacherService {
      */
     public TeacherDTO getTeacherByUserId(Long userId) {
         Teacher teacher = teacherRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("Teacher not found for user id: " + userId));
+                .orElseThrow(() -> new ResourceNotFoundException("Teacher not found for user id: " + userId));
         return convertToDTO(teacher);
     }
 
@@ -64,7 +81,7 @@ public class TeacherService {
      */
     public Teacher getTeacherEntityByUserId(Long userId) {
         return teacherRepository.findByUserId(userId)
-                .orElseThrow(() -> new RuntimeException("Teacher not found for user id: " + userId));
+                .orElseThrow(() -> new ResourceNotFoundException("Teacher not found for user id: " + userId));
     }
 
     /**
@@ -106,12 +123,17 @@ public class TeacherService {
         
         if (dto.getDepartmentId() != null) {
             Department department = departmentRepository.findById(dto.getDepartmentId())
-                    .orElseThrow(() -> new RuntimeException("Department not found"));
+                    .orElseThrow(() -> new ResourceNotFoundException("Department not found"));
             teacher.setDepartment(department);
         }
         
         Teacher saved = teacherRepository.save(teacher);
-        return convertToDTO(saved);
+        listingCache.invalidateAfterCommit(DepartmentService.DEPARTMENTS_CACHE);
+        entityVersions.changed(EntityType.TEACHERS, EntityType.DEPARTMENTS);
+        changeLog.record(EntityType.TEACHERS, saved.getId(), ChangeOperation.UPSERT);
+        TeacherDTO created = convertToDTO(saved);
+        auditLog.created(EntityType.TEACHERS, saved.getId(), created);
+        return created;
     }
 
     /**
@@ -119,7 +141,8 @@ public class TeacherService {
      */
     public TeacherDTO updateTeacher(Long id, TeacherDTO dto) {
         Teacher teacher = teacherRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Teacher not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Teacher not found with id: " + id));
+        TeacherDTO before = convertToDTO(teacher);
         
         teacher.setFirstName(dto.getFirstName());
         teacher.setLastName(dto.getLastName());
@@ -129,12 +152,19 @@ public class TeacherService {
         
         if (dto.getDepartmentId() != null) {
             Department department = departmentRepository.findById(dto.getDepartmentId())
-                    .orElseThrow(() -> new RuntimeException("Department not found"));
+                    .orElseThrow(() -> new ResourceNotFoundException("Department not found"));
             teacher.setDepartment(department);
         }
         
         Teacher saved = teacherRepository.save(teacher);
-        return convertToDTO(saved);
+        // Course catalog shows teacher names
+        courseCatalog.reloadAfterCommit();
+        listingCache.invalidateAfterCommit(DepartmentService.DEPARTMENTS_CACHE);
+        entityVersions.changed(EntityType.TEACHERS, EntityType.DEPARTMENTS, EntityType.COURSES);
+        changeLog.record(EntityType.TEACHERS, saved.getId(), ChangeOperation.UPSERT);
+        TeacherDTO updated = convertToDTO(saved);
+        auditLog.updated(EntityType.TEACHERS, id, before, updated);
+        return updated;
     }
 
     /**
@@ -142,20 +172,42 @@ public class TeacherService {
      */
     public void deleteTeacher(Long id) {
         Teacher teacher = teacherRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Teacher not found with id: " + id));
-        
+                .orElseThrow(() -> new ResourceNotFoundException("Teacher not found with id: " + id));
         // Delete associated user account
         if (teacher.getUser() != null) {
             userRepository.delete(teacher.getUser());
         }
         
+        recordDeletion(teacher);
         teacherRepository.deleteById(id);
+        listingCache.invalidateAfterCommit(DepartmentService.DEPARTMENTS_CACHE);
+    }
+
+    /**
+     * Report a teacher about to be deleted, by deleteTeacher or by a department delete
+     * cascading to it; the delete cascades on to the teacher's courses
+     */
+    public void recordDeletion(Teacher teacher) {
+        courseCatalog.coursesChanged(teacher.getCourses().stream()
+                .map(Course::getId)
+                .collect(Collectors.toList()));
+        entityVersions.changed(EntityType.TEACHERS, EntityType.DEPARTMENTS,
+                EntityType.COURSES, EntityType.ENROLLMENTS);
+        changeLog.record(EntityType.TEACHERS, teacher.getId(), ChangeOperation.DELETE);
+        auditLog.deleted(EntityType.TEACHERS, teacher.getId(), convertToDTO(teacher));
+        for (Course course : teacher.getCourses()) {
+            changeLog.record(EntityType.COURSES, course.getId(), ChangeOperation.DELETE);
+            auditLog.deleted(EntityType.COURSES, course.getId(), courseService.convertToDTO(course));
+            for (Student student : course.getEnrolledStudents()) {
+                changeLog.recordEnrollment(student.getId(), course.getId(), ChangeOperation.DELETE);
+            }
+        }
     }
 
     /**
      * Convert entity to DTO
      */
-    private TeacherDTO convertToDTO(Teacher teacher) {
+    TeacherDTO convertToDTO(Teacher teacher) {
         TeacherDTO dto = new TeacherDTO();
         dto.setId(teacher.getId());
         dto.setFirstName(teacher.getFirstName());
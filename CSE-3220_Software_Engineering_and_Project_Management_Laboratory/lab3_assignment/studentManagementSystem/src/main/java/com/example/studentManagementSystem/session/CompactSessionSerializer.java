@@ -0,0 +1,56 @@
+package com.example.studentManagementSystem.session;
+
+import org.springframework.core.ConfigurableObjectInputStream;
+import org.springframework.core.serializer.Deserializer;
+import org.springframework.core.serializer.Serializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Session attribute serializer: Java serialization, deflated
+ * A serialized SecurityContext is mostly class descriptors and repeated strings,
+ * so it shrinks to well under half its size; less to write and read on every login and request.
+ */
+public class CompactSessionSerializer implements Serializer<Object>, Deserializer<Object> {
+
+    private final ClassLoader classLoader;
+
+    public CompactSessionSerializer(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void serialize(Object object, OutputStream outputStream) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            DeflaterOutputStream deflated = new DeflaterOutputStream(outputStream, deflater);
+            ObjectOutputStream objects = new ObjectOutputStream(deflated);
+            objects.writeObject(object);
+            objects.flush();
+            deflated.finish();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public Object deserialize(InputStream inputStream) throws IOException {
+        Inflater inflater = new Inflater();
+        try (ObjectInputStream objects = new ConfigurableObjectInputStream(
+                new InflaterInputStream(inputStream, inflater), classLoader)) {
+            return objects.readObject();
+        } catch (ClassNotFoundException ex) {
+            throw new IOException("Cannot deserialize session attribute: " + ex.getMessage(), ex);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.studentManagementSystem.session;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.config.annotation.web.http.EnableSpringHttpSession;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * HTTP session store, chosen by app.session.store
+ *
+ * jdbc   (default) sessions in the application database, shared by all instances;
+ *        tables from Flyway V3, attributes deflated, touches batched
+ * memory sessions in this instance only
+ *
+ * Either way the servlet container's own sessions are replaced by Spring Session.
+ */
+@Configuration
+@EnableSpringHttpSession
+@EnableConfigurationProperties(SessionStoreProperties.class)
+public class SessionStoreConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.session.store", havingValue = "jdbc", matchIfMissing = true)
+    public TouchBatchingSessionRepository jdbcSessionRepository(DataSource dataSource,
+                                                                SessionStoreProperties properties) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // Session writes commit on their own, independent of any JPA transaction on the thread
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        CompactSessionSerializer serializer = new CompactSessionSerializer(getClass().getClassLoader());
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(Object.class, byte[].class, new SerializingConverter(serializer));
+        conversionService.addConverter(byte[].class, Object.class, new DeserializingConverter(serializer));
+
+        JdbcIndexedSessionRepository repository = new JdbcIndexedSessionRepository(jdbcTemplate, transactionTemplate);
+        repository.setDefaultMaxInactiveInterval(properties.getTimeout());
+        repository.setConversionService(conversionService);
+        repository.setCleanupCron(properties.getCleanupCron());
+        return new TouchBatchingSessionRepository(repository, jdbcTemplate);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.session.store", havingValue = "memory")
+    public MapSessionRepository memorySessionRepository(SessionStoreProperties properties) {
+        MapSessionRepository repository = new MapSessionRepository(new ConcurrentHashMap<>());
+        repository.setDefaultMaxInactiveInterval(properties.getTimeout());
+        return repository;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.studentManagementSystem.session;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * HTTP session store settings (app.session.*)
+ */
+@Data
+@ConfigurationProperties("app.session")
+public class SessionStoreProperties {
+
+    public enum Store {
+        /** Shared table in the application database, for several instances */
+        JDBC,
+        /** In this instance's memory, lost on restart */
+        MEMORY
+    }
+
+    private Store store = Store.JDBC;
+
+    /** Sessions expire after this much inactivity */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * Requests that only touch a session (no attribute change) are written in one
+     * batch per interval instead of one UPDATE per request; must be far below the timeout
+     */
+    private Duration touchFlushInterval = Duration.ofSeconds(5);
+
+    /** Expired sessions are deleted in the background on this schedule ("-" disables it) */
+    private String cleanupCron = "0 * * * * *";
+}
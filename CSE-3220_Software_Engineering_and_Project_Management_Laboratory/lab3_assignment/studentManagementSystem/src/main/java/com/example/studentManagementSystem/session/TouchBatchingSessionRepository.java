@@ -0,0 +1,218 @@
+package com.example.studentManagementSystem.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Touch-Batching Session Repository - JDBC session store that batches last-access updates
+ *
+ * Most requests only touch their session (Spring Session sets the last-access time on every
+ * request). Those saves are queued and written by {@link #flushTouches()} as one JDBC batch;
+ * saves that change attributes, the timeout or the id go straight to the
+ * {@link JdbcIndexedSessionRepository}, which also deletes expired sessions on its cleanup schedule.
+ */
+@Slf4j
+public class TouchBatchingSessionRepository
+        implements SessionRepository<TouchBatchingSessionRepository.TrackedSession>, InitializingBean, DisposableBean {
+
+    private static final String TOUCH_QUERY =
+            "UPDATE SPRING_SESSION SET LAST_ACCESS_TIME = ?, EXPIRY_TIME = ? WHERE SESSION_ID = ?";
+
+    private final JdbcIndexedSessionRepository jdbcRepository;
+    /** Same repository, typed by the public Session interface (its JdbcSession type is package-private) */
+    private final SessionRepository<Session> delegate;
+    private final JdbcOperations jdbcOperations;
+    private final Map<String, Touch> pendingTouches = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public TouchBatchingSessionRepository(JdbcIndexedSessionRepository jdbcRepository, JdbcOperations jdbcOperations) {
+        this.jdbcRepository = jdbcRepository;
+        this.delegate = (SessionRepository<Session>) (SessionRepository<?>) jdbcRepository;
+        this.jdbcOperations = jdbcOperations;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        jdbcRepository.afterPropertiesSet();
+    }
+
+    @Override
+    public TrackedSession createSession() {
+        return new TrackedSession(delegate.createSession(), true);
+    }
+
+    @Override
+    public void save(TrackedSession session) {
+        if (session.onlyTouched()) {
+            pendingTouches.put(session.getId(), new Touch(session.getLastAccessedTime(), session.expiryTime()));
+            return;
+        }
+        pendingTouches.remove(session.getId());
+        if (session.originalId != null) {
+            pendingTouches.remove(session.originalId);
+        }
+        delegate.save(session.session);
+        session.saved();
+    }
+
+    @Override
+    public TrackedSession findById(String id) {
+        Session session = delegate.findById(id);
+        return session == null ? null : new TrackedSession(session, false);
+    }
+
+    @Override
+    public void deleteById(String id) {
+        pendingTouches.remove(id);
+        delegate.deleteById(id);
+    }
+
+    /**
+     * Write all queued touches in one batch; a touch queued again meanwhile stays for the next flush
+     */
+    @Scheduled(fixedDelayString = "${app.session.touch-flush-interval:PT5S}")
+    public void flushTouches() {
+        if (pendingTouches.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = new ArrayList<>(pendingTouches.size());
+        for (Map.Entry<String, Touch> entry : pendingTouches.entrySet()) {
+            if (pendingTouches.remove(entry.getKey(), entry.getValue())) {
+                Touch touch = entry.getValue();
+                batch.add(new Object[]{touch.lastAccessTime().toEpochMilli(), touch.expiryTime().toEpochMilli(),
+                        entry.getKey()});
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcOperations.batchUpdate(TOUCH_QUERY, batch);
+            log.debug("Flushed {} session touches", batch.size());
+        }
+    }
+
+    /**
+     * Number of touches waiting for the next flush
+     */
+    public int pendingTouches() {
+        return pendingTouches.size();
+    }
+
+    @Override
+    public void destroy() {
+        flushTouches();
+        jdbcRepository.destroy();
+    }
+
+    private record Touch(Instant lastAccessTime, Instant expiryTime) {
+    }
+
+    /**
+     * JDBC session that remembers whether anything besides the last-access time changed
+     */
+    public static final class TrackedSession implements Session {
+
+        private final Session session;
+        private boolean isNew;
+        private boolean changed;
+        private String originalId;
+
+        TrackedSession(Session session, boolean isNew) {
+            this.session = session;
+            this.isNew = isNew;
+        }
+
+        boolean onlyTouched() {
+            return !isNew && !changed;
+        }
+
+        void saved() {
+            isNew = false;
+            changed = false;
+            originalId = null;
+        }
+
+        Instant expiryTime() {
+            return session.getLastAccessedTime().plus(session.getMaxInactiveInterval());
+        }
+
+        @Override
+        public String getId() {
+            return session.getId();
+        }
+
+        @Override
+        public String changeSessionId() {
+            if (originalId == null) {
+                originalId = session.getId();
+            }
+            changed = true;
+            return session.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName) {
+            return session.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames() {
+            return session.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue) {
+            changed = true;
+            session.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName) {
+            changed = true;
+            session.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime() {
+            return session.getCreationTime();
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime) {
+            session.setLastAccessedTime(lastAccessedTime);
+        }
+
+        @Override
+        public Instant getLastAccessedTime() {
+            return session.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval) {
+            changed = true;
+            session.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval() {
+            return session.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired() {
+            return session.isExpired();
+        }
+    }
+}
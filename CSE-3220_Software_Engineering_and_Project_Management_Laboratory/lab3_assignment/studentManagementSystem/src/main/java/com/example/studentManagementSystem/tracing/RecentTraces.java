@@ -0,0 +1,75 @@
+package com.example.studentManagementSystem.tracing;
+
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recent Traces - In-process span collector, works without any external tracing backend
+ * Keeps the spans of the most recent app.tracing.recent-traces traces (oldest evicted first),
+ * at most app.tracing.max-spans-per-trace spans each. Read through the traces actuator endpoint.
+ */
+@Component
+public class RecentTraces implements SpanExporter {
+
+    private final int maxSpansPerTrace;
+    private final Map<String, List<SpanData>> traces;
+
+    public RecentTraces(@Value("${app.tracing.recent-traces:200}") int maxTraces,
+                        @Value("${app.tracing.max-spans-per-trace:500}") int maxSpansPerTrace) {
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.traces = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<SpanData>> eldest) {
+                return size() > maxTraces;
+            }
+        };
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        for (SpanData span : spans) {
+            List<SpanData> trace = traces.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>());
+            if (trace.size() < maxSpansPerTrace) {
+                trace.add(span);
+            }
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Spans of the retained traces, most recently started trace first
+     */
+    public synchronized List<List<SpanData>> traces() {
+        List<List<SpanData>> copy = new ArrayList<>(traces.size());
+        traces.values().forEach(trace -> copy.add(0, List.copyOf(trace)));
+        return copy;
+    }
+
+    public synchronized List<SpanData> trace(String traceId) {
+        List<SpanData> trace = traces.get(traceId);
+        return trace == null ? List.of() : List.copyOf(trace);
+    }
+
+    public synchronized void clear() {
+        traces.clear();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.studentManagementSystem.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+/**
+ * Opens a "template.render" span between postHandle and afterCompletion,
+ * i.e. around view rendering; redirects and bodies written by the handler are skipped
+ * Registered by {@link TracingConfig}.
+ */
+public class TemplateRenderTracingInterceptor implements HandlerInterceptor {
+
+    private static final String SPAN_ATTRIBUTE = TemplateRenderTracingInterceptor.class.getName() + ".span";
+    private static final String SCOPE_ATTRIBUTE = TemplateRenderTracingInterceptor.class.getName() + ".scope";
+
+    private final Tracer tracer;
+
+    public TemplateRenderTracingInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || modelAndView.getViewName() == null
+                || modelAndView.getViewName().startsWith("redirect:")
+                || modelAndView.getViewName().startsWith("forward:")) {
+            return;
+        }
+        Span span = tracer.nextSpan().name("template.render")
+                .tag("template", modelAndView.getViewName())
+                .start();
+        request.setAttribute(SPAN_ATTRIBUTE, span);
+        request.setAttribute(SCOPE_ATTRIBUTE, tracer.withSpan(span));
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(SPAN_ATTRIBUTE) instanceof Span span)) {
+            return;
+        }
+        ((Tracer.SpanInScope) request.getAttribute(SCOPE_ATTRIBUTE)).close();
+        if (ex != null) {
+            span.error(ex);
+        }
+        span.end();
+        request.removeAttribute(SPAN_ATTRIBUTE);
+        request.removeAttribute(SCOPE_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.studentManagementSystem.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Actuator endpoint for the in-process trace collector (/actuator/traces, ROLE_TEACHER)
+ *
+ * GET                    recent traces, newest first; name filters on the root span name or
+ *                        request path (e.g. "/dashboard"), minMillis drops fast traces, limit caps the list
+ * GET /actuator/traces/x span tree of trace x with each span's offset and duration
+ * DELETE                 clears the collector
+ */
+@Component
+@Endpoint(id = "traces")
+@RequiredArgsConstructor
+public class TracesEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+
+    /** Request path on the HTTP server span; its name only has the route template, if any */
+    private static final AttributeKey<String> HTTP_URL = AttributeKey.stringKey("http.url");
+
+    private final RecentTraces recentTraces;
+
+    @ReadOperation
+    public List<Map<String, Object>> traces(@Nullable String name, @Nullable Long minMillis, @Nullable Integer limit) {
+        List<Map<String, Object>> traces = new ArrayList<>();
+        for (List<SpanData> spans : recentTraces.traces()) {
+            SpanData root = root(spans);
+            long durationNanos = root.getEndEpochNanos() - root.getStartEpochNanos();
+            String path = root.getAttributes().get(HTTP_URL);
+            if (name != null && !root.getName().toLowerCase().contains(name.toLowerCase())
+                    && (path == null || !path.toLowerCase().contains(name.toLowerCase()))) {
+                continue;
+            }
+            if (minMillis != null && durationNanos < TimeUnit.MILLISECONDS.toNanos(minMillis)) {
+                continue;
+            }
+            Map<String, Object> trace = new LinkedHashMap<>();
+            trace.put("traceId", root.getTraceId());
+            trace.put("name", root.getName());
+            trace.put("path", path);
+            trace.put("start", Instant.ofEpochSecond(0, root.getStartEpochNanos()));
+            trace.put("durationMillis", millis(durationNanos));
+            trace.put("spans", spans.size());
+            traces.add(trace);
+            if (traces.size() >= (limit != null ? limit : DEFAULT_LIMIT)) {
+                break;
+            }
+        }
+        return traces;
+    }
+
+    @ReadOperation
+    public Map<String, Object> trace(@Selector String traceId) {
+        List<SpanData> spans = recentTraces.trace(traceId);
+        if (spans.isEmpty()) {
+            return null;
+        }
+        Map<String, List<SpanData>> children = new HashMap<>();
+        Set<String> spanIds = spans.stream().map(SpanData::getSpanId).collect(Collectors.toSet());
+        List<SpanData> roots = new ArrayList<>();
+        for (SpanData span : spans) {
+            if (spanIds.contains(span.getParentSpanId())) {
+                children.computeIfAbsent(span.getParentSpanId(), id -> new ArrayList<>()).add(span);
+            } else {
+                roots.add(span);
+            }
+        }
+        long traceStart = spans.stream().mapToLong(SpanData::getStartEpochNanos).min().orElse(0);
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("traceId", traceId);
+        trace.put("spans", roots.stream()
+                .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .map(root -> node(root, children, traceStart))
+                .toList());
+        return trace;
+    }
+
+    @DeleteOperation
+    public void clear() {
+        recentTraces.clear();
+    }
+
+    /**
+     * Outermost span: the one whose parent was not collected, earliest if several
+     */
+    private static SpanData root(List<SpanData> spans) {
+        Set<String> spanIds = spans.stream().map(SpanData::getSpanId).collect(Collectors.toSet());
+        return spans.stream()
+                .filter(span -> !spanIds.contains(span.getParentSpanId()))
+                .min(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                .orElse(spans.get(0));
+    }
+
+    private static Map<String, Object> node(SpanData span, Map<String, List<SpanData>> children, long traceStart) {
+        Map<String, Object> node = new LinkedHashMap<>();
+        node.put("name", span.getName());
+        node.put("offsetMillis", millis(span.getStartEpochNanos() - traceStart));
+        node.put("durationMillis", millis(span.getEndEpochNanos() - span.getStartEpochNanos()));
+        if (span.getStatus().getStatusCode() == StatusCode.ERROR) {
+            node.put("error", true);
+        }
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+        if (!attributes.isEmpty()) {
+            node.put("attributes", attributes);
+        }
+        List<SpanData> nested = children.getOrDefault(span.getSpanId(), List.of());
+        if (!nested.isEmpty()) {
+            node.put("children", nested.stream()
+                    .sorted(Comparator.comparingLong(SpanData::getStartEpochNanos))
+                    .map(child -> node(child, children, traceStart))
+                    .toList());
+        }
+        return node;
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
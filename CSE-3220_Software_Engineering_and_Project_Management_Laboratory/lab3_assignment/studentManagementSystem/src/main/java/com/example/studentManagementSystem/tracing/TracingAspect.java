@@ -0,0 +1,66 @@
+package com.example.studentManagementSystem.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tracing Aspect - One span per @Service method and per repository call
+ * Named "StudentService.getStudentEntityByUserId", "StudentRepository.findByUserId", ...
+ * Controller routes are traced by Spring's HTTP server observation, which is their parent span.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.example.studentManagementSystem.repository";
+
+    private final Tracer tracer;
+
+    @Around("within(com.example.studentManagementSystem.service..*) "
+            + "&& @within(org.springframework.stereotype.Service) "
+            + "&& execution(public * *(..))")
+    public Object traceServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        String type = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        return trace(joinPoint, type, "service");
+    }
+
+    /**
+     * Spring Data repositories are proxies, so the span is named after the repository
+     * interface the proxy implements rather than the method's declaring type (e.g. JpaRepository)
+     */
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) "
+            + "&& this(org.springframework.data.repository.Repository)")
+    public Object traceRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, repositoryName(joinPoint.getThis()), "repository");
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String type, String layer) throws Throwable {
+        Span span = tracer.nextSpan()
+                .name(type + "." + joinPoint.getSignature().getName())
+                .tag("layer", layer)
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            span.error(ex);
+            throw ex;
+        } finally {
+            span.end();
+        }
+    }
+
+    private static String repositoryName(Object proxy) {
+        for (Class<?> type : proxy.getClass().getInterfaces()) {
+            if (type.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                return type.getSimpleName();
+            }
+        }
+        return proxy.getClass().getSimpleName();
+    }
+}
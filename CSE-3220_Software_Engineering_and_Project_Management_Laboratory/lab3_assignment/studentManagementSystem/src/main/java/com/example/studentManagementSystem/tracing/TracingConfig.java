@@ -0,0 +1,37 @@
+package com.example.studentManagementSystem.tracing;
+
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Tracing setup: spans go straight to the in-process {@link RecentTraces} collector,
+ * and template rendering gets its own span
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Exports each span as it ends (adding it to a map is cheap), so a trace can be
+     * inspected right after its request; the OpenTelemetry SDK picks up SpanProcessor beans.
+     * Static so the tracer does not depend on this configuration.
+     */
+    @Bean
+    public static SpanProcessor recentTracesSpanProcessor(RecentTraces recentTraces) {
+        return SimpleSpanProcessor.create(recentTraces);
+    }
+
+    @Bean
+    public WebMvcConfigurer templateRenderTracing(Tracer tracer) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new TemplateRenderTracingInterceptor(tracer));
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.studentManagementSystem.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.function.Supplier;
+
+/**
+ * Password encoder decorator that traces hashing ("password.encode") and verification
+ * ("password.matches"), which is usually the most expensive part of a login
+ */
+public class TracingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final Tracer tracer;
+
+    public TracingPasswordEncoder(PasswordEncoder delegate, Tracer tracer) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return trace("password.encode", () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return trace("password.matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T trace(String name, Supplier<T> call) {
+        Span span = tracer.nextSpan().name(name)
+                .tag("encoder", delegate.getClass().getSimpleName())
+                .start();
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            return call.get();
+        } finally {
+            span.end();
+        }
+    }
+}
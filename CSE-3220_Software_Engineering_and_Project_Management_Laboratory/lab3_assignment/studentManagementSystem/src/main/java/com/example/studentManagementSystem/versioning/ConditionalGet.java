@@ -0,0 +1,58 @@
+package com.example.studentManagementSystem.versioning;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * Conditional GET for /api reads (If-None-Match / If-Modified-Since)
+ *
+ * The version (one entity_version row) is read before the body is loaded: a change
+ * committed in between yields newer data under the older tag, which the client simply
+ * re-fetches next time.
+ *
+ * Published as the "api.conditional.requests" counter tagged by entity and
+ * result (not-modified / full).
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGet {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePrivate().getHeaderValue();
+
+    private final EntityVersions entityVersions;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 304 without calling the loader when the client's copy is current, otherwise 200 with the loaded body
+     * (ETag and Last-Modified are set on both)
+     */
+    public <T> ResponseEntity<T> respond(ServletWebRequest request, EntityType type, Supplier<T> loader) {
+        EntityVersion version = entityVersions.current(type);
+        if (request.getResponse() != null) {
+            request.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+        if (request.checkNotModified(version.etag(), version.lastModified().toEpochMilli())) {
+            count(type, "not-modified");
+            return null; // 304 has been written
+        }
+        count(type, "full");
+        return ResponseEntity.ok(loader.get());
+    }
+
+    private void count(EntityType type, String result) {
+        Counter.builder("api.conditional.requests")
+                .description("API reads answered with 304 Not Modified or a full body")
+                .tag("entity", type.tag())
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
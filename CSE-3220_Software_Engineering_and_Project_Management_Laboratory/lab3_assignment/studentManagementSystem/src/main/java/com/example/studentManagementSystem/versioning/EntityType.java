@@ -0,0 +1,35 @@
+package com.example.studentManagementSystem.versioning;
+
+/**
+ * Kinds of data served by the /api layer, each with its own version counter in EntityVersions
+ */
+public enum EntityType {
+
+    STUDENTS("students"),
+    TEACHERS("teachers"),
+    COURSES("courses"),
+    DEPARTMENTS("departments"),
+    ENROLLMENTS("enrollments");
+
+    private final String tag;
+
+    EntityType(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * Lower-case name used in ETags and metric tags
+     */
+    public String tag() {
+        return tag;
+    }
+
+    public static EntityType ofTag(String tag) {
+        for (EntityType type : values()) {
+            if (type.tag.equals(tag)) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("Unknown entity type: " + tag);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.studentManagementSystem.versioning;
+
+import java.time.Instant;
+
+/**
+ * Version of one entity type as stored in the entity_version table
+ *
+ * @param counter      moved once per committed transaction that changed the type
+ * @param lastModified commit time of the latest change
+ */
+public record EntityVersion(EntityType type, long counter, Instant lastModified) {
+
+    /**
+     * Strong ETag, e.g. "students-42-lq2x1k3c"; the time part keeps tags distinct
+     * when the database is recreated and its counters start again
+     */
+    public String etag() {
+        return "\"" + type.tag() + "-" + counter + "-" + Long.toString(lastModified.toEpochMilli(), Character.MAX_RADIX) + "\"";
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.studentManagementSystem.versioning;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Version counters per entity type (entity_version table), the source of the /api
+ * ETag and Last-Modified headers.
+ *
+ * Services report which types a mutation affects (including derived data, e.g. a
+ * new student changes the department counts). The rows are updated in the same
+ * transaction, just before it commits, so the versions are shared by all instances,
+ * survive restarts and never move for a rollback. Last-Modified is the commit time;
+ * it never moves backwards, even when the committing instance's clock is behind.
+ *
+ * The rows stay locked until the commit, like the change_log_sequence row that
+ * every write locks anyway (see ChangeLog); they are taken in enum order, and before
+ * that row, so concurrent writers cannot deadlock. Reading a version is one
+ * primary-key lookup. Changes made outside the services are not seen.
+ */
+@Component
+public class EntityVersions {
+
+    private static final String CURRENT = "SELECT version, last_modified FROM entity_version WHERE entity_type = ?";
+    private static final String NEXT = "UPDATE entity_version SET version = version + 1, "
+            + "last_modified = GREATEST(last_modified, ?) WHERE entity_type = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public EntityVersions(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, Clock.systemUTC());
+    }
+
+    EntityVersions(JdbcTemplate jdbcTemplate, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+    }
+
+    public EntityVersion current(EntityType type) {
+        return jdbcTemplate.queryForObject(CURRENT,
+                (rs, rowNum) -> new EntityVersion(type, rs.getLong(1), rs.getTimestamp(2).toInstant()),
+                type.tag());
+    }
+
+    /**
+     * Move the given types to a new version with the current transaction
+     * (immediately when there is none); nothing changes on rollback
+     */
+    public void changed(EntityType... types) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pending().addAll(Arrays.asList(types));
+        } else if (types.length > 0) {
+            write(EnumSet.copyOf(Arrays.asList(types)));
+        }
+    }
+
+    private Set<EntityType> pending() {
+        @SuppressWarnings("unchecked")
+        Set<EntityType> pending = (Set<EntityType>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<EntityType> types = EnumSet.noneOf(EntityType.class);
+            TransactionSynchronizationManager.bindResource(this, types);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    // before ChangeLog, which locks change_log_sequence
+                    return Ordered.LOWEST_PRECEDENCE - 1;
+                }
+
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(types);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EntityVersions.this);
+                }
+            });
+            pending = types;
+        }
+        return pending;
+    }
+
+    private void write(Set<EntityType> types) {
+        if (types.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(clock.instant());
+        List<Object[]> rows = new ArrayList<>(types.size());
+        for (EntityType type : types) {
+            rows.add(new Object[]{now, type.tag()});
+        }
+        jdbcTemplate.batchUpdate(NEXT, rows);
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.studentManagementSystem.warmup;
+
+import com.example.studentManagementSystem.dto.CourseDTO;
+import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.dto.StudentDTO;
+import com.example.studentManagementSystem.dto.TeacherDTO;
+import com.example.studentManagementSystem.entity.*;
+import com.example.studentManagementSystem.service.CourseService;
+import com.example.studentManagementSystem.service.DepartmentService;
+import com.example.studentManagementSystem.service.TeacherService;
+import jakarta.servlet.ServletContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.View;
+import org.thymeleaf.spring6.view.ThymeleafViewResolver;
+
+import java.util.*;
+
+/**
+ * Application warm-up - runs once the context is refreshed and the runners
+ * (DataInitializer) have finished, before the application reports ready.
+ * Loads the reference data through the services (connection pool, Hibernate
+ * query plans, JIT of the mappers) and renders every major template against
+ * synthetic models (template parsing/caching, Thymeleaf and Spring MVC view classes).
+ *
+ * Spring Boot publishes ReadinessState.ACCEPTING_TRAFFIC only after the
+ * ApplicationReadyEvent listeners return; WarmupHealthIndicator additionally
+ * keeps the readiness group DOWN until warm-up completes.
+ */
+@Component
+@ConditionalOnWebApplication
+public class ApplicationWarmup {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationWarmup.class);
+
+    /**
+     * Warm-up progress as seen by WarmupHealthIndicator
+     */
+    public enum State { PENDING, RUNNING, COMPLETED, DISABLED }
+
+    private final DepartmentService departmentService;
+    private final CourseService courseService;
+    private final TeacherService teacherService;
+    private final ThymeleafViewResolver viewResolver;
+    private final ServletContext servletContext;
+    private final boolean enabled;
+    private final int iterations;
+
+    private volatile State state = State.PENDING;
+    private volatile long durationMillis;
+    private volatile int templatesRendered;
+    private final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+
+    public ApplicationWarmup(DepartmentService departmentService,
+                             CourseService courseService,
+                             TeacherService teacherService,
+                             ThymeleafViewResolver viewResolver,
+                             ServletContext servletContext,
+                             @Value("${app.warmup.enabled:true}") boolean enabled,
+                             @Value("${app.warmup.iterations:5}") int iterations) {
+        this.departmentService = departmentService;
+        this.courseService = courseService;
+        this.teacherService = teacherService;
+        this.viewResolver = viewResolver;
+        this.servletContext = servletContext;
+        this.enabled = enabled;
+        this.iterations = iterations;
+        if (!enabled) {
+            state = State.DISABLED;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        state = State.RUNNING;
+        long start = System.currentTimeMillis();
+        Map<String, Map<String, Object>> templates = syntheticModels();
+        for (int i = 0; i < iterations; i++) {
+            run("reference data", this::loadReferenceData);
+            templates.forEach((template, model) -> run("template " + template, () -> render(template, model)));
+        }
+        templatesRendered = templates.size();
+        durationMillis = System.currentTimeMillis() - start;
+        state = State.COMPLETED;
+        log.info("Warm-up completed in {} ms ({} iterations, {} templates, {} failures)",
+                durationMillis, iterations, templatesRendered, failures.size());
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public int getTemplatesRendered() {
+        return templatesRendered;
+    }
+
+    public List<String> getFailures() {
+        synchronized (failures) {
+            return List.copyOf(failures);
+        }
+    }
+
+    /**
+     * A failing step is logged and recorded, but never blocks readiness forever
+     */
+    private void run(String step, Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            if (!failures.contains(step)) {
+                failures.add(step);
+                log.warn("Warm-up step '{}' failed: {}", step, e.getMessage());
+            }
+        }
+    }
+
+    private void loadReferenceData() {
+        departmentService.getAllDepartments();
+        courseService.getAllCourses();
+        teacherService.getAllTeachers();
+    }
+
+    private void render(String template, Map<String, Object> model) {
+        try {
+            View view = viewResolver.resolveViewName(template, Locale.getDefault());
+            if (view == null) {
+                throw new RuntimeException("No view found for template: " + template);
+            }
+            view.render(new HashMap<>(model), WarmupRequests.request(servletContext, "/" + template),
+                    WarmupRequests.response());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Synthetic models for the templates behind /courses, /students, /teachers,
+     * /departments, /dashboard, /students/my-courses and /login
+     */
+    private Map<String, Map<String, Object>> syntheticModels() {
+        Department department = new Department("Warm-up Department", "WU", "Synthetic department");
+        department.setId(1L);
+        Teacher teacher = new Teacher("Warm", "Up", "warm.up@university.edu", "000", "PhD", "Professor");
+        teacher.setId(1L);
+        teacher.setDepartment(department);
+        Course course = new Course("WU101", "Warm-up Course", "Synthetic course", 3);
+        course.setId(1L);
+        course.setTeacher(teacher);
+        teacher.getCourses().add(course);
+        Student student = new Student("WU-0001", "Warm", "Up", "warm.up@student.edu", "000", "Address", 1);
+        student.setId(1L);
+        student.setDepartment(department);
+        student.getEnrolledCourses().add(course);
+
+        List<CourseDTO> courses = new ArrayList<>();
+        List<StudentDTO> students = new ArrayList<>();
+        List<TeacherDTO> teachers = new ArrayList<>();
+        List<DepartmentDTO> departments = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            courses.add(new CourseDTO(i, "WU" + i, "Warm-up Course " + i, "Synthetic", 3, 1L, "Warm Up", (int) i));
+            StudentDTO studentDTO = new StudentDTO();
+            studentDTO.setId(i);
+            studentDTO.setStudentId("WU-" + i);
+            studentDTO.setFirstName("Warm");
+            studentDTO.setLastName("Up " + i);
+            studentDTO.setEmail("warm" + i + "@student.edu");
+            studentDTO.setSemester(1);
+            studentDTO.setDepartmentId(1L);
+            studentDTO.setDepartmentName("Warm-up Department");
+            students.add(studentDTO);
+            TeacherDTO teacherDTO = new TeacherDTO();
+            teacherDTO.setId(i);
+            teacherDTO.setFirstName("Warm");
+            teacherDTO.setLastName("Up " + i);
+            teacherDTO.setEmail("warm" + i + "@university.edu");
+            teacherDTO.setDesignation("Lecturer");
+            teacherDTO.setDepartmentId(1L);
+            teacherDTO.setDepartmentName("Warm-up Department");
+            teachers.add(teacherDTO);
+            departments.add(new DepartmentDTO(i, "Warm-up Department " + i, "WU" + i, "Synthetic", 10, 2));
+        }
+
+        Map<String, Map<String, Object>> models = new LinkedHashMap<>();
+        models.put("login", Map.of());
+        models.put("course/list", Map.of("courses", courses));
+        models.put("student/list", Map.of("students", students));
+        models.put("teacher/list", Map.of("teachers", teachers));
+        models.put("department/list", Map.of("departments", departments));
+        models.put("student/dashboard", Map.of("username", "warmup", "role", "ROLE_STUDENT", "student", student));
+        models.put("teacher/dashboard", Map.of("username", "warmup", "role", "ROLE_TEACHER", "teacher", teacher));
+        models.put("student/my-courses", Map.of("courses", List.of(course), "allCourses", courses, "studentId", 1L));
+        return models;
+    }
+}
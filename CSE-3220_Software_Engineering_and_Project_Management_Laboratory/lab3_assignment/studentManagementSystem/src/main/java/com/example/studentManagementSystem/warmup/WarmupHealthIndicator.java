@@ -0,0 +1,37 @@
+package com.example.studentManagementSystem.warmup;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+/**
+ * Health indicator "warmup" - OUT_OF_SERVICE until ApplicationWarmup has completed
+ * Part of the readiness group (management.endpoint.health.group.readiness.include).
+ */
+@Component
+@ConditionalOnWebApplication
+public class WarmupHealthIndicator extends AbstractHealthIndicator {
+
+    private final ApplicationWarmup warmup;
+
+    public WarmupHealthIndicator(ApplicationWarmup warmup) {
+        this.warmup = warmup;
+    }
+
+    @Override
+    protected void doHealthCheck(Health.Builder builder) {
+        ApplicationWarmup.State state = warmup.getState();
+        if (state == ApplicationWarmup.State.COMPLETED || state == ApplicationWarmup.State.DISABLED) {
+            builder.up();
+        } else {
+            builder.outOfService();
+        }
+        builder.withDetail("state", state);
+        if (state == ApplicationWarmup.State.COMPLETED) {
+            builder.withDetail("durationMs", warmup.getDurationMillis())
+                    .withDetail("templates", warmup.getTemplatesRendered())
+                    .withDetail("failures", warmup.getFailures());
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.studentManagementSystem.warmup;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.lang.reflect.Proxy;
+import java.util.*;
+
+/**
+ * Minimal in-process GET request/response used to render views during warm-up
+ * (no servlet container round trip, output is discarded).
+ * Methods that are not needed for rendering return null / false / 0 / empty.
+ */
+final class WarmupRequests {
+
+    private WarmupRequests() {
+    }
+
+    static HttpServletRequest request(ServletContext servletContext, String uri) {
+        Map<String, Object> attributes = new HashMap<>();
+        return (HttpServletRequest) Proxy.newProxyInstance(WarmupRequests.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getAttribute" -> attributes.get((String) args[0]);
+                    case "setAttribute" -> attributes.put((String) args[0], args[1]);
+                    case "removeAttribute" -> attributes.remove((String) args[0]);
+                    case "getAttributeNames" -> Collections.enumeration(new ArrayList<>(attributes.keySet()));
+                    case "getServletContext" -> servletContext;
+                    case "getMethod" -> "GET";
+                    case "getRequestURI", "getServletPath" -> uri;
+                    case "getRequestURL" -> new StringBuffer("http://localhost" + uri);
+                    case "getContextPath" -> "";
+                    case "getScheme" -> "http";
+                    case "getServerName" -> "localhost";
+                    case "getServerPort" -> 80;
+                    case "getProtocol" -> "HTTP/1.1";
+                    case "getLocale" -> Locale.getDefault();
+                    case "getLocales" -> Collections.enumeration(List.of(Locale.getDefault()));
+                    case "getCharacterEncoding" -> "UTF-8";
+                    case "getDispatcherType" -> DispatcherType.REQUEST;
+                    case "getParameterMap" -> Map.of();
+                    case "getHeaderNames", "getHeaders", "getParameterNames" -> Collections.emptyEnumeration();
+                    case "toString" -> "WarmupRequest[" + uri + "]";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    static HttpServletResponse response() {
+        PrintWriter writer = new PrintWriter(Writer.nullWriter());
+        return (HttpServletResponse) Proxy.newProxyInstance(WarmupRequests.class.getClassLoader(),
+                new Class<?>[]{HttpServletResponse.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getWriter" -> writer;
+                    case "getCharacterEncoding" -> "UTF-8";
+                    case "getLocale" -> Locale.getDefault();
+                    case "encodeURL", "encodeRedirectURL" -> args[0];
+                    case "getHeaderNames", "getHeaders" -> List.of();
+                    case "toString" -> "WarmupResponse";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,90 @@
+-- ===========================================
+-- V1: Initial schema (matches the JPA entity mappings)
+-- Portable between H2 2.x and PostgreSQL.
+-- ===========================================
+
+CREATE TABLE roles (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT pk_roles PRIMARY KEY (id),
+    CONSTRAINT uk_roles_name UNIQUE (name)
+);
+
+CREATE TABLE users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    enabled  BOOLEAN      NOT NULL,
+    role_id  BIGINT       NOT NULL,
+    CONSTRAINT pk_users PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT fk_users_role FOREIGN KEY (role_id) REFERENCES roles (id)
+);
+
+CREATE TABLE departments (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    name        VARCHAR(255) NOT NULL,
+    code        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    CONSTRAINT pk_departments PRIMARY KEY (id),
+    CONSTRAINT uk_departments_name UNIQUE (name),
+    CONSTRAINT uk_departments_code UNIQUE (code)
+);
+
+CREATE TABLE teachers (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    phone         VARCHAR(255),
+    qualification VARCHAR(255),
+    designation   VARCHAR(255),
+    department_id BIGINT,
+    user_id       BIGINT,
+    CONSTRAINT pk_teachers PRIMARY KEY (id),
+    CONSTRAINT uk_teachers_email UNIQUE (email),
+    CONSTRAINT uk_teachers_user_id UNIQUE (user_id),
+    CONSTRAINT fk_teachers_department FOREIGN KEY (department_id) REFERENCES departments (id),
+    CONSTRAINT fk_teachers_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE courses (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    code        VARCHAR(255) NOT NULL,
+    name        VARCHAR(255) NOT NULL,
+    description VARCHAR(255),
+    credits     INTEGER      NOT NULL,
+    teacher_id  BIGINT,
+    CONSTRAINT pk_courses PRIMARY KEY (id),
+    CONSTRAINT uk_courses_code UNIQUE (code),
+    CONSTRAINT fk_courses_teacher FOREIGN KEY (teacher_id) REFERENCES teachers (id)
+);
+
+CREATE TABLE students (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    student_id    VARCHAR(255) NOT NULL,
+    first_name    VARCHAR(255) NOT NULL,
+    last_name     VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    phone         VARCHAR(255),
+    address       VARCHAR(255),
+    semester      INTEGER      NOT NULL,
+    department_id BIGINT,
+    user_id       BIGINT,
+    CONSTRAINT pk_students PRIMARY KEY (id),
+    CONSTRAINT uk_students_student_id UNIQUE (student_id),
+    CONSTRAINT uk_students_email UNIQUE (email),
+    CONSTRAINT uk_students_user_id UNIQUE (user_id),
+    CONSTRAINT fk_students_department FOREIGN KEY (department_id) REFERENCES departments (id),
+    CONSTRAINT fk_students_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Owning side is Student.enrolledCourses, so the primary key leads with student_id
+CREATE TABLE student_courses (
+    student_id BIGINT NOT NULL,
+    course_id  BIGINT NOT NULL,
+    CONSTRAINT pk_student_courses PRIMARY KEY (student_id, course_id),
+    CONSTRAINT fk_student_courses_student FOREIGN KEY (student_id) REFERENCES students (id),
+    CONSTRAINT fk_student_courses_course FOREIGN KEY (course_id) REFERENCES courses (id)
+);
@@ -0,0 +1,23 @@
+-- ===========================================
+-- V2: Indexes for the hot repository finders
+-- students.user_id and teachers.user_id (findByUserId on every request) are
+-- already covered by the unique constraints uk_students_user_id / uk_teachers_user_id.
+-- ===========================================
+
+-- StudentRepository.findByDepartmentId, department student lists
+CREATE INDEX idx_students_department_id ON students (department_id);
+
+-- TeacherRepository.findByDepartmentId, department teacher lists
+CREATE INDEX idx_teachers_department_id ON teachers (department_id);
+
+-- CourseRepository.findByTeacherId, Teacher.courses
+CREATE INDEX idx_courses_teacher_id ON courses (teacher_id);
+
+-- Course.enrolledStudents and per-course enrollment counts (reverse of the primary key)
+CREATE INDEX idx_student_courses_course_student ON student_courses (course_id, student_id);
+
+-- UserRepository.findByEmail / existsByEmail
+CREATE INDEX idx_users_email ON users (email);
+
+-- Login looks up the role eagerly with every user
+CREATE INDEX idx_users_role_id ON users (role_id);
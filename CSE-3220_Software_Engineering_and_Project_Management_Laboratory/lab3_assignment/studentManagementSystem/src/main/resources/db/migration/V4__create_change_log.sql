@@ -0,0 +1,31 @@
+-- ===========================================
+-- V4: Change feed (GET /api/changes)
+-- One row per entity change made through the services, numbered by commit order.
+-- change_log_sequence is a single row; taking the next versions locks it until
+-- commit, so versions become visible in increasing order (no gaps a reader could skip).
+-- Portable between H2 2.x and PostgreSQL.
+-- ===========================================
+
+CREATE TABLE change_log_sequence (
+    id      INT    NOT NULL,
+    version BIGINT NOT NULL,
+    CONSTRAINT pk_change_log_sequence PRIMARY KEY (id)
+);
+
+INSERT INTO change_log_sequence (id, version) VALUES (1, 0);
+
+-- entity_type: students, teachers, courses, departments, enrollments
+-- entity_id / related_id: the row id; for enrollments the student id / course id (0 otherwise)
+-- operation: u (created or updated), d (deleted)
+CREATE TABLE change_log (
+    version     BIGINT      NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    related_id  BIGINT      NOT NULL,
+    operation   CHAR(1)     NOT NULL,
+    changed_at  TIMESTAMP   NOT NULL,
+    CONSTRAINT pk_change_log PRIMARY KEY (version)
+);
+
+-- Latest change per entity (feed compaction and superseded-row cleanup)
+CREATE INDEX idx_change_log_entity ON change_log (entity_type, entity_id, related_id, version);
@@ -0,0 +1,28 @@
+-- ===========================================
+-- V5: Transactional outbox for entity change events
+-- Rows are inserted with the change_log rows of the same transaction and deleted
+-- once every listener has received them (see OutboxRelay).
+-- Portable between H2 2.x and PostgreSQL.
+-- ===========================================
+
+-- version: the change_log version (commit order); consumers use it to drop redeliveries
+CREATE TABLE outbox_events (
+    version     BIGINT      NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    related_id  BIGINT      NOT NULL,
+    operation   CHAR(1)     NOT NULL,
+    occurred_at TIMESTAMP   NOT NULL,
+    attempts    INT         DEFAULT 0 NOT NULL,
+    CONSTRAINT pk_outbox_events PRIMARY KEY (version)
+);
+
+-- Only the instance holding the lease relays, so events are not dispatched twice in parallel
+CREATE TABLE outbox_relay_lease (
+    id         INT         NOT NULL,
+    owner      VARCHAR(64),
+    expires_at TIMESTAMP   NOT NULL,
+    CONSTRAINT pk_outbox_relay_lease PRIMARY KEY (id)
+);
+
+INSERT INTO outbox_relay_lease (id, owner, expires_at) VALUES (1, NULL, TIMESTAMP '1970-01-01 00:00:00');
@@ -0,0 +1,21 @@
+-- ===========================================
+-- V6: Versions of the data served by /api (ETag and Last-Modified)
+-- One row per entity type, moved by the services in the transaction that changes
+-- the data, so every instance sees the same version and it survives restarts.
+-- Portable between H2 2.x and PostgreSQL.
+-- ===========================================
+
+-- entity_type: students, teachers, courses, departments, enrollments
+-- last_modified: commit time of the latest change (never moves backwards)
+CREATE TABLE entity_version (
+    entity_type   VARCHAR(20) NOT NULL,
+    version       BIGINT      NOT NULL,
+    last_modified TIMESTAMP   NOT NULL,
+    CONSTRAINT pk_entity_version PRIMARY KEY (entity_type)
+);
+
+INSERT INTO entity_version (entity_type, version, last_modified) VALUES ('students', 0, LOCALTIMESTAMP);
+INSERT INTO entity_version (entity_type, version, last_modified) VALUES ('teachers', 0, LOCALTIMESTAMP);
+INSERT INTO entity_version (entity_type, version, last_modified) VALUES ('courses', 0, LOCALTIMESTAMP);
+INSERT INTO entity_version (entity_type, version, last_modified) VALUES ('departments', 0, LOCALTIMESTAMP);
+INSERT INTO entity_version (entity_type, version, last_modified) VALUES ('enrollments', 0, LOCALTIMESTAMP);
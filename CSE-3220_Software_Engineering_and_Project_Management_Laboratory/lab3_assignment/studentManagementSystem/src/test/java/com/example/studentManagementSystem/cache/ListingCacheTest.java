@@ -0,0 +1,124 @@
+package com.example.studentManagementSystem.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ListingCache
+ * Time is a manual ticker; background refreshes queue up until run explicitly.
+ */
+class ListingCacheTest {
+
+    private static final Duration SOFT_TTL = Duration.ofSeconds(30);
+    private static final Duration HARD_TTL = Duration.ofMinutes(10);
+
+    private final AtomicLong now = new AtomicLong();
+    private final Queue<Runnable> refreshes = new ArrayDeque<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ListingCache cache = new ListingCache(refreshes::add, meterRegistry, SOFT_TTL, HARD_TTL, now::get);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Integer load() {
+        return loads.incrementAndGet();
+    }
+
+    @Test
+    void freshValue_shouldBeServedWithoutLoading() {
+        assertEquals(1, cache.get("departments", this::load));
+        advance(SOFT_TTL.minusSeconds(1));
+
+        assertEquals(1, cache.get("departments", this::load));
+        assertEquals(1, loads.get());
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void staleValue_shouldBeServedWhileOneRefreshRunsInBackground() {
+        cache.get("departments", this::load);
+        advance(SOFT_TTL);
+
+        assertEquals(1, cache.get("departments", this::load));
+        assertEquals(1, cache.get("departments", this::load));
+        assertEquals(1, refreshes.size(), "one refresh per stale entry");
+        assertEquals(1, loads.get(), "callers never wait for the refresh");
+
+        refreshes.poll().run();
+        assertEquals(2, cache.get("departments", this::load));
+        assertEquals(1, count("miss"));
+        assertEquals(2, count("stale"));
+        assertEquals(1, count("fresh"));
+    }
+
+    @Test
+    void failedRefresh_shouldKeepServingTheStaleValue() {
+        cache.get("departments", this::load);
+        advance(SOFT_TTL);
+
+        cache.get("departments", () -> {
+            throw new IllegalStateException("database down");
+        });
+        refreshes.poll().run();
+
+        assertEquals(1, cache.get("departments", this::load));
+        assertEquals(1, refreshes.size(), "failed refresh is retried by the next stale read");
+    }
+
+    @Test
+    void rejectedRefresh_shouldKeepServingTheStaleValue() {
+        ListingCache saturated = new ListingCache(task -> {
+            throw new RejectedExecutionException("queue full");
+        }, meterRegistry, SOFT_TTL, HARD_TTL, now::get);
+        saturated.get("departments", this::load);
+        advance(SOFT_TTL);
+
+        assertEquals(1, saturated.get("departments", this::load));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void expiredValue_shouldBeLoadedByTheCaller() {
+        cache.get("departments", this::load);
+        advance(HARD_TTL);
+
+        assertEquals(2, cache.get("departments", this::load));
+        assertEquals(2, count("miss"));
+        assertTrue(refreshes.isEmpty());
+    }
+
+    @Test
+    void invalidate_shouldDiscardRefreshStartedBeforeIt() {
+        cache.get("departments", this::load);
+        advance(SOFT_TTL);
+        cache.get("departments", this::load);
+
+        cache.invalidate("departments");
+        assertEquals(2, cache.get("departments", this::load));
+        refreshes.poll().run();
+
+        assertEquals(2, cache.get("departments", this::load), "pre-invalidation refresh is not stored");
+    }
+
+    @Test
+    void hardTtlShorterThanSoftTtl_shouldBeRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new ListingCache(Runnable::run, meterRegistry, HARD_TTL, SOFT_TTL, now::get));
+    }
+
+    private void advance(Duration duration) {
+        now.addAndGet(duration.toNanos());
+    }
+
+    private double count(String result) {
+        var counter = meterRegistry.find(ListingCache.METRIC_NAME).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.studentManagementSystem.coalescing;
+
+import com.example.studentManagementSystem.dto.DepartmentDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SingleFlight
+ */
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight singleFlight = new SingleFlight(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsForSameKey_shouldShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            results.add(submit(() -> {
+                executions.incrementAndGet();
+                release.await();
+                return new Object();
+            }));
+        }
+        awaitCount("coalesced", 7);
+        release.countDown();
+
+        Object first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (Future<Object> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, executions.get());
+        assertEquals(1, count("executed"));
+    }
+
+    @Test
+    void coalescedCallers_shouldEachReceiveTheirOwnCopy() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<List<DepartmentDTO>>> results = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                try {
+                    return singleFlight.execute("op", "key", () -> {
+                        release.await();
+                        return List.of(new DepartmentDTO(1L, "Computer Science", "CSE", null, 3, 2));
+                    }, ResultCopies::copy);
+                } catch (Throwable t) {
+                    throw new IllegalStateException(t);
+                }
+            }));
+        }
+        awaitCount("coalesced", 3);
+        release.countDown();
+
+        List<DepartmentDTO> first = results.get(0).get(5, TimeUnit.SECONDS);
+        first.get(0).setName("Changed by the first caller");
+        assertThrows(UnsupportedOperationException.class, () -> first.add(new DepartmentDTO()));
+        for (Future<List<DepartmentDTO>> result : results.subList(1, results.size())) {
+            List<DepartmentDTO> other = result.get(5, TimeUnit.SECONDS);
+            assertNotSame(first.get(0), other.get(0));
+            assertEquals(new DepartmentDTO(1L, "Computer Science", "CSE", null, 3, 2), other.get(0));
+        }
+    }
+
+    @Test
+    void failure_shouldPropagateToCoalescedCallers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> leader = submit(() -> {
+            release.await();
+            throw new IllegalStateException("boom");
+        });
+        awaitCount("executed", 1);
+        Future<Object> follower = submit(() -> "not called");
+        awaitCount("coalesced", 1);
+        release.countDown();
+
+        for (Future<Object> call : List.of(leader, follower)) {
+            ExecutionException ex = assertThrows(ExecutionException.class, () -> call.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(IllegalStateException.class, ex.getCause());
+        }
+    }
+
+    @Test
+    void sequentialCalls_shouldNotBeCached() throws Throwable {
+        AtomicInteger executions = new AtomicInteger();
+
+        singleFlight.execute("op", "key", executions::incrementAndGet);
+        singleFlight.execute("op", "key", executions::incrementAndGet);
+        singleFlight.execute("op", "other", executions::incrementAndGet);
+
+        assertEquals(3, executions.get());
+        assertEquals(0, count("coalesced"));
+    }
+
+    private Future<Object> submit(SingleFlight.Call<Object> call) {
+        return executor.submit(() -> {
+            try {
+                return singleFlight.execute("op", "key", call);
+            } catch (Exception | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException(t);
+            }
+        });
+    }
+
+    private double count(String result) {
+        var counter = meterRegistry.find(SingleFlight.METRIC_NAME).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private void awaitCount(String result, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count(result) < expected) {
+            assertTrue(System.nanoTime() < deadline, "timed out waiting for " + expected + " " + result);
+            Thread.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.studentManagementSystem.controller;
+
+import com.example.studentManagementSystem.config.SecurityConfig;
+import com.example.studentManagementSystem.dto.DepartmentStatsDTO;
+import com.example.studentManagementSystem.service.CustomUserDetailsService;
+import com.example.studentManagementSystem.service.ReportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for ReportController with Spring Security
+ */
+@WebMvcTest(ReportController.class)
+@Import(SecurityConfig.class)
+class ReportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ReportService reportService;
+
+    @MockBean
+    private CustomUserDetailsService customUserDetailsService;
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void testTeacherCanViewStatisticsAndExport() throws Exception {
+        DepartmentStatsDTO stats = new DepartmentStatsDTO(1L, "CSE", "Computer Science", 2, 1, 3, 4);
+        when(reportService.getDepartmentStatistics()).thenReturn(CompletableFuture.completedFuture(List.of(stats)));
+        when(reportService.exportStudentsCsv()).thenReturn(CompletableFuture.completedFuture("studentId\n"));
+
+        MvcResult statsResult = mockMvc.perform(get("/reports/departments"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(statsResult))
+                .andExpect(status().isOk())
+                .andExpect(view().name("report/departments"))
+                .andExpect(model().attributeExists("stats"));
+
+        MvcResult exportResult = mockMvc.perform(get("/reports/students/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(exportResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"students.csv\""));
+    }
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void testRejectedExportReturnsServiceUnavailable() throws Exception {
+        when(reportService.exportStudentsCsv()).thenReturn(
+                CompletableFuture.failedFuture(new RuntimeException("Too many reports are running")));
+
+        MvcResult result = mockMvc.perform(get("/reports/students/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    @WithMockUser(username = "student1", roles = {"STUDENT"})
+    void testStudentCannotAccessReports() throws Exception {
+        mockMvc.perform(get("/reports/departments"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/reports/students/export"))
+                .andExpect(status().isForbidden());
+    }
+}
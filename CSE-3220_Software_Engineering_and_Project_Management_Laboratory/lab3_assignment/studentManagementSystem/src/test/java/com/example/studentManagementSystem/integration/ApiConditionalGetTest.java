@@ -0,0 +1,144 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.entity.Course;
+import com.example.studentManagementSystem.entity.Student;
+import com.example.studentManagementSystem.repository.CourseRepository;
+import com.example.studentManagementSystem.repository.StudentRepository;
+import com.example.studentManagementSystem.service.StudentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * JSON API with conditional GET
+ * Unchanged data is answered with 304 for both validators; a committed change
+ * through the services produces a new ETag and moves Last-Modified to the commit time.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ApiConditionalGetTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private StudentService studentService;
+    @Autowired private StudentRepository studentRepository;
+    @Autowired private CourseRepository courseRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void unchangedListing_shouldBe304ForEtagAndLastModified() throws Exception {
+        String token = issue("teacher1", "teacher123");
+        MvcResult first = mockMvc.perform(get("/api/departments").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+        String lastModified = first.getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        assertNotNull(etag);
+        assertNotNull(lastModified);
+
+        mockMvc.perform(get("/api/departments").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/departments").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void committedChange_shouldProduceNewEtagAndLastModified() throws Exception {
+        String token = issue("teacher1", "teacher123");
+        MvcResult before = mockMvc.perform(get("/api/courses").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        String etag = before.getResponse().getHeader(HttpHeaders.ETAG);
+        long lastModified = before.getResponse().getDateHeader(HttpHeaders.LAST_MODIFIED);
+
+        Student student = studentRepository.findAll().get(0);
+        Course course = courseRepository.findByCode("EEE101").orElseThrow();
+        studentService.enrollInCourse(student.getId(), course.getId());
+
+        MvcResult after = mockMvc.perform(get("/api/courses").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertNotEquals(etag, after.getResponse().getHeader(HttpHeaders.ETAG));
+        // the commit time; HTTP dates have whole seconds, so it may equal the old value
+        assertTrue(after.getResponse().getDateHeader(HttpHeaders.LAST_MODIFIED) >= lastModified);
+
+        // Versions are per entity type: teachers did not change
+        MvcResult teachers = mockMvc.perform(get("/api/teachers").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn();
+        mockMvc.perform(get("/api/teachers").header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                        .header(HttpHeaders.IF_NONE_MATCH, teachers.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(status().isNotModified());
+        studentService.dropCourse(student.getId(), course.getId());
+    }
+
+    @Test
+    void students_shouldOnlyListTheirOwnEnrollments() throws Exception {
+        String token = issue("student1", "student123");
+        String me = mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andReturn().getResponse().getContentAsString();
+        long studentId = objectMapper.readTree(me).get("studentId").asLong();
+        Student other = studentRepository.findAll().stream()
+                .filter(s -> s.getId() != studentId)
+                .findFirst().orElseThrow();
+
+        mockMvc.perform(get("/api/enrollments").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].studentId", everyItem(is((int) studentId))));
+
+        mockMvc.perform(get("/api/enrollments").param("studentId", String.valueOf(other.getId()))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void missingEntity_shouldBe404() throws Exception {
+        String token = issue("teacher1", "teacher123");
+        mockMvc.perform(get("/api/students/999999").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Student not found with id: 999999"));
+    }
+
+    @Test
+    void missingToken_shouldBe401() throws Exception {
+        mockMvc.perform(get("/api/students"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String issue(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.studentManagementSystem.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Stateless bearer tokens for /api/**
+ * Tokens are issued for valid credentials, carry role and ids as claims, and are rejected
+ * when missing, tampered with or expired; no session is created.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ApiTokenAuthTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtEncoder apiTokenEncoder;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void token_shouldAuthenticateWithClaimsAndNoSession() throws Exception {
+        MvcResult issued = mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"student1\",\"password\":\"student123\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tokenType").value("Bearer"))
+                .andExpect(jsonPath("$.expiresIn").value(3600))
+                .andReturn();
+        assertNull(issued.getRequest().getSession(false), "no session for token issuing");
+        String token = objectMapper.readTree(issued.getResponse().getContentAsString()).get("accessToken").asText();
+
+        MvcResult me = mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("student1"))
+                .andExpect(jsonPath("$.role").value("ROLE_STUDENT"))
+                .andExpect(jsonPath("$.studentId", notNullValue()))
+                .andExpect(jsonPath("$.teacherId", nullValue()))
+                .andReturn();
+        assertNull(me.getRequest().getSession(false), "no session for token requests");
+    }
+
+    @Test
+    void teacherToken_shouldCarryTeacherRole() throws Exception {
+        String token = issue("teacher1", "teacher123");
+
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("ROLE_TEACHER"))
+                .andExpect(jsonPath("$.teacherId", notNullValue()));
+    }
+
+    @Test
+    void badCredentials_shouldBeRejected() throws Exception {
+        mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"student1\",\"password\":\"wrong\"}"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.accessToken").doesNotExist());
+    }
+
+    @Test
+    void missingToken_shouldBe401NotLoginRedirect() throws Exception {
+        mockMvc.perform(get("/api/auth/me"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().string(HttpHeaders.WWW_AUTHENTICATE, "Bearer"));
+    }
+
+    @Test
+    void tamperedToken_shouldBeRejected() throws Exception {
+        String[] parts = issue("student1", "student123").split("\\.");
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        JsonNode claims = objectMapper.readTree(decoder.decode(parts[1]));
+        String forged = objectMapper.writeValueAsString(
+                ((ObjectNode) claims).put("role", "ROLE_TEACHER"));
+        String tampered = parts[0] + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(forged.getBytes())
+                + "." + parts[2];
+
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + tampered))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void expiredToken_shouldBeRejected() throws Exception {
+        Instant issuedAt = Instant.now().minusSeconds(7200);
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("studentManagementSystem")
+                .subject("student1")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(3600))
+                .claim("role", "ROLE_STUDENT")
+                .build();
+        String expired = apiTokenEncoder.encode(JwtEncoderParameters.from(
+                JwsHeader.with(MacAlgorithm.HS256).build(), claims)).getTokenValue();
+
+        mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, "Bearer " + expired))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String issue(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+}
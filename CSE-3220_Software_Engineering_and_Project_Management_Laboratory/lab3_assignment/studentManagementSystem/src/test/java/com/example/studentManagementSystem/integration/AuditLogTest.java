@@ -0,0 +1,97 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.audit.AuditLogWriter;
+import com.example.studentManagementSystem.entity.Student;
+import com.example.studentManagementSystem.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Audit trail of teacher edits through StudentController, read back at /actuator/audit
+ * (own context and audit directory, so other tests' edits do not show up)
+ */
+@SpringBootTest(properties = "app.audit.batch-size=100")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class AuditLogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuditLogWriter auditLogWriter;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void studentUpdate_shouldRecordActorAndOldAndNewValues() throws Exception {
+        Student student = studentRepository.findAll().get(0);
+
+        mockMvc.perform(post("/students/update/" + student.getId()).with(csrf())
+                        .param("firstName", "Audited")
+                        .param("lastName", student.getLastName())
+                        .param("phone", student.getPhone())
+                        .param("address", student.getAddress())
+                        .param("semester", String.valueOf(student.getSemester())))
+                .andExpect(status().is3xxRedirection());
+        assertTrue(auditLogWriter.flush(Duration.ofSeconds(10)));
+
+        mockMvc.perform(get("/actuator/audit/students/" + student.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].actor").value("teacher1"))
+                .andExpect(jsonPath("$.changes[0].action").value("UPDATE"))
+                .andExpect(jsonPath("$.changes[0].fields.length()").value(1))
+                .andExpect(jsonPath("$.changes[0].fields[0].field").value("firstName"))
+                .andExpect(jsonPath("$.changes[0].fields[0].oldValue").value(student.getFirstName()))
+                .andExpect(jsonPath("$.changes[0].fields[0].newValue").value("Audited"));
+    }
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void studentDelete_shouldRecordTheRemovedValues() throws Exception {
+        Student student = studentRepository.findAll().get(1);
+
+        mockMvc.perform(post("/students/delete/" + student.getId()).with(csrf()))
+                .andExpect(status().is3xxRedirection());
+        assertTrue(auditLogWriter.flush(Duration.ofSeconds(10)));
+
+        mockMvc.perform(get("/actuator/audit/students/" + student.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].action").value("DELETE"))
+                .andExpect(jsonPath("$.changes[0].fields[*].oldValue").value(hasItem(student.getStudentId())));
+    }
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void timeRange_shouldExcludeEarlierChanges() throws Exception {
+        mockMvc.perform(get("/actuator/audit/students/1").param("from", "2999-01-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes.length()").value(0));
+        mockMvc.perform(get("/actuator/audit/unknown/1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(username = "student1", roles = {"STUDENT"})
+    void endpoint_shouldBeTeacherOnly() throws Exception {
+        mockMvc.perform(get("/actuator/audit/students/1")).andExpect(status().isForbidden());
+    }
+}
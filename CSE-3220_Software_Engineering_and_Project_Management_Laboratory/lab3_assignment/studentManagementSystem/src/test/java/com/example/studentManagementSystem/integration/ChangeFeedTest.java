@@ -0,0 +1,172 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.changes.Change;
+import com.example.studentManagementSystem.changes.ChangeFeedPage;
+import com.example.studentManagementSystem.changes.ChangeLog;
+import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.entity.Course;
+import com.example.studentManagementSystem.entity.Student;
+import com.example.studentManagementSystem.repository.CourseRepository;
+import com.example.studentManagementSystem.repository.StudentRepository;
+import com.example.studentManagementSystem.service.DepartmentService;
+import com.example.studentManagementSystem.service.StudentService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Change feed tests
+ * Writes go through the services; the feed must return the latest change per entity
+ * after a cursor, page without gaps, and skip rolled-back transactions.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ChangeFeedTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private ChangeLog changeLog;
+    @Autowired private DepartmentService departmentService;
+    @Autowired private StudentService studentService;
+    @Autowired private StudentRepository studentRepository;
+    @Autowired private CourseRepository courseRepository;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void feed_shouldReturnLatestChangePerEntity() {
+        long since = changeLog.head();
+        DepartmentDTO department = departmentService.createDepartment(department("FEED1"));
+        department.setDescription("Renamed once");
+        departmentService.updateDepartment(department.getId(), department);
+        department.setDescription("Renamed twice");
+        departmentService.updateDepartment(department.getId(), department);
+        Student student = studentRepository.findAll().get(0);
+        Course course = courseRepository.findByCode("CSE301").orElseThrow();
+        studentService.enrollInCourse(student.getId(), course.getId());
+        studentService.dropCourse(student.getId(), course.getId());
+
+        ChangeFeedPage page = changeLog.read(since, 100);
+
+        assertEquals(since + 5, page.head());
+        assertEquals(page.head(), page.next());
+        assertFalse(page.more());
+        assertEquals(List.of(
+                new Change(since + 3, "departments", department.getId(), "u", 0),
+                new Change(since + 5, "enrollments", student.getId(), "d", course.getId())), page.changes());
+    }
+
+    @Test
+    void feed_shouldPageWithoutGaps() {
+        long since = changeLog.head();
+        for (int i = 0; i < 5; i++) {
+            departmentService.createDepartment(department("PAGE" + i));
+        }
+
+        List<Change> read = new ArrayList<>();
+        long cursor = since;
+        ChangeFeedPage page;
+        do {
+            page = changeLog.read(cursor, 2);
+            assertTrue(page.changes().size() <= 2);
+            read.addAll(page.changes());
+            cursor = page.next();
+        } while (page.more());
+
+        assertEquals(changeLog.read(since, 100).changes(), read);
+        assertEquals(5, read.size());
+        assertEquals(changeLog.head(), cursor);
+    }
+
+    @Test
+    void rolledBackWrite_shouldNotAppear() {
+        long head = changeLog.head();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            departmentService.createDepartment(department("ROLLBACK"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(head, changeLog.head());
+        assertTrue(changeLog.read(head, 100).changes().isEmpty());
+    }
+
+    @Test
+    void compaction_shouldNotChangeTheFeed() {
+        long since = changeLog.head();
+        DepartmentDTO department = departmentService.createDepartment(department("COMPACT"));
+        for (int i = 0; i < 3; i++) {
+            department.setDescription("Revision " + i);
+            departmentService.updateDepartment(department.getId(), department);
+        }
+        ChangeFeedPage before = changeLog.read(since, 100);
+
+        assertTrue(changeLog.compact() >= 3);
+
+        assertEquals(before, changeLog.read(since, 100));
+    }
+
+    @Test
+    void cursorAheadOfHead_shouldBeRejected() throws Exception {
+        String token = issue("teacher1", "teacher123");
+        mockMvc.perform(get("/api/changes").param("since", String.valueOf(changeLog.head() + 1))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void api_shouldServeCompactArraysToTeachersOnly() throws Exception {
+        long since = changeLog.head();
+        DepartmentDTO department = departmentService.createDepartment(department("API1"));
+
+        String token = issue("teacher1", "teacher123");
+        mockMvc.perform(get("/api/changes").param("since", String.valueOf(since))
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.next").value(since + 1))
+                .andExpect(jsonPath("$.more").value(false))
+                .andExpect(jsonPath("$.changes[0][0]").value(since + 1))
+                .andExpect(jsonPath("$.changes[0][1]").value("departments"))
+                .andExpect(jsonPath("$.changes[0][2]").value(department.getId()))
+                .andExpect(jsonPath("$.changes[0][3]").value("u"));
+
+        String studentToken = issue("student1", "student123");
+        mockMvc.perform(get("/api/changes").header(HttpHeaders.AUTHORIZATION, "Bearer " + studentToken))
+                .andExpect(status().isForbidden());
+    }
+
+    private static DepartmentDTO department(String code) {
+        DepartmentDTO dto = new DepartmentDTO();
+        dto.setCode(code);
+        dto.setName("Department " + code);
+        dto.setDescription("Change feed test");
+        return dto;
+    }
+
+    private String issue(String username, String password) throws Exception {
+        String body = mockMvc.perform(post("/api/auth/token")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body).get("accessToken").asText();
+    }
+}
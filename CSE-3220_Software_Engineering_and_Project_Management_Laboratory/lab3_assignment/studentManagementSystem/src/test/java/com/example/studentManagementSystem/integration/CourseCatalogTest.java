@@ -0,0 +1,156 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.catalog.CatalogConsistencyReport;
+import com.example.studentManagementSystem.catalog.CourseCatalog;
+import com.example.studentManagementSystem.dto.CourseDTO;
+import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.dto.TeacherDTO;
+import com.example.studentManagementSystem.entity.Student;
+import com.example.studentManagementSystem.entity.Teacher;
+import com.example.studentManagementSystem.repository.StudentRepository;
+import com.example.studentManagementSystem.repository.TeacherRepository;
+import com.example.studentManagementSystem.service.CourseService;
+import com.example.studentManagementSystem.service.DepartmentService;
+import com.example.studentManagementSystem.service.StudentService;
+import com.example.studentManagementSystem.service.TeacherService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Course catalog read model tests
+ * Every write goes through the services (committed transactions), then the
+ * catalog is compared with the database.
+ */
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class CourseCatalogTest {
+
+    @Autowired private CourseCatalog courseCatalog;
+    @Autowired private CourseService courseService;
+    @Autowired private DepartmentService departmentService;
+    @Autowired private StudentService studentService;
+    @Autowired private TeacherService teacherService;
+    @Autowired private StudentRepository studentRepository;
+    @Autowired private TeacherRepository teacherRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void getAllCourses_shouldMatchDatabase() {
+        List<CourseDTO> courses = courseService.getAllCourses();
+
+        assertEquals(count("SELECT COUNT(*) FROM courses"), courses.size());
+        for (CourseDTO course : courses) {
+            assertEquals(count("SELECT COUNT(*) FROM student_courses WHERE course_id = " + course.getId()),
+                    course.getEnrolledStudentCount(), course.getCode());
+        }
+        assertTrue(courseCatalog.checkConsistency().isConsistent());
+    }
+
+    @Test
+    void courseWrites_shouldBeVisibleAfterCommit() {
+        Teacher teacher = teacherRepository.findAll().get(0);
+        CourseDTO dto = new CourseDTO();
+        dto.setCode("CAT101");
+        dto.setName("Catalog Course");
+        dto.setCredits(3);
+        dto.setTeacherId(teacher.getId());
+
+        CourseDTO created = courseService.createCourse(dto);
+        assertEquals(teacher.getFullName(), courseService.getCourseById(created.getId()).getTeacherName());
+
+        dto.setName("Catalog Course II");
+        courseService.updateCourse(created.getId(), dto);
+        assertEquals("Catalog Course II", courseService.getCourseById(created.getId()).getName());
+
+        courseService.deleteCourse(created.getId());
+        assertThrows(RuntimeException.class, () -> courseService.getCourseById(created.getId()));
+        assertTrue(courseCatalog.checkConsistency().isConsistent());
+    }
+
+    @Test
+    void departmentDelete_shouldDropTheCoursesItCascadesTo() {
+        DepartmentDTO department = new DepartmentDTO();
+        department.setCode("CATDEL");
+        department.setName("Catalog Delete");
+        Long departmentId = departmentService.createDepartment(department).getId();
+        TeacherDTO teacher = new TeacherDTO();
+        teacher.setFirstName("Cascade");
+        teacher.setLastName("Teacher");
+        teacher.setEmail("cascade.teacher@university.edu");
+        teacher.setDepartmentId(departmentId);
+        teacher.setUsername("cascadeteacher");
+        teacher.setPassword("teacher123");
+        CourseDTO course = new CourseDTO();
+        course.setCode("CAT201");
+        course.setName("Cascaded Course");
+        course.setCredits(3);
+        course.setTeacherId(teacherService.createTeacher(teacher).getId());
+        CourseDTO created = courseService.createCourse(course);
+
+        departmentService.deleteDepartment(departmentId);
+
+        assertThrows(RuntimeException.class, () -> courseService.getCourseById(created.getId()));
+        assertTrue(courseCatalog.checkConsistency().isConsistent());
+    }
+
+    @Test
+    void enrollAndDrop_shouldUpdateEnrollmentCount() {
+        Student student = studentRepository.findAll().get(0);
+        Long courseId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM courses WHERE id NOT IN "
+                + "(SELECT course_id FROM student_courses WHERE student_id = ?)", Long.class, student.getId());
+        CourseDTO course = courseService.getCourseById(courseId);
+
+        studentService.enrollInCourse(student.getId(), course.getId());
+        assertEquals(course.getEnrolledStudentCount() + 1,
+                courseService.getCourseById(course.getId()).getEnrolledStudentCount());
+
+        studentService.dropCourse(student.getId(), course.getId());
+        assertEquals(course.getEnrolledStudentCount(),
+                courseService.getCourseById(course.getId()).getEnrolledStudentCount());
+    }
+
+    @Test
+    void teacherRename_shouldUpdateTeacherNames() {
+        Teacher teacher = teacherRepository.findAll().get(0);
+        TeacherDTO dto = teacherService.getTeacherById(teacher.getId());
+        dto.setLastName("Renamed");
+
+        teacherService.updateTeacher(teacher.getId(), dto);
+
+        assertTrue(courseService.getAllCourses().stream()
+                .filter(c -> teacher.getId().equals(c.getTeacherId()))
+                .allMatch(c -> c.getTeacherName().endsWith(" Renamed")));
+    }
+
+    @Test
+    void returnedCourses_shouldNotShareSnapshotState() {
+        CourseDTO course = courseService.getAllCourses().get(0);
+        course.setName("changed by a caller");
+
+        assertNotEquals("changed by a caller", courseService.getCourseById(course.getId()).getName());
+    }
+
+    @Test
+    void checkConsistency_shouldDetectAndRepairChangesOutsideTheServices() {
+        CourseDTO course = courseService.getAllCourses().get(0);
+        jdbcTemplate.update("UPDATE courses SET name = ? WHERE id = ?", "Renamed in SQL", course.getId());
+
+        CatalogConsistencyReport report = courseCatalog.checkConsistency();
+
+        assertFalse(report.isConsistent());
+        assertEquals(List.of(course.getId()), report.mismatched());
+        assertEquals("Renamed in SQL", courseService.getCourseById(course.getId()).getName());
+        assertTrue(courseCatalog.checkConsistency().isConsistent());
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
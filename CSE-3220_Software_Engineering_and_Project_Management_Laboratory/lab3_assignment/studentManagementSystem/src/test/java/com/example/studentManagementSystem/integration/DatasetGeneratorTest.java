@@ -0,0 +1,95 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.config.DatasetGenerator;
+import com.example.studentManagementSystem.entity.Department;
+import com.example.studentManagementSystem.repository.DepartmentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.response.SecurityMockMvcResultMatchers.authenticated;
+
+/**
+ * Synthetic dataset generator tests
+ * The dataset is generated on startup (app.dataset.enabled) on top of the demo data.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:dataset;DB_CLOSE_DELAY=-1",
+        "app.dataset.enabled=true",
+        "app.dataset.departments=4",
+        "app.dataset.teachers-per-department=5",
+        "app.dataset.courses-per-teacher=2",
+        "app.dataset.students=500",
+        "app.dataset.enrollments-per-student=4",
+        "app.dataset.batch-size=100"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class DatasetGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void generate_shouldWriteConfiguredRowCountsOnTopOfDemoData() {
+        assertEquals(3 + 4, count("departments"));
+        assertEquals(2 + 20, count("teachers"));
+        assertEquals(4 + 40, count("courses"));
+        assertEquals(3 + 500, count("students"));
+        assertEquals(5 + 20 + 500, count("users"));
+        assertEquals(5 + 500 * 4, count("student_courses"));
+    }
+
+    @Test
+    void generate_shouldEnrollEachStudentInDistinctCourses() {
+        Long perStudent = jdbcTemplate.queryForObject(
+                "SELECT MAX(c) FROM (SELECT COUNT(DISTINCT sc.course_id) c FROM student_courses sc "
+                        + "JOIN students s ON s.id = sc.student_id WHERE s.student_id LIKE 'G-%' GROUP BY sc.student_id)",
+                Long.class);
+        assertEquals(4L, perStudent);
+    }
+
+    @Test
+    void generate_shouldSkewEnrollmentsTowardsPopularCourses() {
+        List<Long> perCourse = jdbcTemplate.queryForList(
+                "SELECT COUNT(sc.student_id) FROM courses c LEFT JOIN student_courses sc ON sc.course_id = c.id "
+                        + "WHERE c.code LIKE 'GC%' GROUP BY c.id ORDER BY 1 DESC", Long.class);
+        long mostPopular = perCourse.get(0);
+        long median = perCourse.get(perCourse.size() / 2);
+        assertTrue(mostPopular > 3 * median, "most popular=" + mostPopular + ", median=" + median);
+    }
+
+    @Test
+    void generate_shouldCreateWorkingLogins() throws Exception {
+        mockMvc.perform(formLogin("/login").user(DatasetGenerator.studentUsername(0)).password("student123"))
+                .andExpect(authenticated().withRoles("STUDENT"));
+        mockMvc.perform(formLogin("/login").user(DatasetGenerator.teacherUsername(0)).password("teacher123"))
+                .andExpect(authenticated().withRoles("TEACHER"));
+    }
+
+    @Test
+    void generate_shouldRestartIdentityAfterGeneratedRows() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM departments", Long.class);
+        Department saved = departmentRepository.save(new Department("After Generation", "AG", "Saved via JPA"));
+        assertTrue(saved.getId() > maxId);
+        departmentRepository.delete(saved);
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
@@ -2,13 +2,16 @@ package com.example.studentManagementSystem.integration;
 
 import com.example.studentManagementSystem.dto.CourseDTO;
 import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.dto.DepartmentStatsDTO;
 import com.example.studentManagementSystem.dto.StudentDTO;
 import com.example.studentManagementSystem.dto.TeacherDTO;
 import com.example.studentManagementSystem.entity.*;
 import com.example.studentManagementSystem.repository.*;
 import com.example.studentManagementSystem.service.*;
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -16,9 +19,11 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -68,6 +73,16 @@ class IntegrationTest {
     @Autowired
     private TeacherService teacherService;
 
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("reportingDataSource")
+    private DataSource reportingDataSource;
+
     // ==================== Repository Integration Tests ====================
 
     /**
@@ -313,4 +328,29 @@ class IntegrationTest {
 
         assertFalse(courseRepository.existsByCode("TEMP100"));
     }
+
+    // ==================== Reporting Integration Tests ====================
+
+    /**
+     * Test 16: Department statistics run on the separate reporting pool.
+     */
+    @Test
+    void reportService_departmentStatisticsUseReportingPool() throws Exception {
+        List<DepartmentStatsDTO> stats = reportService.getDepartmentStatistics().get(10, TimeUnit.SECONDS);
+
+        DepartmentStatsDTO cse = stats.stream()
+                .filter(s -> s.getCode().equals("CSE"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, cse.getStudentCount());
+        assertEquals(1, cse.getTeacherCount());
+        assertEquals(3, cse.getCourseCount());
+        assertEquals(4, cse.getEnrollmentCount());
+
+        HikariDataSource primaryPool = dataSource.unwrap(HikariDataSource.class);
+        HikariDataSource reportingPool = reportingDataSource.unwrap(HikariDataSource.class);
+        assertNotSame(primaryPool, reportingPool);
+        assertEquals("reporting", reportingPool.getPoolName());
+        assertTrue(reportingPool.getMaximumPoolSize() < primaryPool.getMaximumPoolSize());
+    }
 }
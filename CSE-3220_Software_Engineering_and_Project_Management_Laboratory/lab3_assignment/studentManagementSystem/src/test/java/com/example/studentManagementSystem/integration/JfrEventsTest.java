@@ -0,0 +1,91 @@
+package com.example.studentManagementSystem.integration;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Custom JFR events and the /actuator/jfr recording endpoint
+ */
+@SpringBootTest(properties = "app.jfr.directory=target/jfr-test")
+@AutoConfigureMockMvc
+class JfrEventsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void request_shouldEmitServiceSqlAndTemplateEvents(@TempDir Path tempDir) throws Exception {
+        Path file = tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("studentManagementSystem.ServiceCall").withThreshold(Duration.ZERO);
+            recording.enable("studentManagementSystem.SqlStatement").withThreshold(Duration.ZERO);
+            recording.enable("studentManagementSystem.TemplateRender").withThreshold(Duration.ZERO);
+            recording.start();
+
+            mockMvc.perform(get("/students")).andExpect(status().isOk());
+
+            recording.stop();
+            recording.dump(file);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+
+        RecordedEvent serviceCall = events.stream()
+                .filter(e -> e.getEventType().getName().equals("studentManagementSystem.ServiceCall"))
+                .filter(e -> "getAllStudents".equals(e.getString("method")))
+                .findFirst().orElseThrow();
+        assertEquals("StudentService", serviceCall.getString("service"));
+        assertEquals("Student", serviceCall.getString("entityType"));
+        assertTrue(serviceCall.getInt("rowCount") > 0);
+
+        assertTrue(events.stream()
+                .filter(e -> e.getEventType().getName().equals("studentManagementSystem.SqlStatement"))
+                .anyMatch(e -> e.getString("sql").toLowerCase().contains("from students")), "SQL event");
+        assertTrue(events.stream()
+                .filter(e -> e.getEventType().getName().equals("studentManagementSystem.TemplateRender"))
+                .anyMatch(e -> e.getString("template").startsWith("student/")), "template event");
+    }
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void endpoint_shouldStartAndStopBoundedRecording() throws Exception {
+        mockMvc.perform(post("/actuator/jfr")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"durationSeconds\": 100000, \"maxSizeMb\": 10}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.duration").value("PT10M"))
+                .andExpect(jsonPath("$.maxSizeBytes").value(10 * 1024 * 1024));
+
+        String file = com.jayway.jsonpath.JsonPath.read(mockMvc.perform(delete("/actuator/jfr"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("CLOSED"))
+                .andReturn().getResponse().getContentAsString(), "$.file");
+
+        assertTrue(Files.size(Path.of(file)) > 0);
+    }
+
+    @Test
+    @WithMockUser(username = "student1", roles = {"STUDENT"})
+    void endpoint_shouldBeTeacherOnly() throws Exception {
+        mockMvc.perform(post("/actuator/jfr")).andExpect(status().isForbidden());
+    }
+}
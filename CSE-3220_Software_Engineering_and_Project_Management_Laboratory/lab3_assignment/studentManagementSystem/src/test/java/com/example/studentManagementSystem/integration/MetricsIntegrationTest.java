@@ -0,0 +1,55 @@
+package com.example.studentManagementSystem.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for Actuator / Micrometer instrumentation
+ * Verifies the Prometheus scrape contains route, service, Hibernate and Hikari metrics.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void prometheusScrape_shouldExposeApplicationMetrics() throws Exception {
+        mockMvc.perform(get("/courses")).andExpect(status().isOk());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(scrape.contains("http_server_requests_seconds_bucket"), "route latency histogram");
+        assertTrue(scrape.contains("uri=\"/courses\""), "route tag");
+        assertTrue(scrape.contains("service_method_seconds_count"), "service method timer");
+        assertTrue(scrape.contains("class=\"CourseService\""), "service class tag");
+        assertTrue(scrape.contains("singleflight_calls_total{"), "request coalescing counter");
+        assertTrue(scrape.contains("hibernate_query_executions_total"), "hibernate statistics");
+        assertTrue(scrape.contains("hibernate_entities_loads_total"), "entity loads");
+        assertTrue(scrape.contains("hibernate_collections_fetches_total"), "collection fetches");
+        assertTrue(scrape.contains("hibernate_cache_query_requests_total"), "cache statistics");
+        assertTrue(scrape.contains("hikaricp_connections_usage_seconds"), "connection hold time");
+        assertTrue(scrape.contains("hikaricp_connections_max{pool=\"primary\""), "primary pool metrics");
+        assertTrue(scrape.contains("jdbc_connections_max{name=\"reporting\""), "reporting pool metrics");
+    }
+
+    @Test
+    void prometheusScrape_shouldNotRequireLogin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk());
+    }
+}
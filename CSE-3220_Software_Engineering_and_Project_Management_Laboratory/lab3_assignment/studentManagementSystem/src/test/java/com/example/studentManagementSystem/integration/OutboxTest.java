@@ -0,0 +1,239 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.changes.ChangeLog;
+import com.example.studentManagementSystem.changes.ChangeOperation;
+import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.outbox.Outbox;
+import com.example.studentManagementSystem.outbox.OutboxEvent;
+import com.example.studentManagementSystem.outbox.OutboxListener;
+import com.example.studentManagementSystem.outbox.OutboxProperties;
+import com.example.studentManagementSystem.outbox.OutboxRelay;
+import com.example.studentManagementSystem.service.DepartmentService;
+import com.example.studentManagementSystem.versioning.EntityType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Transactional outbox tests
+ * The scheduled relay is disabled; each test polls explicitly.
+ */
+@SpringBootTest(properties = {"app.outbox.enabled=false", "app.outbox.max-attempts=3", "app.outbox.batch-size=500"})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class OutboxTest {
+
+    @Autowired private OutboxRelay relay;
+    @Autowired private RecordingListener listener;
+    @Autowired private ChangeLog changeLog;
+    @Autowired private DepartmentService departmentService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+    @Autowired private Outbox outbox;
+    @Autowired private OutboxProperties properties;
+    @Autowired private ObjectProvider<OutboxListener> listeners;
+
+    @BeforeEach
+    void drain() {
+        listener.reset();
+        jdbcTemplate.update("DELETE FROM outbox_events");
+        jdbcTemplate.update("UPDATE outbox_relay_lease SET owner = NULL, expires_at = TIMESTAMP '1970-01-01 00:00:00'");
+    }
+
+    @Test
+    void committedChange_shouldBeDeliveredOnceAndDeleted() {
+        DepartmentDTO department = departmentService.createDepartment(department("OUT1"));
+
+        assertEquals(1, relay.poll());
+
+        assertEquals(1, listener.events.size());
+        OutboxEvent event = listener.events.get(0);
+        assertEquals(changeLog.head(), event.version());
+        assertEquals(EntityType.DEPARTMENTS, event.type());
+        assertEquals(department.getId(), event.id());
+        assertEquals(ChangeOperation.UPSERT, event.operation());
+        assertEquals(0, pending());
+        assertEquals(0, relay.poll());
+    }
+
+    @Test
+    void rolledBackChange_shouldProduceNoEvent() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            departmentService.createDepartment(department("OUTRB"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, pending());
+        assertEquals(0, relay.poll());
+    }
+
+    @Test
+    void failingEvent_shouldBeRetriedWithoutLosingEarlierOrLaterEvents() {
+        departmentService.createDepartment(department("OUT2"));
+        long poison = departmentService.createDepartment(department("OUT3")).getId();
+        departmentService.createDepartment(department("OUT4"));
+        listener.fail(poison, 2); // the batch and the event-by-event retry
+
+        assertEquals(1, relay.poll());
+        assertEquals(2, pending());
+
+        assertEquals(2, relay.poll());
+        assertEquals(0, pending());
+        assertEquals(3, listener.events.stream().map(OutboxEvent::version).distinct().count());
+    }
+
+    @Test
+    void eventFailingMaxAttempts_shouldBeSkipped() {
+        long poison = departmentService.createDepartment(department("OUT5")).getId();
+        departmentService.createDepartment(department("OUT6"));
+        listener.fail(poison, Integer.MAX_VALUE);
+
+        for (int i = 0; i < 3; i++) {
+            relay.poll();
+        }
+        relay.poll();
+
+        assertEquals(1, pending());
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT attempts FROM outbox_events", Integer.class));
+        assertTrue(listener.events.stream().anyMatch(e -> e.id() != poison));
+    }
+
+    @Test
+    void bulkChanges_shouldBeDrainedInBatches() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (long id = 1; id <= 1_200; id++) {
+                changeLog.record(EntityType.STUDENTS, 1_000_000 + id, ChangeOperation.UPSERT);
+            }
+        });
+
+        assertEquals(1_200, relay.poll());
+
+        assertEquals(0, pending());
+        assertEquals(3, listener.batches);
+    }
+
+    @Test
+    void deadGauge_shouldCountDeadEventsLeftFromBeforeARestart() {
+        departmentService.createDepartment(department("OUT8"));
+        jdbcTemplate.update("UPDATE outbox_events SET attempts = 3");
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay restarted = new OutboxRelay(outbox, listeners, properties, meterRegistry);
+        restarted.countDeadEvents();
+
+        assertEquals(1, meterRegistry.get("outbox.dead").gauge().value());
+    }
+
+    @Test
+    void noListeners_shouldLeaveTheEventsInPlace() {
+        departmentService.createDepartment(department("OUT9"));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OutboxRelay unlistened = new OutboxRelay(outbox,
+                new StaticListableBeanFactory().getBeanProvider(OutboxListener.class), properties, meterRegistry);
+
+        assertEquals(0, unlistened.poll());
+        assertEquals(1, pending());
+        assertEquals(0, meterRegistry.get("outbox.delivered").counter().count());
+    }
+
+    @Test
+    void leaseTakenOverDuringAPoll_shouldStopBeforeTheNextBatch() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (long id = 1; id <= 1_200; id++) {
+                changeLog.record(EntityType.TEACHERS, 1_000_000 + id, ChangeOperation.UPSERT);
+            }
+        });
+        // e.g. the first batch outlived the lease and another instance took it
+        listener.afterBatch = () -> jdbcTemplate.update(
+                "UPDATE outbox_relay_lease SET owner = 'other', expires_at = ?",
+                Timestamp.from(Instant.now().plusSeconds(60)));
+
+        assertEquals(500, relay.poll());
+        assertEquals(700, pending());
+    }
+
+    @Test
+    void leaseHeldByAnotherInstance_shouldPreventRelaying() {
+        departmentService.createDepartment(department("OUT7"));
+        jdbcTemplate.update("UPDATE outbox_relay_lease SET owner = 'other', expires_at = ?",
+                Timestamp.from(Instant.now().plusSeconds(60)));
+
+        assertEquals(0, relay.poll());
+        assertEquals(1, pending());
+    }
+
+    private int pending() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class);
+    }
+
+    private static DepartmentDTO department(String code) {
+        DepartmentDTO dto = new DepartmentDTO();
+        dto.setCode(code);
+        dto.setName("Department " + code);
+        return dto;
+    }
+
+    static class RecordingListener implements OutboxListener {
+
+        final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+        final Map<Long, AtomicInteger> failures = new ConcurrentHashMap<>();
+        volatile int batches;
+        volatile Runnable afterBatch;
+
+        /** Fail the next deliveries of the entity's events */
+        void fail(long entityId, int times) {
+            failures.put(entityId, new AtomicInteger(times));
+        }
+
+        @Override
+        public void onEvents(List<OutboxEvent> batch) {
+            for (OutboxEvent event : batch) {
+                AtomicInteger remaining = failures.get(event.id());
+                if (remaining != null && remaining.getAndDecrement() > 0) {
+                    throw new IllegalStateException("Listener failed on " + event.id());
+                }
+            }
+            events.addAll(batch);
+            batches++;
+            if (afterBatch != null) {
+                afterBatch.run();
+            }
+        }
+
+        void reset() {
+            events.clear();
+            failures.clear();
+            batches = 0;
+            afterBatch = null;
+        }
+    }
+
+    @TestConfiguration
+    static class ListenerConfig {
+
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+}
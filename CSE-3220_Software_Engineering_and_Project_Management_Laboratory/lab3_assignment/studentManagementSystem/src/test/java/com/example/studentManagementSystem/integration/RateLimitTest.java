@@ -0,0 +1,56 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.repository.CourseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Per-principal rate limit behind Spring Security
+ * The signed-in student is identified after authentication; a third enroll/drop
+ * within the burst is refused with 429 before reaching the controller.
+ */
+@SpringBootTest(properties = {
+        "app.rate-limit.rules[0].name=enrollment",
+        "app.rate-limit.rules[0].paths=/students/enroll/**,/students/drop/**",
+        "app.rate-limit.rules[0].capacity=2",
+        "app.rate-limit.rules[0].refill-per-second=0.01"
+})
+@AutoConfigureMockMvc
+class RateLimitTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Test
+    @WithMockUser(username = "student1", roles = {"STUDENT"})
+    void enrollDropLoop_shouldBeThrottledPerStudent() throws Exception {
+        Long courseId = courseRepository.findAll().get(0).getId();
+
+        mockMvc.perform(post("/students/enroll/" + courseId)).andExpect(status().is3xxRedirection());
+        mockMvc.perform(post("/students/drop/" + courseId)).andExpect(status().is3xxRedirection());
+        mockMvc.perform(post("/students/enroll/" + courseId))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+
+        mockMvc.perform(get("/students/my-courses")).andExpect(status().isOk());
+    }
+
+    @Test
+    void anonymousCaller_shouldStillBeRedirectedToLogin() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/students/enroll/1")).andExpect(status().is3xxRedirection());
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.StudentManagementSystemApplication;
+import com.example.studentManagementSystem.session.CompactSessionSerializer;
+import com.example.studentManagementSystem.session.TouchBatchingSessionRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.util.SerializationUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shared JDBC session store: two application instances on one database
+ * A session created by logging in on one instance authenticates requests on the other;
+ * touches are batched, attributes are stored deflated, logout removes the session.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        SharedSessionStoreTest.DATABASE,
+        "app.session.touch-flush-interval=PT1H"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SharedSessionStoreTest {
+
+    static final String DATABASE = "spring.datasource.url=jdbc:h2:mem:shared-sessions;DB_CLOSE_DELAY=-1";
+
+    private static ConfigurableApplicationContext otherInstance;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TouchBatchingSessionRepository sessionRepository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeAll
+    static void startOtherInstance() {
+        otherInstance = new SpringApplicationBuilder(StudentManagementSystemApplication.class)
+                .run("--server.port=0", "--" + DATABASE, "--app.session.touch-flush-interval=PT1H");
+    }
+
+    @AfterAll
+    static void stopOtherInstance() {
+        otherInstance.close();
+    }
+
+    @Test
+    void sessionFromOneInstance_shouldAuthenticateOnTheOther() throws Exception {
+        String cookie = login(port);
+
+        HttpResponse<String> dashboard = get(otherPort(), "/dashboard", cookie);
+        assertEquals(200, dashboard.statusCode());
+        assertTrue(dashboard.body().contains("John Smith"), "teacher1's dashboard");
+
+        assertEquals("teacher1", jdbcTemplate.queryForObject(
+                "SELECT principal_name FROM spring_session WHERE session_id = ?", String.class, sessionId(cookie)));
+    }
+
+    @Test
+    void touches_shouldBeWrittenInBatches() throws Exception {
+        String cookie = login(port);
+        long lastAccess = lastAccessTime(cookie);
+        Thread.sleep(20);
+
+        assertEquals(200, get(port, "/dashboard", cookie).statusCode());
+        assertEquals(lastAccess, lastAccessTime(cookie), "touch is queued, not written");
+        assertTrue(sessionRepository.pendingTouches() > 0);
+
+        sessionRepository.flushTouches();
+        assertTrue(lastAccessTime(cookie) > lastAccess);
+        assertEquals(0, sessionRepository.pendingTouches());
+    }
+
+    @Test
+    void securityContext_shouldBeStoredDeflated() throws Exception {
+        String cookie = login(port);
+        byte[] stored = jdbcTemplate.queryForObject("""
+                SELECT a.attribute_bytes FROM spring_session_attributes a
+                JOIN spring_session s ON s.primary_id = a.session_primary_id
+                WHERE s.session_id = ? AND a.attribute_name = 'SPRING_SECURITY_CONTEXT'""",
+                byte[].class, sessionId(cookie));
+
+        Object context = new DeserializingConverter(new CompactSessionSerializer(getClass().getClassLoader()))
+                .convert(stored);
+        byte[] plain = SerializationUtils.serialize(context);
+        assertTrue(stored.length * 2 < plain.length, stored.length + " bytes deflated vs " + plain.length);
+    }
+
+    @Test
+    void logoutOnOneInstance_shouldEndSessionOnBoth() throws Exception {
+        String cookie = login(port);
+
+        get(otherPort(), "/logout", cookie);
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM spring_session WHERE session_id = ?", Integer.class, sessionId(cookie)));
+        assertEquals(302, get(port, "/dashboard", cookie).statusCode());
+    }
+
+    @Test
+    void expiredSession_shouldNotAuthenticate() throws Exception {
+        String cookie = login(port);
+        jdbcTemplate.update("UPDATE spring_session SET expiry_time = 0, last_access_time = 0 WHERE session_id = ?",
+                sessionId(cookie));
+
+        HttpResponse<String> dashboard = get(otherPort(), "/dashboard", cookie);
+        assertEquals(302, dashboard.statusCode());
+        assertTrue(dashboard.headers().firstValue("Location").orElseThrow().endsWith("/login"));
+    }
+
+    private String login(int port) throws Exception {
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(port, "/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString("username=teacher1&password=teacher123"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(302, response.statusCode());
+        assertTrue(response.headers().firstValue("Location").orElseThrow().endsWith("/dashboard"));
+        return response.headers().allValues("Set-Cookie").stream()
+                .filter(value -> value.startsWith("SESSION="))
+                .map(value -> value.substring(0, value.indexOf(';')))
+                .findFirst().orElseThrow();
+    }
+
+    private HttpResponse<String> get(int port, String path, String cookie) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri(port, path)).header("Cookie", cookie).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private long lastAccessTime(String cookie) {
+        return jdbcTemplate.queryForObject("SELECT last_access_time FROM spring_session WHERE session_id = ?",
+                Long.class, sessionId(cookie));
+    }
+
+    /**
+     * The SESSION cookie holds the Base64-encoded session id
+     */
+    private static String sessionId(String cookie) {
+        return new String(java.util.Base64.getDecoder().decode(cookie.substring("SESSION=".length())));
+    }
+
+    private static int otherPort() {
+        return ((WebServerApplicationContext) otherInstance).getWebServer().getPort();
+    }
+
+    private static URI uri(int port, String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.monitoring.SlowQuery;
+import com.example.studentManagementSystem.monitoring.SlowQueryLog;
+import com.example.studentManagementSystem.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Slow-query log and the /actuator/slowqueries endpoint
+ * A zero threshold captures every statement.
+ */
+@SpringBootTest(properties = {"app.sql.slow-query.threshold=0ms", "app.sql.slow-query.capacity=1000"})
+@AutoConfigureMockMvc
+class SlowQueryLogTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @BeforeEach
+    void clearLog() {
+        slowQueryLog.clear();
+    }
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void request_shouldCaptureStatementsWithServiceMethodRowsAndParameters() throws Exception {
+        Long studentId = studentRepository.findAll().get(0).getId();
+        slowQueryLog.clear();
+
+        mockMvc.perform(get("/students")).andExpect(status().isOk());
+        mockMvc.perform(get("/students/view/" + studentId)).andExpect(status().isOk());
+
+        SlowQuery listing = slowQueryLog.entries().stream()
+                .filter(q -> "StudentService.getAllStudents".equals(q.serviceMethod()))
+                .filter(q -> q.sql().toLowerCase().contains("from students"))
+                .findFirst().orElseThrow();
+        assertTrue(listing.rows() > 0, "rows read");
+
+        SlowQuery byId = slowQueryLog.entries().stream()
+                .filter(q -> "StudentService.getStudentById".equals(q.serviceMethod()))
+                .filter(q -> q.parameters().contains(String.valueOf(studentId)))
+                .findFirst().orElseThrow();
+        assertEquals(1, byId.rows());
+
+        mockMvc.perform(get("/actuator/slowqueries").param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thresholdMillis").value(0))
+                .andExpect(jsonPath("$.queries.length()").value(3))
+                .andExpect(jsonPath("$.queries[0].totalMillis").value(greaterThan(0.0)))
+                .andExpect(jsonPath("$.queries[*].count").value(hasItem(greaterThan(0))));
+
+        mockMvc.perform(delete("/actuator/slowqueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.queries.length()").value(0));
+    }
+
+    @Test
+    @WithMockUser(username = "student1", roles = {"STUDENT"})
+    void endpoint_shouldBeTeacherOnly() throws Exception {
+        mockMvc.perform(get("/actuator/slowqueries")).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void summary_shouldBeSortedByTotalTime() throws Exception {
+        mockMvc.perform(get("/dashboard")).andExpect(status().isOk());
+        mockMvc.perform(get("/courses")).andExpect(status().isOk());
+        var summaries = slowQueryLog.summarize();
+        assertTrue(summaries.size() > 1);
+        for (int i = 1; i < summaries.size(); i++) {
+            assertTrue(summaries.get(i - 1).totalNanos() >= summaries.get(i).totalNanos());
+        }
+    }
+}
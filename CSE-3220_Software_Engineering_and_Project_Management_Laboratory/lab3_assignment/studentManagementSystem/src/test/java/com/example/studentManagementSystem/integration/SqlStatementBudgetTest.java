@@ -0,0 +1,170 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.cache.ListingCache;
+import com.example.studentManagementSystem.entity.*;
+import com.example.studentManagementSystem.monitoring.SqlStatementBudgetFilter;
+import com.example.studentManagementSystem.repository.*;
+import com.example.studentManagementSystem.service.DepartmentService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.flash;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL statement budget tests (N+1 detector)
+ * Seeds a dataset with many rows on top of the demo data and asserts that each
+ * route executes a bounded number of SQL statements, independent of row counts.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:sqlbudget;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SqlStatementBudgetTest {
+
+    private static final int DEPARTMENTS = 10;
+    private static final int TEACHERS = 40;
+    private static final int COURSES = 150;
+    private static final int STUDENTS = 400;
+    private static final int COURSES_PER_STUDENT = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ListingCache listingCache;
+
+    @BeforeEach
+    void seedManyRows() {
+        if (studentRepository.count() >= STUDENTS) {
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Department> departments = new ArrayList<>();
+            for (int i = 0; i < DEPARTMENTS; i++) {
+                departments.add(new Department("Department " + i, "D" + i, "Generated department"));
+            }
+            departmentRepository.saveAll(departments);
+
+            List<Teacher> teachers = new ArrayList<>();
+            for (int i = 0; i < TEACHERS; i++) {
+                Teacher teacher = new Teacher("Teacher", "No" + i, "teacher" + i + "@budget.edu",
+                        "555", "PhD", "Lecturer");
+                teacher.setDepartment(departments.get(i % DEPARTMENTS));
+                teachers.add(teacher);
+            }
+            teacherRepository.saveAll(teachers);
+
+            List<Course> courses = new ArrayList<>();
+            for (int i = 0; i < COURSES; i++) {
+                Course course = new Course("GEN" + i, "Generated Course " + i, "Generated", 3);
+                course.setTeacher(teachers.get(i % TEACHERS));
+                courses.add(course);
+            }
+            courseRepository.saveAll(courses);
+
+            List<Student> students = new ArrayList<>();
+            for (int i = 0; i < STUDENTS; i++) {
+                Student student = new Student("GEN-" + i, "Student", "No" + i, "student" + i + "@budget.edu",
+                        "555", "Address", 1 + i % 8);
+                student.setDepartment(departments.get(i % DEPARTMENTS));
+                for (int c = 0; c < COURSES_PER_STUDENT; c++) {
+                    student.enrollInCourse(courses.get((i + c * 31) % COURSES));
+                }
+                students.add(student);
+            }
+            studentRepository.saveAll(students);
+        });
+    }
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void teacherRoutes_shouldStayWithinStatementBudget() throws Exception {
+        Long courseId = courseRepository.findByCode("GEN0").orElseThrow().getId();
+        Long studentId = studentRepository.findByStudentId("GEN-0").orElseThrow().getId();
+        Long departmentId = departmentRepository.findByCode("D0").orElseThrow().getId();
+        Long teacherId = teacherRepository.findByEmail("teacher0@budget.edu").orElseThrow().getId();
+
+        assertStatements(get("/dashboard"), status().isOk(), 5);
+        assertStatements(get("/students"), status().isOk(), 5);
+        assertStatements(get("/students/view/" + studentId), status().isOk(), 5);
+        assertStatements(get("/students/new"), status().isOk(), 5);
+        assertStatements(get("/students/edit/" + studentId), status().isOk(), 8);
+        // served from the in-memory course catalog, so they may run no statements at all
+        assertStatements(get("/courses"), status().isOk(), 0, 5);
+        assertStatements(get("/courses/view/" + courseId), status().isOk(), 0, 5);
+        assertStatements(get("/courses/new"), status().isOk(), 5);
+        assertStatements(get("/courses/edit/" + courseId), status().isOk(), 12);
+        assertStatements(get("/departments"), status().isOk(), 5);
+        assertStatements(get("/departments/view/" + departmentId), status().isOk(), 5);
+        assertStatements(get("/teachers"), status().isOk(), 5);
+        assertStatements(get("/teachers/view/" + teacherId), status().isOk(), 5);
+        assertStatements(get("/teachers/profile"), status().isOk(), 8);
+    }
+
+    @Test
+    @WithMockUser(username = "student1", roles = {"STUDENT"})
+    void studentRoutes_shouldStayWithinStatementBudget() throws Exception {
+        Long courseId = courseRepository.findByCode("GEN1").orElseThrow().getId();
+
+        assertStatements(get("/dashboard"), status().isOk(), 6);
+        assertStatements(get("/students/profile"), status().isOk(), 8);
+        assertStatements(get("/students/my-courses"), status().isOk(), 10);
+        assertStatements(get("/students/my-department"), status().isOk(), 8);
+        // Writes include 3 change log statements (reserve versions, change log and outbox inserts)
+        // and the entity_version batch update
+        assertStatements(post("/students/enroll/" + courseId), flash().attributeExists("successMessage"), 14);
+        assertStatements(post("/students/drop/" + courseId), flash().attributeExists("successMessage"), 14);
+    }
+
+    private void assertStatements(RequestBuilder request, ResultMatcher outcome, int max) throws Exception {
+        assertStatements(request, outcome, 1, max);
+    }
+
+    /**
+     * Perform the request with a cold listing cache, check it succeeded and ran between min and max statements
+     * (a request rejected before reaching the database would otherwise pass with 0)
+     */
+    private void assertStatements(RequestBuilder request, ResultMatcher outcome, int min, int max) throws Exception {
+        listingCache.invalidate(DepartmentService.DEPARTMENTS_CACHE);
+        MvcResult result = mockMvc.perform(request).andExpect(outcome).andReturn();
+        Object counted = result.getRequest().getAttribute(SqlStatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE);
+        assertNotNull(counted, () -> result.getRequest().getRequestURI() + " was not counted");
+        int count = (int) counted;
+        assertTrue(count >= min, () -> result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                + " executed " + count + " SQL statements (min " + min + ")");
+        assertTrue(count <= max, () -> result.getRequest().getMethod() + " " + result.getRequest().getRequestURI()
+                + " executed " + count + " SQL statements (max " + max + ")");
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.tracing.RecentTraces;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tracing: one trace per request with controller, service, repository,
+ * password and template spans, collected in process and served by /actuator/traces
+ */
+@SpringBootTest(properties = "management.tracing.sampling.probability=1.0")
+@AutoConfigureObservability(metrics = false)
+@AutoConfigureMockMvc
+class TracingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RecentTraces recentTraces;
+
+    @BeforeEach
+    void clearTraces() {
+        recentTraces.clear();
+    }
+
+    @Test
+    @WithMockUser(username = "student1", roles = {"STUDENT"})
+    void dashboard_shouldTraceServiceRepositoryAndTemplateSpansUnderTheRequest() throws Exception {
+        mockMvc.perform(get("/dashboard")).andExpect(status().isOk());
+
+        List<SpanData> trace = traceNamed("/dashboard");
+        Map<String, SpanData> byName = trace.stream()
+                .collect(Collectors.toMap(SpanData::getName, Function.identity(), (a, b) -> a));
+        assertTrue(byName.containsKey("http get /dashboard"), byName.keySet()::toString);
+
+        // Siblings inside the request (under Spring Security's "secured request" span)
+        SpanData userLookup = byName.get("CustomUserDetailsService.getUserByUsername");
+        SpanData studentLookup = byName.get("StudentService.getStudentEntityByUserId");
+        SpanData render = byName.get("template.render");
+        assertEquals(userLookup.getParentSpanId(), studentLookup.getParentSpanId());
+        assertEquals(userLookup.getParentSpanId(), render.getParentSpanId());
+        assertTrue(render.getStartEpochNanos() >= studentLookup.getEndEpochNanos());
+        assertEquals("student/dashboard", render.getAttributes().asMap().entrySet().stream()
+                .filter(e -> e.getKey().getKey().equals("template")).findFirst().orElseThrow().getValue());
+
+        SpanData repositoryCall = byName.get("StudentRepository.findByUserId");
+        assertEquals(studentLookup.getSpanId(), repositoryCall.getParentSpanId());
+    }
+
+    @Test
+    void login_shouldTracePasswordVerification() throws Exception {
+        mockMvc.perform(formLogin("/login").user("teacher1").password("teacher123"))
+                .andExpect(status().is3xxRedirection());
+
+        List<String> names = traceNamed("password.matches").stream().map(SpanData::getName).toList();
+        assertTrue(names.contains("CustomUserDetailsService.loadUserByUsername"), names::toString);
+        assertTrue(names.contains("UserRepository.findByUsername"), names::toString);
+        assertTrue(names.contains("password.matches"), names::toString);
+    }
+
+    @Test
+    @WithMockUser(username = "teacher1", roles = {"TEACHER"})
+    void endpoint_shouldListTracesAndServeSpanTree() throws Exception {
+        mockMvc.perform(get("/courses")).andExpect(status().isOk());
+        String traceId = traceNamed("/courses").get(0).getTraceId();
+
+        mockMvc.perform(get("/actuator/traces").param("name", "/courses"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].traceId").value(traceId))
+                .andExpect(jsonPath("$[0].path").value("/courses"));
+        mockMvc.perform(get("/actuator/traces/" + traceId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.spans.length()").value(1))
+                .andExpect(jsonPath("$..[?(@.name == 'CourseService.getAllCourses')].durationMillis").exists());
+        mockMvc.perform(get("/actuator/traces/unknown")).andExpect(status().isNotFound());
+    }
+
+    private List<SpanData> traceNamed(String spanName) {
+        return recentTraces.traces().stream()
+                .filter(spans -> spans.stream().anyMatch(span -> span.getName().contains(spanName)))
+                .findFirst().orElseThrow(() -> new AssertionError("no trace with " + spanName + ": "
+                        + recentTraces.traces().stream().flatMap(List::stream).map(SpanData::getName).toList()));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.studentManagementSystem.integration;
+
+import com.example.studentManagementSystem.warmup.ApplicationWarmup;
+import com.example.studentManagementSystem.warmup.WarmupHealthIndicator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Warm-up and readiness tests
+ * Warm-up runs on ApplicationReadyEvent; readiness reports UP only after it completed.
+ */
+@SpringBootTest(properties = {"app.warmup.enabled=true", "app.warmup.iterations=2"})
+@AutoConfigureMockMvc
+class WarmupReadinessTest {
+
+    @Autowired
+    private ApplicationWarmup warmup;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void warmup_shouldRenderEveryTemplateWithoutFailures() {
+        assertEquals(ApplicationWarmup.State.COMPLETED, warmup.getState());
+        assertEquals(8, warmup.getTemplatesRendered());
+        assertTrue(warmup.getFailures().isEmpty(), () -> "Failed steps: " + warmup.getFailures());
+    }
+
+    @Test
+    void readiness_shouldBeUpAfterWarmup() throws Exception {
+        mockMvc.perform(get("/actuator/health/readiness"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("UP"))
+                .andExpect(jsonPath("$.components.warmup.status").value("UP"))
+                .andExpect(jsonPath("$.components.warmup.details.state").value("COMPLETED"));
+    }
+
+    @Test
+    void healthIndicator_shouldBeOutOfServiceWhileWarmupRuns() {
+        ApplicationWarmup running = mock(ApplicationWarmup.class);
+        when(running.getState()).thenReturn(ApplicationWarmup.State.RUNNING);
+
+        assertEquals(Status.OUT_OF_SERVICE, new WarmupHealthIndicator(running).health().getStatus());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.studentManagementSystem.integration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Workload lane (bulkhead) tests against the real servlet container
+ * The teacher-crud lane runs one request at a time and parks two more (async,
+ * no thread held); the student lane is unaffected while teacher-crud is flooded.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.bulkhead.lanes[0].name=student-self-service",
+        "app.bulkhead.lanes[0].paths=/students/my-courses",
+        "app.bulkhead.lanes[0].max-concurrent=2",
+        "app.bulkhead.lanes[0].max-queued=0",
+        "app.bulkhead.lanes[1].name=teacher-crud",
+        "app.bulkhead.lanes[1].paths=/courses/**",
+        "app.bulkhead.lanes[1].max-concurrent=1",
+        "app.bulkhead.lanes[1].max-queued=2",
+        "app.bulkhead.lanes[1].queue-timeout=10s"
+})
+@Import(WorkloadLaneTest.SlowController.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class WorkloadLaneTest {
+
+    private static final Duration SLOW = Duration.ofMillis(1500);
+
+    @RestController
+    static class SlowController {
+
+        @GetMapping("/courses/lane-test/slow")
+        String slow() throws InterruptedException {
+            Thread.sleep(SLOW.toMillis());
+            return "done";
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    private HttpClient client;
+
+    @BeforeEach
+    void login() throws Exception {
+        client = HttpClient.newBuilder().cookieHandler(new CookieManager()).build();
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri("/login"))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("username=teacher1&password=teacher123"))
+                .build(), HttpResponse.BodyHandlers.discarding());
+        assertEquals(302, response.statusCode());
+    }
+
+    @Test
+    void floodedLane_shouldRunQueueAndShedWithoutAffectingOtherLanes() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> flood = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            flood.add(client.sendAsync(HttpRequest.newBuilder(uri("/courses/lane-test/slow")).build(),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        Thread.sleep(300);
+
+        long start = System.nanoTime();
+        HttpResponse<Void> otherLane = client.send(HttpRequest.newBuilder(uri("/students/my-courses")).build(),
+                HttpResponse.BodyHandlers.discarding());
+        Duration otherLaneLatency = Duration.ofNanos(System.nanoTime() - start);
+
+        int served = 0;
+        int shed = 0;
+        for (CompletableFuture<HttpResponse<String>> call : flood) {
+            HttpResponse<String> response = call.join();
+            if (response.statusCode() == 200) {
+                assertEquals("done", response.body());
+                served++;
+            } else {
+                assertEquals(503, response.statusCode());
+                assertEquals("1", response.headers().firstValue("Retry-After").orElseThrow());
+                shed++;
+            }
+        }
+
+        assertEquals(3, served, "one running + two parked and re-dispatched");
+        assertEquals(3, shed, "queue full");
+        assertEquals(403, otherLane.statusCode(), "student lane still served (teacher is forbidden there)");
+        assertTrue(otherLaneLatency.compareTo(SLOW) < 0, "student lane waited on teacher lane: " + otherLaneLatency);
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.studentManagementSystem.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Slow-query ring buffer: threshold, overwrite and parameter formatting
+ */
+class SlowQueryLogRingTest {
+
+    private static SlowQueryLog log(int capacity) {
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ofMillis(10));
+        properties.setCapacity(capacity);
+        properties.setMaxParameterLength(5);
+        return new SlowQueryLog(properties);
+    }
+
+    @Test
+    void record_shouldIgnoreFastStatementsAndOverwriteOldestEntries() {
+        SlowQueryLog log = log(2);
+
+        log.record("select 0", null, 1, Duration.ofMillis(1).toNanos());
+        log.record("select 1", null, 1, Duration.ofMillis(10).toNanos());
+        log.record("select 2", null, 1, Duration.ofMillis(20).toNanos());
+        log.record("select 3", null, 1, Duration.ofMillis(30).toNanos());
+
+        assertEquals(3, log.captured());
+        assertEquals(List.of("select 3", "select 2"),
+                log.summarize().stream().map(SlowQueryLog.Summary::sql).toList());
+    }
+
+    @Test
+    void summarize_shouldGroupBySqlAndKeepSlowestParameters() {
+        SlowQueryLog log = log(10);
+
+        log.record("select ? ", new Object[]{null, 1L}, 3, Duration.ofMillis(15).toNanos());
+        log.record("select ? ", new Object[]{null, "abcdefgh"}, 4, Duration.ofMillis(40).toNanos());
+        log.record("update x", new Object[]{null, null, new byte[8]}, 2, Duration.ofMillis(50).toNanos());
+
+        List<SlowQueryLog.Summary> summaries = log.summarize();
+        SlowQueryLog.Summary select = summaries.get(0);
+        assertEquals("select ? ", select.sql());
+        assertEquals(2, select.count());
+        assertEquals(Duration.ofMillis(55).toNanos(), select.totalNanos());
+        assertEquals(7, select.rows());
+        assertEquals(List.of("'abcde...'"), select.slowest().parameters());
+        assertEquals(List.of("NULL", "<8 bytes>"), summaries.get(1).slowest().parameters());
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.studentManagementSystem.monitoring;
+
+import com.example.studentManagementSystem.resilience.BulkheadProperties;
+import com.example.studentManagementSystem.resilience.WorkloadLaneFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SqlStatementBudgetFilter behind the WorkloadLaneFilter (as ordered in the app):
+ * a parked request runs its handler on the ASYNC re-dispatch, which must still be counted
+ */
+class SqlStatementBudgetFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StaticListableBeanFactory beanFactory =
+            new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+    private final WorkloadLaneFilter laneFilter = laneFilter();
+    private final SqlStatementBudgetFilter budgetFilter = new SqlStatementBudgetFilter(
+            new SqlStatementBudgetProperties(), beanFactory.getBeanProvider(MeterRegistry.class));
+
+    @Test
+    void parkedRequest_shouldBeCountedOnItsAsyncDispatch() throws Exception {
+        MockHttpServletRequest parked = request("/students/enroll/2");
+
+        new MockFilterChain(new StatementsServlet(1, () -> new MockFilterChain(new StatementsServlet(2, null),
+                laneFilter, budgetFilter).doFilter(parked, new MockHttpServletResponse())),
+                laneFilter, budgetFilter).doFilter(request("/students/enroll/1"), new MockHttpServletResponse());
+
+        assertTrue(parked.isAsyncStarted());
+        assertNull(parked.getAttribute(SqlStatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE), "not run yet");
+        assertEquals(1, summary().count());
+
+        // re-dispatched by the lane filter, as the container would run it
+        parked.setAsyncStarted(false);
+        parked.setDispatcherType(DispatcherType.ASYNC);
+        new MockFilterChain(new StatementsServlet(2, null), laneFilter, budgetFilter)
+                .doFilter(parked, new MockHttpServletResponse());
+
+        assertEquals(2, parked.getAttribute(SqlStatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE));
+        assertEquals(2, summary().count());
+        assertEquals(3, summary().totalAmount());
+    }
+
+    @Test
+    void asyncHandler_shouldBeRecordedOnceWithTheStatementsOfBothDispatches() throws Exception {
+        MockHttpServletRequest request = request("/reports/departments");
+
+        new MockFilterChain(new StatementsServlet(3, request::startAsync), budgetFilter)
+                .doFilter(request, new MockHttpServletResponse());
+        assertNull(meterRegistry.find("http.server.requests.sql.statements").summary(), "not finished yet");
+
+        request.setAsyncStarted(false);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        new MockFilterChain(new StatementsServlet(1, null), budgetFilter)
+                .doFilter(request, new MockHttpServletResponse());
+
+        assertEquals(4, request.getAttribute(SqlStatementBudgetFilter.STATEMENT_COUNT_ATTRIBUTE));
+        assertEquals(1, summary().count());
+        assertEquals(4, summary().totalAmount());
+    }
+
+    private DistributionSummary summary() {
+        return meterRegistry.get("http.server.requests.sql.statements").summary();
+    }
+
+    private WorkloadLaneFilter laneFilter() {
+        BulkheadProperties.Lane lane = new BulkheadProperties.Lane();
+        lane.setName("student-self-service");
+        lane.setPaths(List.of("/students/enroll/**"));
+        lane.setMaxConcurrent(1);
+        lane.setMaxQueued(1);
+        lane.setQueueTimeout(Duration.ofSeconds(3));
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setLanes(List.of(lane));
+        return new WorkloadLaneFilter(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    /**
+     * Handler that executes the given number of statements, then runs the action
+     */
+    private static class StatementsServlet extends HttpServlet {
+
+        private final int statements;
+        private final Action action;
+
+        StatementsServlet(int statements, Action action) {
+            this.statements = statements;
+            this.action = action;
+        }
+
+        @Override
+        protected void service(HttpServletRequest request, HttpServletResponse response) {
+            for (int i = 0; i < statements; i++) {
+                SqlStatementCounter.increment();
+            }
+            if (action != null) {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+    }
+
+    private interface Action {
+        void run() throws Exception;
+    }
+}
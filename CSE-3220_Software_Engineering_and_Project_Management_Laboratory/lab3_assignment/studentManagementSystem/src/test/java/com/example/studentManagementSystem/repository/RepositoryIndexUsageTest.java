@@ -0,0 +1,159 @@
+package com.example.studentManagementSystem.repository;
+
+import com.example.studentManagementSystem.entity.Course;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Index usage tests - runs EXPLAIN on H2 for the SQL Hibernate generates for each
+ * repository finder (schema created by the Flyway migrations) and checks that no
+ * table is scanned.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.studentManagementSystem.repository.RepositoryIndexUsageTest$RecordingStatementInspector")
+class RepositoryIndexUsageTest {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TeacherRepository teacherRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    void studentFinders_shouldUseIndexes() {
+        assertIndexed(() -> studentRepository.findByStudentId("2024-001"), "2024-001");
+        assertIndexed(() -> studentRepository.findByEmail("a@student.edu"), "a@student.edu");
+        assertIndexed(() -> studentRepository.findByUserId(1L), 1L);
+        assertIndexed(() -> studentRepository.findByDepartmentId(1L), 1L);
+        assertIndexed(() -> studentRepository.existsByStudentId("2024-001"), "2024-001");
+        assertIndexed(() -> studentRepository.existsByEmail("a@student.edu"), "a@student.edu");
+    }
+
+    @Test
+    void teacherFinders_shouldUseIndexes() {
+        assertIndexed(() -> teacherRepository.findByEmail("t@university.edu"), "t@university.edu");
+        assertIndexed(() -> teacherRepository.findByUserId(1L), 1L);
+        assertIndexed(() -> teacherRepository.findByDepartmentId(1L), 1L);
+        assertIndexed(() -> teacherRepository.existsByEmail("t@university.edu"), "t@university.edu");
+    }
+
+    @Test
+    void courseFinders_shouldUseIndexes() {
+        assertIndexed(() -> courseRepository.findByCode("CSE101"), "CSE101");
+        assertIndexed(() -> courseRepository.findByTeacherId(1L), 1L);
+        assertIndexed(() -> courseRepository.existsByCode("CSE101"), "CSE101");
+    }
+
+    @Test
+    void departmentFinders_shouldUseIndexes() {
+        assertIndexed(() -> departmentRepository.findByCode("CSE"), "CSE");
+        assertIndexed(() -> departmentRepository.findByName("Computer Science"), "Computer Science");
+        assertIndexed(() -> departmentRepository.existsByCode("CSE"), "CSE");
+        assertIndexed(() -> departmentRepository.existsByName("Computer Science"), "Computer Science");
+    }
+
+    @Test
+    void userAndRoleFinders_shouldUseIndexes() {
+        assertIndexed(() -> userRepository.findByUsername("student1"), "student1");
+        assertIndexed(() -> userRepository.findByEmail("a@student.edu"), "a@student.edu");
+        assertIndexed(() -> userRepository.existsByUsername("student1"), "student1");
+        assertIndexed(() -> userRepository.existsByEmail("a@student.edu"), "a@student.edu");
+        assertIndexed(() -> roleRepository.findByName("ROLE_STUDENT"), "ROLE_STUDENT");
+        assertIndexed(() -> roleRepository.existsByName("ROLE_STUDENT"), "ROLE_STUDENT");
+    }
+
+    @Test
+    void courseEnrolledStudents_shouldUseReverseJoinTableIndex() {
+        Course course = courseRepository.save(new Course("CSE101", "Programming", "Basics", 3));
+        entityManager.flush();
+        entityManager.clear();
+        Long courseId = course.getId();
+
+        String plan = explain(() -> courseRepository.findById(courseId).orElseThrow().getEnrolledStudents().size(),
+                "student_courses", courseId);
+        assertTrue(plan.contains("IDX_STUDENT_COURSES_COURSE_STUDENT"), plan);
+    }
+
+    private void assertIndexed(Runnable finder, Object argument) {
+        String plan = explain(finder, "where", argument);
+        assertFalse(plan.contains("tableScan"), plan);
+    }
+
+    /**
+     * Run the finder, pick the recorded statement containing {@code marker} and EXPLAIN it;
+     * the first parameter is bound to {@code argument}, any further ones (row limits) to 1
+     */
+    private String explain(Runnable finder, String marker, Object argument) {
+        RecordingStatementInspector.clear();
+        finder.run();
+        String sql = RecordingStatementInspector.statements().stream()
+                .filter(statement -> statement.contains(marker))
+                .reduce((first, second) -> second)
+                .orElseThrow(() -> new AssertionError("No statement containing '" + marker + "' was executed"));
+
+        int parameters = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] arguments = new Object[parameters];
+        Arrays.fill(arguments, 1);
+        arguments[0] = argument;
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, arguments));
+    }
+
+    /**
+     * Records every SQL statement Hibernate prepares
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+
+        static List<String> statements() {
+            synchronized (STATEMENTS) {
+                return new ArrayList<>(STATEMENTS);
+            }
+        }
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+    }
+}
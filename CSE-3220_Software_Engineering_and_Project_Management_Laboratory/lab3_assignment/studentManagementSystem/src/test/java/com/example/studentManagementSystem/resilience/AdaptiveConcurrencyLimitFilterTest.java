@@ -0,0 +1,176 @@
+package com.example.studentManagementSystem.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimitFilter and AimdLimiter
+ * Concurrency is simulated by issuing a request from inside another one's filter chain.
+ */
+class AdaptiveConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void requestOverLimit_shouldBeShedWith503AndRetryAfter() throws Exception {
+        AdaptiveConcurrencyLimitFilter filter = filter(group("student-self-service", 1, "/students/enroll/**"));
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        filter.doFilter(request("/students/enroll/1"), outer, (req, res) ->
+                filter.doFilter(request("/students/enroll/2"), nested, new MockFilterChain()));
+
+        assertEquals(200, outer.getStatus());
+        assertEquals(503, nested.getStatus());
+        assertEquals("2", nested.getHeader("Retry-After"));
+        assertEquals(1, meterRegistry.get("concurrency.rejected").tag("group", "student-self-service").counter().count());
+    }
+
+    @Test
+    void groups_shouldHaveIndependentLimits() throws Exception {
+        AdaptiveConcurrencyLimitFilter filter = filter(
+                group("student-self-service", 1, "/students/my-courses"),
+                group("teacher-crud", 1, "/courses/**"));
+        MockHttpServletResponse nested = new MockHttpServletResponse();
+
+        filter.doFilter(request("/students/my-courses"), new MockHttpServletResponse(), (req, res) ->
+                filter.doFilter(request("/courses/edit/1"), nested, new MockFilterChain()));
+
+        assertEquals(200, nested.getStatus());
+    }
+
+    @Test
+    void requestParkedInALane_shouldTakeItsSlotOnlyWhenItRuns() throws Exception {
+        AdaptiveConcurrencyLimitFilter filter = filter(group("student-self-service", 2, "/students/enroll/**"));
+        WorkloadLaneFilter laneFilter = laneFilter("/students/enroll/**");
+        MockHttpServletRequest parked = request("/students/enroll/2");
+        parked.setAsyncSupported(true);
+
+        laneFilter.doFilter(request("/students/enroll/1"), new MockHttpServletResponse(), (req, res) ->
+                filter.doFilter(req, res, (running, runningResponse) -> {
+                    laneFilter.doFilter(parked, new MockHttpServletResponse(), (p, r) -> fail("parked"));
+                    assertTrue(parked.isAsyncStarted());
+                    assertEquals(1, inFlight("student-self-service"), "parked request holds no slot");
+                }));
+
+        // re-dispatched by the lane filter, as the container would run it
+        parked.setAsyncStarted(false);
+        parked.setDispatcherType(DispatcherType.ASYNC);
+        laneFilter.doFilter(parked, new MockHttpServletResponse(), (req, res) ->
+                filter.doFilter(req, res, (running, runningResponse) ->
+                        assertEquals(1, inFlight("student-self-service"), "slot taken when it runs")));
+
+        assertEquals(0, inFlight("student-self-service"));
+    }
+
+    @Test
+    void asyncRequest_shouldHoldOneSlotAcrossItsDispatches() throws Exception {
+        AdaptiveConcurrencyLimitFilter filter = filter(group("reports", 2, "/reports/**"));
+        MockHttpServletRequest request = request("/reports/departments");
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+        assertEquals(1, inFlight("reports"));
+
+        request.setAsyncStarted(false);
+        request.setDispatcherType(DispatcherType.ASYNC);
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) ->
+                assertEquals(1, inFlight("reports"), "no second slot"));
+        request.getAsyncContext().complete();
+
+        assertEquals(0, inFlight("reports"));
+    }
+
+    @Test
+    void unmatchedRoutes_shouldNotBeLimited() throws Exception {
+        AdaptiveConcurrencyLimitFilter filter = filter(group("auth", 1, "/login"));
+
+        assertNull(filter.limiterFor(request("/css/style.css")));
+        assertEquals("auth", filter.limiterFor(request("/login")).getName());
+    }
+
+    @Test
+    void limit_shouldBeExposedAsGauge() {
+        filter(group("auth", 7, "/login"));
+
+        assertEquals(7, meterRegistry.get("concurrency.limit").tag("group", "auth").gauge().value());
+    }
+
+    @Test
+    void slowRequests_shouldDecreaseLimitMultiplicatively() {
+        AimdLimiter limiter = new AimdLimiter(group("g", 20, "/**"));
+
+        int inFlight = limiter.tryAcquire();
+        limiter.release(Duration.ofSeconds(2).toNanos(), inFlight);
+
+        assertEquals(18, limiter.getLimit());
+        for (int i = 0; i < 100; i++) {
+            limiter.release(Duration.ofSeconds(2).toNanos(), limiter.tryAcquire());
+        }
+        assertEquals(2, limiter.getLimit(), "never below min-limit");
+    }
+
+    @Test
+    void fastRequestsUnderLoad_shouldIncreaseLimitAdditively() {
+        AimdLimiter limiter = new AimdLimiter(group("g", 4, "/**"));
+
+        limiter.release(Duration.ofMillis(10).toNanos(), 1);
+        assertEquals(4, limiter.getLimit(), "limit not in use, not grown");
+
+        limiter.release(Duration.ofMillis(10).toNanos(), 2);
+        limiter.release(Duration.ofMillis(10).toNanos(), 3);
+        assertEquals(6, limiter.getLimit());
+    }
+
+    private AdaptiveConcurrencyLimitFilter filter(ConcurrencyLimitProperties.Group... groups) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setRetryAfterSeconds(2);
+        properties.setGroups(List.of(groups));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new AdaptiveConcurrencyLimitFilter(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private WorkloadLaneFilter laneFilter(String path) {
+        BulkheadProperties.Lane lane = new BulkheadProperties.Lane();
+        lane.setName("lane");
+        lane.setPaths(List.of(path));
+        lane.setMaxConcurrent(1);
+        lane.setMaxQueued(1);
+        lane.setQueueTimeout(Duration.ofSeconds(3));
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setLanes(List.of(lane));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new WorkloadLaneFilter(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private double inFlight(String group) {
+        return meterRegistry.get("concurrency.in.flight").tag("group", group).gauge().value();
+    }
+
+    private static ConcurrencyLimitProperties.Group group(String name, int limit, String path) {
+        ConcurrencyLimitProperties.Group group = new ConcurrencyLimitProperties.Group();
+        group.setName(name);
+        group.setPaths(List.of(path));
+        group.setInitialLimit(limit);
+        group.setMinLimit(Math.min(limit, 2));
+        group.setMaxLimit(50);
+        group.setLatencyThreshold(Duration.ofMillis(500));
+        return group;
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        return new MockHttpServletRequest("POST", path);
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.studentManagementSystem.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PrincipalRateLimitFilter, PrincipalRateLimiter and TokenBucket
+ * Limiter tests use a manual clock.
+ */
+class PrincipalRateLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void emptyBucket_shouldGet429WithRetryAfter() throws Exception {
+        PrincipalRateLimitFilter filter = filter(rule("enrollment", 2, 0.5, "/students/enroll/**"));
+
+        assertEquals(200, doFilter(filter, "POST", "/students/enroll/1", "student1").getStatus());
+        assertEquals(200, doFilter(filter, "POST", "/students/enroll/2", "student1").getStatus());
+        MockHttpServletResponse throttled = doFilter(filter, "POST", "/students/enroll/3", "student1");
+
+        assertEquals(429, throttled.getStatus());
+        assertEquals("2", throttled.getHeader("Retry-After"));
+        assertEquals(1, meterRegistry.get("ratelimit.throttled").tag("rule", "enrollment").counter().count());
+        assertEquals(1, meterRegistry.get("ratelimit.throttled.principals").tag("rule", "enrollment").gauge().value());
+    }
+
+    @Test
+    void principals_shouldHaveIndependentBuckets() throws Exception {
+        PrincipalRateLimitFilter filter = filter(rule("enrollment", 1, 1, "/students/enroll/**"));
+
+        doFilter(filter, "POST", "/students/enroll/1", "student1");
+
+        assertEquals(429, doFilter(filter, "POST", "/students/enroll/1", "student1").getStatus());
+        assertEquals(200, doFilter(filter, "POST", "/students/enroll/1", "student2").getStatus());
+        assertEquals(2, meterRegistry.get("ratelimit.principals").tag("rule", "enrollment").gauge().value());
+    }
+
+    @Test
+    void readsAnonymousAndUnmatchedRoutes_shouldNotBeLimited() throws Exception {
+        PrincipalRateLimitFilter filter = filter(rule("enrollment", 1, 1, "/students/enroll/**"));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(200, doFilter(filter, "GET", "/students/enroll/1", "student1").getStatus());
+            assertEquals(200, doFilter(filter, "POST", "/students/enroll/1", null).getStatus());
+            assertEquals(200, doFilter(filter, "POST", "/courses/new", "teacher1").getStatus());
+        }
+    }
+
+    @Test
+    void bucket_shouldRefillOverTime() {
+        PrincipalRateLimiter limiter = limiter(rule("r", 3, 2, "/**"), 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("a"));
+        }
+        assertEquals(Duration.ofMillis(500).toNanos(), limiter.tryAcquire("a"), "one token per 500ms");
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertTrue(limiter.tryAcquire("a") > 0);
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("a"), "refilled to capacity, not beyond");
+        }
+        assertTrue(limiter.tryAcquire("a") > 0);
+    }
+
+    @Test
+    void sweep_shouldDropOnlyRefilledBuckets() {
+        PrincipalRateLimiter limiter = limiter(rule("r", 2, 1, "/**"), 100);
+        limiter.tryAcquire("idle");
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        limiter.tryAcquire("busy");
+        limiter.tryAcquire("busy");
+
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        limiter.sweep();
+
+        assertEquals(1, limiter.getPrincipals());
+        assertEquals(1, limiter.getEvictedIdle());
+        assertTrue(limiter.tryAcquire("busy") > 0, "busy principal's bucket was kept");
+    }
+
+    @Test
+    void maxPrincipals_shouldBoundMemoryEvictingLeastThrottledFirst() {
+        PrincipalRateLimiter limiter = limiter(rule("r", 1, 0.01, "/**"), 10);
+        limiter.tryAcquire("abuser");
+        limiter.tryAcquire("abuser");
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire("user" + i);
+        }
+
+        assertTrue(limiter.getPrincipals() <= 10);
+        assertTrue(limiter.getEvictedOverCapacity() >= 41);
+        assertTrue(limiter.tryAcquire("abuser") > 0, "throttled principal kept its empty bucket");
+    }
+
+    @Test
+    void concurrentRequests_shouldNeverExceedCapacity() throws Exception {
+        PrincipalRateLimiter limiter = limiter(rule("r", 100, 0.01, "/**"), 100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1000; i++) {
+                    if (limiter.tryAcquire("student1") == 0) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(100, allowed.get());
+    }
+
+    private MockHttpServletResponse doFilter(PrincipalRateLimitFilter filter, String method, String path,
+                                             String username) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        if (username != null) {
+            request.setUserPrincipal(new TestingAuthenticationToken(username, null));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private PrincipalRateLimitFilter filter(RateLimitProperties.Rule... rules) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rules));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new PrincipalRateLimitFilter(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private PrincipalRateLimiter limiter(RateLimitProperties.Rule rule, int maxPrincipals) {
+        return new PrincipalRateLimiter(rule, maxPrincipals, clock::get);
+    }
+
+    private static RateLimitProperties.Rule rule(String name, int capacity, double refillPerSecond, String path) {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName(name);
+        rule.setPaths(List.of(path));
+        rule.setCapacity(capacity);
+        rule.setRefillPerSecond(refillPerSecond);
+        return rule;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.studentManagementSystem.resilience;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for WorkloadLaneFilter
+ * Concurrency is simulated by issuing requests from inside another one's filter chain;
+ * re-dispatch of parked requests is replayed as an ASYNC dispatch.
+ * (WorkloadLaneTest covers the same flow on the real servlet container.)
+ */
+class WorkloadLaneFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WorkloadLaneFilter filter = filter();
+
+    @Test
+    void parkedRequest_shouldReceiveTheSlotWhenTheRunningOneFinishes() throws Exception {
+        MockHttpServletRequest parked = request("/students/enroll/2");
+        MockHttpServletResponse full = new MockHttpServletResponse();
+
+        filter.doFilter(request("/students/enroll/1"), new MockHttpServletResponse(), (req, res) -> {
+            filter.doFilter(parked, new MockHttpServletResponse(), new MockFilterChain());
+            filter.doFilter(request("/students/enroll/3"), full, new MockFilterChain());
+            assertTrue(parked.isAsyncStarted());
+            assertEquals(1, gauge("bulkhead.queued"));
+        });
+
+        assertEquals(503, full.getStatus());
+        assertEquals("/students/enroll/2", asyncContext(parked).getDispatchedPath(), "re-dispatched");
+        assertNotNull(parked.getAttribute(WorkloadLaneFilter.SLOT_ATTRIBUTE), "carries the handed-over slot");
+
+        MockFilterChain chain = new MockFilterChain();
+        parked.setDispatcherType(DispatcherType.ASYNC);
+        filter.doFilter(parked, new MockHttpServletResponse(), chain);
+
+        assertNotNull(chain.getRequest(), "ran in the lane");
+        assertEquals(0, gauge("bulkhead.active"));
+    }
+
+    @Test
+    void parkedRequest_shouldGet503WhenItsQueueTimeoutExpires() throws Exception {
+        MockHttpServletRequest parked = request("/students/enroll/2");
+        MockHttpServletResponse parkedResponse = new MockHttpServletResponse();
+
+        filter.doFilter(request("/students/enroll/1"), new MockHttpServletResponse(), (req, res) -> {
+            filter.doFilter(parked, parkedResponse, new MockFilterChain());
+            MockAsyncContext asyncContext = asyncContext(parked);
+            assertEquals(Duration.ofSeconds(3).toMillis(), asyncContext.getTimeout());
+            for (AsyncListener listener : asyncContext.getListeners()) {
+                listener.onTimeout(new AsyncEvent(asyncContext));
+            }
+        });
+
+        assertEquals(503, parkedResponse.getStatus());
+        assertEquals("1", parkedResponse.getHeader("Retry-After"));
+        assertNull(asyncContext(parked).getDispatchedPath(), "timed-out request is not re-dispatched");
+        assertEquals(1, meterRegistry.get("bulkhead.rejected").tag("reason", "timeout").counter().count());
+        assertEquals(0, gauge("bulkhead.active"));
+    }
+
+    @Test
+    void otherLanesAndUnmatchedRoutes_shouldNotWait() throws Exception {
+        MockHttpServletResponse teacher = new MockHttpServletResponse();
+        MockHttpServletResponse unmatched = new MockHttpServletResponse();
+
+        filter.doFilter(request("/students/enroll/1"), new MockHttpServletResponse(), (req, res) -> {
+            filter.doFilter(request("/courses/edit/1"), teacher, new MockFilterChain());
+            filter.doFilter(request("/login"), unmatched, new MockFilterChain());
+        });
+
+        assertEquals(200, teacher.getStatus());
+        assertEquals(200, unmatched.getStatus());
+    }
+
+    private WorkloadLaneFilter filter() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setLanes(List.of(
+                lane("student-self-service", "/students/enroll/**"),
+                lane("teacher-crud", "/courses/**")));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        return new WorkloadLaneFilter(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private static BulkheadProperties.Lane lane(String name, String path) {
+        BulkheadProperties.Lane lane = new BulkheadProperties.Lane();
+        lane.setName(name);
+        lane.setPaths(List.of(path));
+        lane.setMaxConcurrent(1);
+        lane.setMaxQueued(1);
+        lane.setQueueTimeout(Duration.ofSeconds(3));
+        return lane;
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("lane", "student-self-service").gauge().value();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    private static MockAsyncContext asyncContext(MockHttpServletRequest request) {
+        return (MockAsyncContext) request.getAsyncContext();
+    }
+}
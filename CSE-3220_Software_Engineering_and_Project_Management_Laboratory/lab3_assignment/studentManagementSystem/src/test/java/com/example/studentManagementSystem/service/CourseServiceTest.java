@@ -1,10 +1,14 @@
 package com.example.studentManagementSystem.service;
 
+import com.example.studentManagementSystem.audit.AuditLog;
+import com.example.studentManagementSystem.catalog.CourseCatalog;
+import com.example.studentManagementSystem.changes.ChangeLog;
 import com.example.studentManagementSystem.dto.CourseDTO;
 import com.example.studentManagementSystem.entity.Course;
 import com.example.studentManagementSystem.entity.Teacher;
 import com.example.studentManagementSystem.repository.CourseRepository;
 import com.example.studentManagementSystem.repository.TeacherRepository;
+import com.example.studentManagementSystem.versioning.EntityVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +34,18 @@ class CourseServiceTest {
     @Mock
     private TeacherRepository teacherRepository;
 
+    @Mock
+    private CourseCatalog courseCatalog;
+
+    @Mock
+    private EntityVersions entityVersions;
+
+    @Mock
+    private ChangeLog changeLog;
+
+    @Mock
+    private AuditLog auditLog;
+
     @InjectMocks
     private CourseService courseService;
 
@@ -49,13 +65,35 @@ class CourseServiceTest {
 
     @Test
     void testGetAllCourses() {
-        when(courseRepository.findAll()).thenReturn(List.of(course));
+        when(courseCatalog.getCourses()).thenReturn(List.of(courseService.convertToDTO(course)));
 
         List<CourseDTO> result = courseService.getAllCourses();
 
         assertEquals(1, result.size());
         assertEquals("CSE101", result.get(0).getCode());
         assertEquals("John Smith", result.get(0).getTeacherName());
+        verifyNoInteractions(courseRepository);
+    }
+
+    @Test
+    void testGetCourseByIdNotInCatalogThrows() {
+        when(courseCatalog.findCourse(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> courseService.getCourseById(99L));
+    }
+
+    @Test
+    void testUpdateCourseRefreshesCatalog() {
+        CourseDTO dto = new CourseDTO();
+        dto.setName("Intro to Computing");
+        dto.setCredits(4);
+
+        when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+        when(courseRepository.save(any(Course.class))).thenReturn(course);
+
+        courseService.updateCourse(1L, dto);
+
+        verify(courseCatalog).courseChanged(1L);
     }
 
     @Test
@@ -70,8 +108,8 @@ class CourseServiceTest {
 
     @Test
     void testDeleteCourseNotFoundThrows() {
-        when(courseRepository.existsById(99L)).thenReturn(false);
+        when(courseRepository.findById(99L)).thenReturn(Optional.empty());
 
-        assertThrows(RuntimeException.class, () -> courseService.deleteCourse(99L));
+        assertThrows(ResourceNotFoundException.class, () -> courseService.deleteCourse(99L));
     }
 }
@@ -1,9 +1,17 @@
 package com.example.studentManagementSystem.service;
 
+import com.example.studentManagementSystem.audit.AuditLog;
+import com.example.studentManagementSystem.cache.ListingCache;
+import com.example.studentManagementSystem.changes.ChangeLog;
+import com.example.studentManagementSystem.changes.ChangeOperation;
 import com.example.studentManagementSystem.dto.DepartmentDTO;
+import com.example.studentManagementSystem.dto.DepartmentListing;
 import com.example.studentManagementSystem.entity.Department;
+import com.example.studentManagementSystem.entity.Student;
+import com.example.studentManagementSystem.entity.Teacher;
 import com.example.studentManagementSystem.repository.DepartmentRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.example.studentManagementSystem.versioning.EntityType;
+import com.example.studentManagementSystem.versioning.EntityVersions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -12,10 +20,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -27,30 +38,52 @@ class DepartmentServiceTest {
     @Mock
     private DepartmentRepository departmentRepository;
 
+    @Mock
+    private StudentService studentService;
+
+    @Mock
+    private TeacherService teacherService;
+
+    @Mock
+    private ListingCache listingCache;
+
+    @Mock
+    private EntityVersions entityVersions;
+
+    @Mock
+    private ChangeLog changeLog;
+
+    @Mock
+    private AuditLog auditLog;
+
     @InjectMocks
     private DepartmentService departmentService;
 
-    private Department cse;
+    @Test
+    void testGetAllDepartments() {
+        DepartmentListing eee = new DepartmentListing(2L, "Electrical Engineering", "EEE", "EE Department", 0, 0);
 
-    @BeforeEach
-    void setUp() {
-        cse = new Department("Computer Science", "CSE", "CS Department");
-        cse.setId(1L);
-        cse.setStudents(new ArrayList<>());
-        cse.setTeachers(new ArrayList<>());
+        when(listingCache.get(eq(DepartmentService.DEPARTMENTS_CACHE), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(departmentRepository.findAllListings())
+                .thenReturn(Arrays.asList(new DepartmentListing(1L, "Computer Science", "CSE", "CS Department", 0, 0), eee));
+
+        assertEquals(2, departmentService.getAllDepartments().size());
+        verify(departmentRepository).findAllListings();
     }
 
     @Test
-    void testGetAllDepartments() {
-        Department eee = new Department("Electrical Engineering", "EEE", "EE Department");
-        eee.setId(2L);
-        eee.setStudents(new ArrayList<>());
-        eee.setTeachers(new ArrayList<>());
+    void testGetAllDepartmentsReturnsOwnCopiesOfCachedListings() {
+        List<DepartmentListing> cached = List.of(new DepartmentListing(1L, "Computer Science", "CSE", "CS Department", 3, 2));
+        when(listingCache.get(eq(DepartmentService.DEPARTMENTS_CACHE), any())).thenReturn(cached);
 
-        when(departmentRepository.findAll()).thenReturn(Arrays.asList(cse, eee));
+        DepartmentDTO first = departmentService.getAllDepartments().get(0);
+        first.setName("Changed");
 
-        assertEquals(2, departmentService.getAllDepartments().size());
-        verify(departmentRepository).findAll();
+        DepartmentDTO second = departmentService.getAllDepartments().get(0);
+        assertNotSame(first, second);
+        assertEquals("Computer Science", second.getName());
+        assertEquals(3, second.getStudentCount());
     }
 
     @Test
@@ -64,10 +97,30 @@ class DepartmentServiceTest {
         verify(departmentRepository, never()).save(any());
     }
 
+    @Test
+    void testDeleteDepartmentRecordsCascadedStudentsAndTeachers() {
+        Department department = new Department("Computer Science", "CSE", "CS Dept");
+        department.setId(1L);
+        Student student = new Student("S001", "Jane", "Doe", "jane@test.com", "555-0002", "Dhaka", 1);
+        Teacher teacher = new Teacher("John", "Smith", "john@test.com", "555-0001", "PhD", "Professor");
+        department.setStudents(new ArrayList<>(List.of(student)));
+        department.setTeachers(new ArrayList<>(List.of(teacher)));
+        when(departmentRepository.findById(1L)).thenReturn(Optional.of(department));
+
+        departmentService.deleteDepartment(1L);
+
+        verify(studentService).recordDeletion(student);
+        verify(teacherService).recordDeletion(teacher);
+        verify(entityVersions).changed(EntityType.DEPARTMENTS, EntityType.STUDENTS, EntityType.TEACHERS,
+                EntityType.COURSES, EntityType.ENROLLMENTS);
+        verify(changeLog).record(EntityType.DEPARTMENTS, 1L, ChangeOperation.DELETE);
+        verify(departmentRepository).deleteById(1L);
+    }
+
     @Test
     void testDeleteDepartmentNotFoundThrows() {
-        when(departmentRepository.existsById(99L)).thenReturn(false);
+        when(departmentRepository.findById(99L)).thenReturn(Optional.empty());
 
-        assertThrows(RuntimeException.class, () -> departmentService.deleteDepartment(99L));
+        assertThrows(ResourceNotFoundException.class, () -> departmentService.deleteDepartment(99L));
     }
 }
@@ -1,8 +1,13 @@
 package com.example.studentManagementSystem.service;
 
+import com.example.studentManagementSystem.audit.AuditLog;
+import com.example.studentManagementSystem.cache.ListingCache;
+import com.example.studentManagementSystem.catalog.CourseCatalog;
+import com.example.studentManagementSystem.changes.ChangeLog;
 import com.example.studentManagementSystem.dto.StudentDTO;
 import com.example.studentManagementSystem.entity.*;
 import com.example.studentManagementSystem.repository.*;
+import com.example.studentManagementSystem.versioning.EntityVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,6 +35,11 @@ class StudentServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private RoleRepository roleRepository;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private CourseCatalog courseCatalog;
+    @Mock private ListingCache listingCache;
+    @Mock private EntityVersions entityVersions;
+    @Mock private ChangeLog changeLog;
+    @Mock private AuditLog auditLog;
 
     @InjectMocks
     private StudentService studentService;
@@ -73,7 +83,7 @@ class StudentServiceTest {
     void testGetStudentByIdNotFound() {
         when(studentRepository.findById(99L)).thenReturn(Optional.empty());
 
-        assertThrows(RuntimeException.class, () -> studentService.getStudentById(99L));
+        assertThrows(ResourceNotFoundException.class, () -> studentService.getStudentById(99L));
     }
 
     @Test
@@ -99,5 +109,6 @@ class StudentServiceTest {
 
         assertTrue(student.getEnrolledCourses().contains(course));
         verify(studentRepository).save(student);
+        verify(courseCatalog).courseChanged(1L);
     }
 }
@@ -1,8 +1,16 @@
 package com.example.studentManagementSystem.service;
 
+import com.example.studentManagementSystem.audit.AuditLog;
+import com.example.studentManagementSystem.cache.ListingCache;
+import com.example.studentManagementSystem.catalog.CourseCatalog;
+import com.example.studentManagementSystem.changes.ChangeLog;
+import com.example.studentManagementSystem.changes.ChangeOperation;
+import com.example.studentManagementSystem.dto.CourseDTO;
 import com.example.studentManagementSystem.dto.TeacherDTO;
 import com.example.studentManagementSystem.entity.*;
 import com.example.studentManagementSystem.repository.*;
+import com.example.studentManagementSystem.versioning.EntityType;
+import com.example.studentManagementSystem.versioning.EntityVersions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,10 +33,16 @@ import static org.mockito.Mockito.*;
 class TeacherServiceTest {
 
     @Mock private TeacherRepository teacherRepository;
+    @Mock private CourseService courseService;
     @Mock private DepartmentRepository departmentRepository;
     @Mock private UserRepository userRepository;
     @Mock private RoleRepository roleRepository;
     @Mock private PasswordEncoder passwordEncoder;
+    @Mock private CourseCatalog courseCatalog;
+    @Mock private ListingCache listingCache;
+    @Mock private EntityVersions entityVersions;
+    @Mock private ChangeLog changeLog;
+    @Mock private AuditLog auditLog;
 
     @InjectMocks
     private TeacherService teacherService;
@@ -75,10 +89,33 @@ class TeacherServiceTest {
         verify(teacherRepository).deleteById(1L);
     }
 
+    @Test
+    void testDeleteTeacherRecordsCascadedCoursesAndEnrollments() {
+        Course course = new Course("CSE101", "Intro to CS", "Basic CS", 3);
+        course.setId(2L);
+        Student student = new Student("S001", "Jane", "Doe", "jane@test.com", "555-0002", "Dhaka", 1);
+        student.setId(3L);
+        course.getEnrolledStudents().add(student);
+        teacher.getCourses().add(course);
+        CourseDTO courseDTO = new CourseDTO();
+        when(teacherRepository.findById(1L)).thenReturn(Optional.of(teacher));
+        when(courseService.convertToDTO(course)).thenReturn(courseDTO);
+        TeacherDTO teacherDTO = teacherService.convertToDTO(teacher);
+
+        teacherService.deleteTeacher(1L);
+
+        verify(changeLog).record(EntityType.TEACHERS, 1L, ChangeOperation.DELETE);
+        verify(changeLog).record(EntityType.COURSES, 2L, ChangeOperation.DELETE);
+        verify(changeLog).recordEnrollment(3L, 2L, ChangeOperation.DELETE);
+        verify(auditLog).deleted(EntityType.TEACHERS, 1L, teacherDTO);
+        verify(auditLog).deleted(EntityType.COURSES, 2L, courseDTO);
+        verify(courseCatalog).coursesChanged(List.of(2L));
+    }
+
     @Test
     void testDeleteTeacherNotFoundThrows() {
         when(teacherRepository.findById(99L)).thenReturn(Optional.empty());
 
-        assertThrows(RuntimeException.class, () -> teacherService.deleteTeacher(99L));
+        assertThrows(ResourceNotFoundException.class, () -> teacherService.deleteTeacher(99L));
     }
 }
@@ -0,0 +1,86 @@
+package com.example.studentManagementSystem.versioning;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for EntityVersions against the entity_version table (schema created by the Flyway migrations).
+ * Test methods run without a transaction, so commits and rollbacks are real.
+ */
+@JdbcTest
+@Import(EntityVersions.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityVersionsTest {
+
+    @Autowired
+    private EntityVersions versions;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void committedChange_shouldOnlyMoveTheGivenTypesAtCommitTime() {
+        EntityVersion students = versions.current(EntityType.STUDENTS);
+        EntityVersion teachers = versions.current(EntityType.TEACHERS);
+        Instant before = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            versions.changed(EntityType.STUDENTS);
+            versions.changed(EntityType.STUDENTS);
+            assertEquals(students, versions.current(EntityType.STUDENTS), "written just before the commit");
+        });
+
+        EntityVersion changed = versions.current(EntityType.STUDENTS);
+        assertEquals(students.counter() + 1, changed.counter());
+        assertNotEquals(students.etag(), changed.etag());
+        assertFalse(changed.lastModified().isBefore(before));
+        assertFalse(changed.lastModified().isAfter(Instant.now()));
+        assertEquals(teachers, versions.current(EntityType.TEACHERS));
+    }
+
+    @Test
+    void rolledBackChange_shouldNotMoveTheVersion() {
+        EntityVersion courses = versions.current(EntityType.COURSES);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            versions.changed(EntityType.COURSES, EntityType.ENROLLMENTS);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(courses, versions.current(EntityType.COURSES));
+    }
+
+    @Test
+    void anotherInstance_shouldSeeTheSameVersionAndNotMoveLastModifiedBack() {
+        EntityVersions other = new EntityVersions(jdbcTemplate,
+                Clock.fixed(Instant.parse("2020-01-01T00:00:00Z"), ZoneOffset.UTC));
+
+        versions.changed(EntityType.DEPARTMENTS);
+        EntityVersion current = versions.current(EntityType.DEPARTMENTS);
+        assertEquals(current, other.current(EntityType.DEPARTMENTS));
+
+        // its clock is behind: new version, same Last-Modified
+        other.changed(EntityType.DEPARTMENTS);
+        EntityVersion next = versions.current(EntityType.DEPARTMENTS);
+        assertEquals(current.counter() + 1, next.counter());
+        assertEquals(current.lastModified(), next.lastModified());
+        assertNotEquals(current.etag(), next.etag());
+    }
+}
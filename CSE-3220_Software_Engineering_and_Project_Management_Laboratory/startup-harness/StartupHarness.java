@@ -0,0 +1,267 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Startup benchmark harness for the Spring Boot modules of this lab.
+ * Launches each application N times in a fresh JVM and measures
+ *   - JVM start -> context refreshed ("Started ... (process running for X)")
+ *   - JVM start -> first expected HTTP response
+ *   - resident set size and used heap once the first response arrived
+ * and writes a markdown comparison table (medians).
+ *
+ * Run from this directory (Java 21, no build needed):
+ *   java StartupHarness.java [runs] [output.md]
+ *
+ * Applications are built with their Maven wrapper when target/*.jar is missing.
+ * Extra arguments per application: -Dharness.args.<name>="--key=value ..."
+ */
+public class StartupHarness {
+
+    /**
+     * One application under test: probe path and the status its first request must answer with
+     */
+    record App(String name, Path directory, String probePath, int expectedStatus, String defaultArgs) {
+    }
+
+    /**
+     * Measurements of a single launch (-1 when not available)
+     */
+    record Run(long refreshedMillis, long firstResponseMillis, long rssKb, long heapUsedKb) {
+    }
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in [\\d.]+ seconds \\(process running for ([\\d.]+)\\)");
+    private static final Pattern HEAP_USED = Pattern.compile("used (\\d+)K");
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+
+    private static final List<App> APPS = List.of(
+            new App("springboot-demo", Path.of("../springBoot/springboot-demo"), "/", 200, ""),
+            // No controllers: the first request is answered with 404. No PostgreSQL needed at startup:
+            // Hibernate is told the dialect instead of reading JDBC metadata (the pool connects lazily).
+            new App("lab3-demo", Path.of("../lab3/demo/demo"), "/", 404,
+                    "--spring.datasource.url=jdbc:postgresql://localhost:5432/demo "
+                            + "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect "
+                            + "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"),
+            new App("studentManagementSystem", Path.of("../lab3_assignment/studentManagementSystem"), "/login", 200,
+                    "--spring.datasource.url=jdbc:h2:mem:harness")
+    );
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        Path output = Path.of(args.length > 1 ? args[1] : "startup-results.md");
+        new StartupHarness().benchmark(runs, output);
+    }
+
+    void benchmark(int runs, Path output) throws Exception {
+        List<String> rows = new ArrayList<>();
+        for (App app : APPS) {
+            Path jar = ensureJar(app);
+            List<Run> results = new ArrayList<>();
+            for (int i = 1; i <= runs; i++) {
+                Run run = launch(app, jar);
+                System.out.printf("%-24s run %d/%d: refreshed %d ms, first response %d ms, RSS %d MB, heap %d MB%n",
+                        app.name(), i, runs, run.refreshedMillis(), run.firstResponseMillis(),
+                        run.rssKb() / 1024, run.heapUsedKb() / 1024);
+                results.add(run);
+            }
+            rows.add(String.format("| %s | `%s` %d | %s | %s | %s | %s |", app.name(), app.probePath(), app.expectedStatus(),
+                    median(results.stream().mapToLong(Run::refreshedMillis).toArray(), ""),
+                    median(results.stream().mapToLong(Run::firstResponseMillis).toArray(), ""),
+                    median(results.stream().mapToLong(Run::rssKb).toArray(), "kb"),
+                    median(results.stream().mapToLong(Run::heapUsedKb).toArray(), "kb")));
+        }
+
+        List<String> report = new ArrayList<>();
+        report.add("# Startup comparison");
+        report.add("");
+        report.add("Median of " + runs + " fresh JVMs, " + System.getProperty("java.vm.name") + " "
+                + System.getProperty("java.version") + ", " + Runtime.getRuntime().availableProcessors() + " CPUs, "
+                + LocalDateTime.now().withNano(0).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME) + ".");
+        report.add("");
+        report.add("| Application | Probe | JVM start -> context refreshed (ms) | JVM start -> first response (ms) | RSS (MB) | Heap used (MB) |");
+        report.add("| --- | --- | ---: | ---: | ---: | ---: |");
+        report.addAll(rows);
+        Files.write(output, report, StandardCharsets.UTF_8);
+        report.forEach(System.out::println);
+        System.out.println("Written to " + output.toAbsolutePath());
+    }
+
+    /**
+     * Start the application, wait for its first expected response, sample memory, stop it
+     */
+    Run launch(App app, Path jar) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(List.of(javaExecutable(), "-jar", jar.toString(),
+                "--server.port=" + port, "--spring.main.banner-mode=off"));
+        command.addAll(splitArgs(app.defaultArgs()));
+        command.addAll(splitArgs(System.getProperty("harness.args." + app.name(), "")));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        long[] refreshed = {-1};
+        Thread reader = Thread.ofVirtual().start(() -> readLog(process, refreshed));
+        try {
+            long firstResponse = awaitFirstResponse(app, port, process, start);
+            long rss = residentSetKb(process.pid());
+            long heap = heapUsedKb(process.pid());
+            reader.join(Duration.ofSeconds(2));
+            return new Run(refreshed[0], firstResponse, rss, heap);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private long awaitFirstResponse(App app, int port, Process process, long start) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + app.probePath()))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = start + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(app.name() + " exited with code " + process.exitValue());
+            }
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status == app.expectedStatus()) {
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                }
+            } catch (IOException notListeningYet) {
+                // server socket not open yet
+            }
+            Thread.sleep(20);
+        }
+        throw new IllegalStateException(app.name() + " did not answer " + app.probePath() + " within " + STARTUP_TIMEOUT);
+    }
+
+    /**
+     * Drain the application log and pick up Spring Boot's "process running for" time
+     */
+    private void readLog(Process process, long[] refreshed) {
+        try (BufferedReader log = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = log.readLine()) != null) {
+                Matcher matcher = STARTED.matcher(line);
+                if (matcher.find()) {
+                    refreshed[0] = Math.round(Double.parseDouble(matcher.group(1)) * 1000);
+                }
+            }
+        } catch (IOException ignored) {
+            // process stopped
+        }
+    }
+
+    /**
+     * VmRSS from /proc (Linux only)
+     */
+    private long residentSetKb(long pid) {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.replaceAll("\\D", ""))
+                    .mapToLong(Long::parseLong)
+                    .findFirst()
+                    .orElse(-1);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Used heap as reported by jcmd GC.heap_info
+     */
+    private long heapUsedKb(long pid) {
+        try {
+            Process jcmd = new ProcessBuilder(Path.of(System.getProperty("java.home"), "bin", "jcmd").toString(),
+                    String.valueOf(pid), "GC.heap_info").redirectErrorStream(true).start();
+            String output = new String(jcmd.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            jcmd.waitFor(30, TimeUnit.SECONDS);
+            Matcher matcher = HEAP_USED.matcher(output);
+            return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+        } catch (IOException | InterruptedException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The newest executable jar in target/, building the module first when there is none
+     */
+    private Path ensureJar(App app) throws Exception {
+        Path jar = findJar(app);
+        if (jar == null) {
+            System.out.println("Building " + app.name() + "...");
+            String wrapper = System.getProperty("os.name").startsWith("Windows") ? "mvnw.cmd" : "./mvnw";
+            List<String> command = wrapper.startsWith("./")
+                    ? List.of("sh", "mvnw", "-q", "-B", "package", "-DskipTests")
+                    : List.of("cmd", "/c", wrapper, "-q", "-B", "package", "-DskipTests");
+            int exit = new ProcessBuilder(command).directory(app.directory().toFile()).inheritIO().start().waitFor();
+            jar = findJar(app);
+            if (exit != 0 || jar == null) {
+                throw new IllegalStateException("Could not build " + app.name());
+            }
+        }
+        return jar;
+    }
+
+    private Path findJar(App app) throws IOException {
+        Path target = app.directory().resolve("target");
+        if (!Files.isDirectory(target)) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(target)) {
+            return files.filter(file -> file.toString().endsWith(".jar"))
+                    .filter(file -> !file.getFileName().toString().endsWith("-plain.jar"))
+                    .max((a, b) -> Long.compare(a.toFile().lastModified(), b.toFile().lastModified()))
+                    .orElse(null);
+        }
+    }
+
+    private static String median(long[] values, String unit) {
+        long[] valid = Arrays.stream(values).filter(v -> v >= 0).sorted().toArray();
+        if (valid.length == 0) {
+            return "n/a";
+        }
+        long median = valid.length % 2 == 1 ? valid[valid.length / 2]
+                : (valid[valid.length / 2 - 1] + valid[valid.length / 2]) / 2;
+        return unit.equals("kb") ? String.format("%.1f", median / 1024.0) : String.valueOf(median);
+    }
+
+    private static List<String> splitArgs(String args) {
+        return args.isBlank() ? List.of() : Arrays.asList(args.trim().split("\\s+"));
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}